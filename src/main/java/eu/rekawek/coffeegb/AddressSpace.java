@@ -8,4 +8,17 @@ public interface AddressSpace {
 
     int getByte(int address);
 
+    // copies the given range into the buffer, the spaces backed by arrays may override it with a faster version
+    default void readBlock(int address, byte[] buffer, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            buffer[offset + i] = (byte) getByte(address + i);
+        }
+    }
+
+    default void writeBlock(int address, byte[] buffer, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            setByte(address + i, buffer[offset + i] & 0xff);
+        }
+    }
+
 }
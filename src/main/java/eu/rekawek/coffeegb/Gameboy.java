@@ -3,9 +3,13 @@ package eu.rekawek.coffeegb;
 import eu.rekawek.coffeegb.controller.Controller;
 import eu.rekawek.coffeegb.controller.Joypad;
 import eu.rekawek.coffeegb.cpu.Cpu;
+import eu.rekawek.coffeegb.cpu.IdleLoopDetector;
+import eu.rekawek.coffeegb.cpu.InstructionCache;
 import eu.rekawek.coffeegb.cpu.InterruptManager;
 import eu.rekawek.coffeegb.cpu.Registers;
 import eu.rekawek.coffeegb.cpu.SpeedMode;
+import eu.rekawek.coffeegb.cpu.jit.Block;
+import eu.rekawek.coffeegb.cpu.jit.BlockCache;
 import eu.rekawek.coffeegb.debug.Console;
 import eu.rekawek.coffeegb.gpu.Display;
 import eu.rekawek.coffeegb.gpu.Gpu;
@@ -17,12 +21,14 @@ import eu.rekawek.coffeegb.memory.Ram;
 import eu.rekawek.coffeegb.memory.ShadowAddressSpace;
 import eu.rekawek.coffeegb.memory.UndocumentedGbcRegisters;
 import eu.rekawek.coffeegb.memory.cart.Cartridge;
+import eu.rekawek.coffeegb.rewind.Rewind;
 import eu.rekawek.coffeegb.serial.SerialEndpoint;
 import eu.rekawek.coffeegb.serial.SerialPort;
 import eu.rekawek.coffeegb.sound.Sound;
 import eu.rekawek.coffeegb.sound.SoundOutput;
 import eu.rekawek.coffeegb.timer.Timer;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +37,20 @@ public class Gameboy implements Runnable {
 
     public static final int TICKS_PER_SEC = 4_194_304;
 
+    private static final int MAX_SKIPPED_TICKS = 456;
+
+    private static final int STATE_MAGIC = 0x43474253;
+
+    // should be increased whenever the layout of any component state changes
+    private static final int STATE_VERSION = 1;
+
+    // enough for the largest cartridge RAM (128 kB) and the rest of the machine
+    private static final int MAX_STATE_SIZE = 1 << 20;
+
+    private final GameboyOptions options;
+
+    private final Cartridge rom;
+
     private final InterruptManager interruptManager;
 
     private final Gpu gpu;
@@ -55,10 +75,30 @@ public class Gameboy implements Runnable {
 
     private final SpeedMode speedMode;
 
+    private final Scheduler scheduler;
+
     private final Optional<Console> console;
 
+    private final Optional<IdleLoopDetector> idleLoopDetector;
+
+    private final Optional<BlockCache> blockCache;
+
+    private final InstructionCache instructionCache;
+
+    private final Optional<Rewind> rewind;
+
+    private int stateSize;
+
+    private ByteBuffer forkState;
+
     private volatile boolean doStop;
 
+    private boolean requestedScreenRefresh;
+
+    private boolean lcdDisabled;
+
+    private boolean frameFinished;
+
     private final List<Runnable> tickListeners = new ArrayList<>();
 
     public Gameboy(GameboyOptions options, Cartridge rom, Display display, Controller controller, SoundOutput soundOutput, SerialEndpoint serialEndpoint) {
@@ -66,19 +106,26 @@ public class Gameboy implements Runnable {
     }
 
     public Gameboy(GameboyOptions options, Cartridge rom, Display display, Controller controller, SoundOutput soundOutput, SerialEndpoint serialEndpoint, Optional<Console> console) {
+        this(options, rom, display, controller, soundOutput, serialEndpoint, console, Optional.empty());
+    }
+
+    private Gameboy(GameboyOptions options, Cartridge rom, Display display, Controller controller, SoundOutput soundOutput, SerialEndpoint serialEndpoint, Optional<Console> console, Optional<Gameboy> parent) {
+        this.options = options;
+        this.rom = rom;
         this.display = display;
         gbc = rom.isGbc();
         speedMode = new SpeedMode();
+        scheduler = new Scheduler();
         interruptManager = new InterruptManager(gbc);
-        timer = new Timer(interruptManager, speedMode);
+        timer = new Timer(interruptManager, speedMode, scheduler);
         mmu = new Mmu();
 
         Ram oamRam = new Ram(0xfe00, 0x00a0);
-        dma = new Dma(mmu, oamRam, speedMode);
-        gpu = new Gpu(display, interruptManager, dma, oamRam, gbc);
+        dma = new Dma(mmu, oamRam, speedMode, scheduler);
+        gpu = new Gpu(display, interruptManager, dma, oamRam, gbc, options.isScanlineRenderer(), options.getFrameSkip());
         hdma = new Hdma(mmu);
         sound = new Sound(soundOutput, gbc);
-        serialPort = new SerialPort(interruptManager, serialEndpoint, speedMode);
+        serialPort = new SerialPort(interruptManager, serialEndpoint, speedMode, scheduler);
         mmu.addAddressSpace(rom);
         mmu.addAddressSpace(gpu);
         mmu.addAddressSpace(new Joypad(interruptManager, controller));
@@ -99,8 +146,27 @@ public class Gameboy implements Runnable {
         }
         mmu.addAddressSpace(new Ram(0xff80, 0x7f));
         mmu.addAddressSpace(new ShadowAddressSpace(mmu, 0xe000, 0xc000, 0x1e00));
+        if (parent.isPresent()) {
+            mmu.indexSpaces(parent.get().mmu);
+        } else {
+            mmu.indexSpaces();
+        }
 
-        cpu = new Cpu(mmu, interruptManager, gpu, display, speedMode);
+        instructionCache = new InstructionCache(mmu, rom);
+        mmu.addWriteListener(instructionCache::onMemoryWrite);
+        cpu = new Cpu(mmu, interruptManager, gpu, display, speedMode, true, instructionCache);
+        if (options.isSkippingIdleLoops()) {
+            idleLoopDetector = Optional.of(new IdleLoopDetector(mmu, cpu.getRegisters()));
+        } else {
+            idleLoopDetector = Optional.empty();
+        }
+        if (options.isJit()) {
+            BlockCache cache = new BlockCache(cpu, mmu, interruptManager, rom);
+            mmu.addWriteListener(cache::onMemoryWrite);
+            blockCache = Optional.of(cache);
+        } else {
+            blockCache = Optional.empty();
+        }
 
         interruptManager.disableInterrupts(false);
         if (!options.isUsingBootstrap()) {
@@ -108,6 +174,11 @@ public class Gameboy implements Runnable {
         }
 
         this.console = console;
+        if (options.getRewindSeconds() > 0 && !parent.isPresent()) {
+            rewind = Optional.of(new Rewind(this, display, options.getRewindSeconds()));
+        } else {
+            rewind = Optional.empty();
+        }
     }
 
     private void initRegs() {
@@ -125,31 +196,12 @@ public class Gameboy implements Runnable {
     }
 
     public void run() {
-        boolean requestedScreenRefresh = false;
-        boolean lcdDisabled = false;
         doStop = false;
         while (!doStop) {
-            Gpu.Mode newMode = tick();
-            if (newMode != null) {
-                hdma.onGpuUpdate(newMode);
-            }
-
-            if (!lcdDisabled && !gpu.isLcdEnabled()) {
-                lcdDisabled = true;
-                display.requestRefresh();
-                hdma.onLcdSwitch(false);
-            } else if (newMode == Gpu.Mode.VBlank) {
-                requestedScreenRefresh = true;
-                display.requestRefresh();
-            }
-
-            if (lcdDisabled && gpu.isLcdEnabled()) {
-                lcdDisabled = false;
-                display.waitForRefresh();
-                hdma.onLcdSwitch(true);
-            } else if (requestedScreenRefresh && newMode == Gpu.Mode.OamSearch) {
-                requestedScreenRefresh = false;
-                display.waitForRefresh();
+            tickInstruction();
+            if (frameFinished) {
+                frameFinished = false;
+                rewind.ifPresent(Rewind::onFrame);
             }
             console.ifPresent(Console::tick);
             tickListeners.forEach(Runnable::run);
@@ -160,19 +212,202 @@ public class Gameboy implements Runnable {
         doStop = true;
     }
 
+    public int tickInstruction() {
+        if (isIdle()) {
+            int skipped = skipIdleTicks();
+            if (skipped > 0) {
+                return skipped;
+            }
+        }
+        int ticks = 0;
+        if (blockCache.isPresent()) {
+            ticks = runCompiledBlock(blockCache.get());
+        }
+        if (ticks == 0) {
+            do {
+                Gpu.Mode newMode = tick();
+                if (newMode != null) {
+                    hdma.onGpuUpdate(newMode);
+                }
+                updateDisplay(newMode);
+                ticks++;
+            } while (!cpu.isInstructionFinished());
+        }
+        if (idleLoopDetector.isPresent()) {
+            int iterationTicks = idleLoopDetector.get().onInstructionFinished(ticks);
+            if (iterationTicks > 0) {
+                ticks += skipIdleLoop(idleLoopDetector.get(), iterationTicks);
+            }
+        }
+        return ticks;
+    }
+
+    private boolean isIdle() {
+        Cpu.State state = cpu.getState();
+        return (state == Cpu.State.HALTED || state == Cpu.State.STOPPED)
+                && cpu.isInstructionFinished()
+                && !hdma.isTransferInProgress()
+                && !interruptManager.isInterruptRequested();
+    }
+
+    // while the CPU waits for an interrupt, jump to the next tick that can raise one
+    private int skipIdleTicks() {
+        int ticks = getIdleTicks();
+        ticks -= ticks % (4 / speedMode.getSpeedMode());
+        skipTicks(ticks);
+        return ticks;
+    }
+
+    // compiled blocks don't access memory, so they can run at once if nothing else happens in the meantime
+    private int runCompiledBlock(BlockCache cache) {
+        if (cpu.getState() != Cpu.State.OPCODE || !cpu.isInstructionFinished() || cpu.isHaltBugMode()
+                || hdma.isTransferInProgress() || interruptManager.isInterruptRequested()) {
+            return 0;
+        }
+        Block block = cache.getBlock(cpu.getRegisters().getPC());
+        int ticksPerCycle = 4 / speedMode.getSpeedMode();
+        if (block == null || block.getMaxCycles() * ticksPerCycle > getIdleTicks()) {
+            return 0;
+        }
+        int ticks = cache.execute(block) * ticksPerCycle;
+        skipTicks(ticks);
+        return ticks;
+    }
+
+    // skip whole loop iterations, as long as none of the polled registers can change
+    private int skipIdleLoop(IdleLoopDetector detector, int iterationTicks) {
+        if (hdma.isTransferInProgress() || (interruptManager.isIme() && interruptManager.isInterruptRequested())) {
+            return 0;
+        }
+        int ticks = getIdleTicks();
+        if (detector.isPollingDiv()) {
+            ticks = Math.min(ticks, timer.getTicksToDivChange());
+        }
+        ticks -= ticks % iterationTicks;
+        skipTicks(ticks);
+        detector.onTicksSkipped(ticks);
+        return ticks;
+    }
+
+    private int getIdleTicks() {
+        return (int) Math.min(MAX_SKIPPED_TICKS, Math.min(gpu.getIdleTicks(), scheduler.getTicksToNextEvent()));
+    }
+
+    private void skipTicks(int ticks) {
+        if (ticks == 0) {
+            return;
+        }
+        sound.skip(ticks);
+        scheduler.skip(ticks);
+        gpu.skip(ticks);
+    }
+
+    private void updateDisplay(Gpu.Mode newMode) {
+        if (newMode == Gpu.Mode.VBlank) {
+            frameFinished = true;
+        }
+        if (!lcdDisabled && !gpu.isLcdEnabled()) {
+            lcdDisabled = true;
+            display.requestRefresh(gpu.getFrameBuffer());
+            hdma.onLcdSwitch(false);
+        } else if (newMode == Gpu.Mode.VBlank && gpu.isRenderingFrame()) {
+            requestedScreenRefresh = true;
+            display.requestRefresh(gpu.getFrameBuffer());
+        }
+
+        if (lcdDisabled && gpu.isLcdEnabled()) {
+            lcdDisabled = false;
+            display.waitForRefresh();
+            hdma.onLcdSwitch(true);
+        } else if (requestedScreenRefresh && newMode == Gpu.Mode.OamSearch) {
+            requestedScreenRefresh = false;
+            display.waitForRefresh();
+        }
+    }
+
     public Gpu.Mode tick() {
-        timer.tick();
         if (hdma.isTransferInProgress()) {
             hdma.tick();
         } else {
             cpu.tick();
         }
-        dma.tick();
+        scheduler.tick();
         sound.tick();
-        serialPort.tick();
         return gpu.tick();
     }
 
+    // number of the bytes taken by the saved state, which is the same for all the states of this instance
+    public int getStateSize() {
+        if (stateSize == 0) {
+            ByteBuffer buffer = ByteBuffer.allocate(MAX_STATE_SIZE);
+            saveState(buffer);
+            stateSize = buffer.position();
+        }
+        return stateSize;
+    }
+
+    public ByteBuffer createStateBuffer() {
+        return ByteBuffer.allocate(getStateSize());
+    }
+
+    // writes the machine state at the buffer position. It should be called between the instructions, from the thread
+    // running the emulation.
+    public void saveState(ByteBuffer buffer) {
+        buffer.putInt(STATE_MAGIC);
+        buffer.putInt(STATE_VERSION);
+        Snapshotable.putBoolean(buffer, gbc);
+        scheduler.saveState(buffer);
+        cpu.saveState(buffer);
+        mmu.saveState(buffer);
+        Snapshotable.putBoolean(buffer, requestedScreenRefresh);
+        Snapshotable.putBoolean(buffer, lcdDisabled);
+        buffer.putInt(STATE_MAGIC);
+    }
+
+    // the state is checked before anything is restored, so the machine is left intact if it doesn't match
+    public void loadState(ByteBuffer buffer) {
+        int start = buffer.position();
+        int size = getStateSize();
+        if (buffer.remaining() < size
+                || buffer.getInt(start) != STATE_MAGIC
+                || buffer.getInt(start + size - 4) != STATE_MAGIC) {
+            throw new IllegalArgumentException("Not a valid state for this machine");
+        }
+        if (buffer.getInt(start + 4) != STATE_VERSION) {
+            throw new IllegalArgumentException("Unsupported state version: " + buffer.getInt(start + 4));
+        }
+        if ((buffer.get(start + 8) != 0) != gbc) {
+            throw new IllegalArgumentException("The state was saved in the other mode (CGB/DMG)");
+        }
+        buffer.position(start + 9);
+        scheduler.loadState(buffer);
+        cpu.loadState(buffer);
+        mmu.loadState(buffer);
+        requestedScreenRefresh = Snapshotable.getBoolean(buffer);
+        lcdDisabled = Snapshotable.getBoolean(buffer);
+        buffer.getInt();
+
+        instructionCache.invalidate();
+        blockCache.ifPresent(BlockCache::invalidate);
+        idleLoopDetector.ifPresent(IdleLoopDetector::reset);
+    }
+
+    // independent copy of the machine, which can be run on its own thread. The copy shares the ROM image, but not the
+    // battery, display, sound output, controller, serial link, console nor the rewind history. Should be called by
+    // the thread running the emulation, between the instructions.
+    public Gameboy fork() {
+        Gameboy copy = new Gameboy(options, new Cartridge(rom), Display.NULL_DISPLAY, Controller.NULL_CONTROLLER, SoundOutput.NULL_OUTPUT, SerialEndpoint.NULL_ENDPOINT, Optional.empty(), Optional.of(this));
+        if (forkState == null) {
+            forkState = createStateBuffer();
+        }
+        forkState.clear();
+        saveState(forkState);
+        forkState.flip();
+        copy.stateSize = stateSize;
+        copy.loadState(forkState);
+        return copy;
+    }
+
     public AddressSpace getAddressSpace() {
         return mmu;
     }
@@ -197,7 +432,19 @@ public class Gameboy implements Runnable {
         tickListeners.remove(tickListener);
     }
 
+    public long getSkippedIdleLoopTicks() {
+        return idleLoopDetector.map(IdleLoopDetector::getSkippedTicks).orElse(0L);
+    }
+
+    public Optional<BlockCache> getBlockCache() {
+        return blockCache;
+    }
+
     public Sound getSound() {
         return sound;
     }
+
+    public Optional<Rewind> getRewind() {
+        return rewind;
+    }
 }
@@ -21,6 +21,16 @@ public class GameboyOptions {
 
     private final boolean headless;
 
+    private final boolean disableIdleLoopSkipping;
+
+    private final boolean jit;
+
+    private final boolean scanlineRenderer;
+
+    private final int frameSkip;
+
+    private final int rewindSeconds;
+
     public GameboyOptions(File romFile) {
         this(romFile, Collections.emptyList(), Collections.emptyList());
     }
@@ -36,6 +46,11 @@ public class GameboyOptions {
         this.disableBatterySaves = params.contains("disable-battery-saves") || shortParams.contains("db");
         this.debug = params.contains("debug");
         this.headless = params.contains("headless");
+        this.disableIdleLoopSkipping = params.contains("disable-idle-loop-skipping");
+        this.jit = params.contains("jit");
+        this.scanlineRenderer = params.contains("scanline-renderer");
+        this.frameSkip = getIntParam(params, "frame-skip", 1);
+        this.rewindSeconds = getIntParam(params, "rewind", 0);
     }
 
     public File getRomFile() {
@@ -66,6 +81,44 @@ public class GameboyOptions {
         return headless;
     }
 
+    public boolean isSkippingIdleLoops() {
+        return !disableIdleLoopSkipping;
+    }
+
+    public boolean isJit() {
+        return jit;
+    }
+
+    public boolean isScanlineRenderer() {
+        return scanlineRenderer;
+    }
+
+    public int getFrameSkip() {
+        return frameSkip;
+    }
+
+    public int getRewindSeconds() {
+        return rewindSeconds;
+    }
+
+    private static int getIntParam(Collection<String> params, String name, int defaultValue) {
+        for (String p : params) {
+            if (p.startsWith(name + "=")) {
+                String value = p.substring(name.length() + 1);
+                try {
+                    int result = Integer.parseInt(value);
+                    if (result >= 0) {
+                        return result;
+                    }
+                } catch (NumberFormatException e) {
+                    // handled below
+                }
+                throw new IllegalArgumentException("Invalid value of " + name + ": " + value);
+            }
+        }
+        return defaultValue;
+    }
+
     public static void printUsage(PrintStream stream) {
         stream.println("Usage:");
         stream.println("java -jar coffee-gb.jar [OPTIONS] ROM_FILE");
@@ -77,6 +130,11 @@ public class GameboyOptions {
         stream.println("  -db --disable-battery-saves    Disable battery saves");
         stream.println("      --debug                    Enable debug console");
         stream.println("      --headless                 Start in the headless mode");
+        stream.println("      --disable-idle-loop-skipping Don't fast-forward loops polling LY, STAT, DIV or IF");
+        stream.println("      --jit                      Compile the hot code blocks into JVM classes");
+        stream.println("      --scanline-renderer        Render whole lines instead of emulating the pixel FIFO");
+        stream.println("      --frame-skip=N             Render only 1 in N frames, 0 doesn't render any");
+        stream.println("      --rewind=N                 Keep the last N seconds for rewinding with the R key");
     }
 
 }
@@ -0,0 +1,121 @@
+package eu.rekawek.coffeegb;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Scheduler implements Snapshotable {
+
+    private static final long NOT_SCHEDULED = Long.MAX_VALUE;
+
+    public class Event {
+
+        private final Runnable action;
+
+        private long deadline = NOT_SCHEDULED;
+
+        private Event(Runnable action) {
+            this.action = action;
+        }
+
+        public void schedule(long ticks) {
+            if (ticks < 1) {
+                throw new IllegalArgumentException("Event should be scheduled at least one tick ahead");
+            }
+            deadline = tick + ticks;
+            if (deadline < nextDeadline) {
+                nextDeadline = deadline;
+            }
+        }
+
+        public void cancel() {
+            deadline = NOT_SCHEDULED;
+        }
+
+        public boolean isScheduled() {
+            return deadline != NOT_SCHEDULED;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+
+    private final List<Event> events = new ArrayList<>();
+
+    private long tick;
+
+    private long nextDeadline = NOT_SCHEDULED;
+
+    public Event createEvent(Runnable action) {
+        Event event = new Event(action);
+        events.add(event);
+        return event;
+    }
+
+    public void tick() {
+        if (++tick >= nextDeadline) {
+            fireEvents();
+        }
+    }
+
+    public void skip(long ticks) {
+        if (ticks > getTicksToNextEvent()) {
+            throw new IllegalArgumentException("Can't skip over a scheduled event");
+        }
+        tick += ticks;
+        if (tick >= nextDeadline) {
+            fireEvents();
+        }
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getTicksToNextEvent() {
+        updateNextDeadline();
+        if (nextDeadline == NOT_SCHEDULED) {
+            return NOT_SCHEDULED;
+        } else {
+            return nextDeadline - tick;
+        }
+    }
+
+    // the events are identified by the order in which they were created, which is the same for the same configuration
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.putLong(tick);
+        for (int i = 0; i < events.size(); i++) {
+            buffer.putLong(events.get(i).deadline);
+        }
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        tick = buffer.getLong();
+        for (int i = 0; i < events.size(); i++) {
+            events.get(i).deadline = buffer.getLong();
+        }
+        updateNextDeadline();
+    }
+
+    private void fireEvents() {
+        for (int i = 0; i < events.size(); i++) {
+            Event e = events.get(i);
+            if (e.deadline <= tick) {
+                e.deadline = NOT_SCHEDULED;
+                e.action.run();
+            }
+        }
+        updateNextDeadline();
+    }
+
+    private void updateNextDeadline() {
+        long next = NOT_SCHEDULED;
+        for (int i = 0; i < events.size(); i++) {
+            next = Math.min(next, events.get(i).deadline);
+        }
+        nextDeadline = next;
+    }
+}
@@ -0,0 +1,33 @@
+package eu.rekawek.coffeegb;
+
+import java.nio.ByteBuffer;
+
+// component which state can be saved and restored. The state is written at the current buffer position and should
+// always take the same number of bytes, so a buffer preallocated for one snapshot can be reused for the next ones.
+// Neither method should allocate.
+public interface Snapshotable {
+
+    void saveState(ByteBuffer buffer);
+
+    void loadState(ByteBuffer buffer);
+
+    static void putBoolean(ByteBuffer buffer, boolean value) {
+        buffer.put((byte) (value ? 1 : 0));
+    }
+
+    static boolean getBoolean(ByteBuffer buffer) {
+        return buffer.get() != 0;
+    }
+
+    static void putInts(ByteBuffer buffer, int[] values) {
+        for (int v : values) {
+            buffer.putInt(v);
+        }
+    }
+
+    static void getInts(ByteBuffer buffer, int[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getInt();
+        }
+    }
+}
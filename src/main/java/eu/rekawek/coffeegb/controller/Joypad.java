@@ -1,12 +1,14 @@
 package eu.rekawek.coffeegb.controller;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.cpu.InterruptManager;
 
+import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.Set;
 
-public class Joypad implements AddressSpace {
+public class Joypad implements AddressSpace, Snapshotable {
 
     private Set<ButtonListener.Button> buttons = new HashSet<>();
 
@@ -47,4 +49,15 @@ public class Joypad implements AddressSpace {
         }
         return result;
     }
+
+    // the pressed buttons come from the controller, so they aren't a part of the state
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put((byte) p1);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        p1 = buffer.get() & 0xff;
+    }
 }
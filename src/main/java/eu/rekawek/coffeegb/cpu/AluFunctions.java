@@ -29,36 +29,23 @@ public class AluFunctions {
 
     {
         registerAluFunction("INC", DataType.D8, (flags, arg) -> {
-            int result = (arg + 1) & 0xff;
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH((arg & 0x0f) == 0x0f);
-            return result;
+            flags.setIncFlags(arg);
+            return (arg + 1) & 0xff;
         });
         registerAluFunction("INC", DataType.D16, (flags, arg) -> (arg + 1) & 0xffff);
         registerAluFunction("DEC", DataType.D8, (flags, arg) -> {
-            int result = (arg - 1) & 0xff;
-            flags.setZ(result == 0);
-            flags.setN(true);
-            flags.setH((arg & 0x0f) == 0x0);
-            return result;
+            flags.setDecFlags(arg);
+            return (arg - 1) & 0xff;
         });
         registerAluFunction("DEC", DataType.D16, (flags, arg) -> (arg - 1) & 0xffff);
         registerAluFunction("ADD", DataType.D16, DataType.D16, (flags, arg1, arg2) -> {
-           flags.setN(false);
-           flags.setH((arg1 & 0x0fff) + (arg2 & 0x0fff) > 0x0fff);
-           flags.setC(arg1 + arg2 > 0xffff);
+           flags.setAddWordFlags(arg1, arg2);
            return (arg1 + arg2) & 0xffff;
         });
         registerAluFunction("ADD", DataType.D16, DataType.R8, (flags, arg1, arg2) -> (arg1 + arg2) & 0xffff);
         registerAluFunction("ADD_SP", DataType.D16, DataType.R8, (flags, arg1, arg2) -> {
-            flags.setZ(false);
-            flags.setN(false);
-
-            int result = arg1 + arg2;
-            flags.setC((((arg1 & 0xff) + (arg2 & 0xff)) & 0x100) != 0);
-            flags.setH((((arg1 & 0x0f) + (arg2 & 0x0f)) & 0x10) != 0);
-            return result & 0xffff;
+            flags.setAddSpFlags(arg1, arg2);
+            return (arg1 + arg2) & 0xffff;
         });
         registerAluFunction("DAA", DataType.D8, (flags, arg) -> {
             int result = arg;
@@ -103,144 +90,84 @@ public class AluFunctions {
             return arg;
         });
         registerAluFunction("ADD", DataType.D8, DataType.D8, (flags, byte1, byte2) -> {
-            flags.setZ(((byte1 + byte2) & 0xff) == 0);
-            flags.setN(false);
-            flags.setH((byte1 & 0x0f) + (byte2 & 0x0f) > 0x0f);
-            flags.setC(byte1 + byte2 > 0xff);
+            flags.setAddFlags(byte1, byte2, 0);
             return (byte1 + byte2) & 0xff;
         });
         registerAluFunction("ADC", DataType.D8, DataType.D8, (flags, byte1, byte2) -> {
             int carry = flags.isC() ? 1 : 0;
-            flags.setZ(((byte1 + byte2 + carry) & 0xff) == 0);
-            flags.setN(false);
-            flags.setH((byte1 & 0x0f) + (byte2 & 0x0f) + carry > 0x0f);
-            flags.setC(byte1 + byte2 + carry > 0xff);
+            flags.setAddFlags(byte1, byte2, carry);
             return (byte1 + byte2 + carry) & 0xff;
         });
         registerAluFunction("SUB", DataType.D8, DataType.D8, (flags, byte1, byte2) -> {
-            flags.setZ(((byte1 - byte2) & 0xff) == 0);
-            flags.setN(true);
-            flags.setH((0x0f & byte2) > (0x0f & byte1));
-            flags.setC(byte2 > byte1);
+            flags.setSubFlags(byte1, byte2, 0);
             return (byte1 - byte2) & 0xff;
         });
         registerAluFunction("SBC", DataType.D8, DataType.D8, (flags, byte1, byte2) -> {
             int carry = flags.isC() ? 1 : 0;
-            int res = byte1 - byte2 - carry;
-
-            flags.setZ((res & 0xff) == 0);
-            flags.setN(true);
-            flags.setH(((byte1 ^ byte2 ^ (res & 0xff)) & (1 << 4)) != 0);
-            flags.setC(res < 0);
-            return res & 0xff;
+            flags.setSubFlags(byte1, byte2, carry);
+            return (byte1 - byte2 - carry) & 0xff;
         });
         registerAluFunction("AND", DataType.D8, DataType.D8, (flags, byte1, byte2) -> {
             int result = byte1 & byte2;
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH(true);
-            flags.setC(false);
+            flags.setResultFlags(result, false, true, false);
             return result;
         });
         registerAluFunction("OR", DataType.D8, DataType.D8, (flags, byte1, byte2) -> {
             int result = byte1 | byte2;
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH(false);
-            flags.setC(false);
+            flags.setResultFlags(result, false, false, false);
             return result;
         });
         registerAluFunction("XOR", DataType.D8, DataType.D8, (flags, byte1, byte2) -> {
             int result = (byte1 ^ byte2) & 0xff;
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH(false);
-            flags.setC(false);
+            flags.setResultFlags(result, false, false, false);
             return result;
         });
         registerAluFunction("CP", DataType.D8, DataType.D8, (flags, byte1, byte2) -> {
-            flags.setZ(((byte1 - byte2) & 0xff) == 0);
-            flags.setN(true);
-            flags.setH((0x0f & byte2) > (0x0f & byte1));
-            flags.setC(byte2 > byte1);
+            flags.setSubFlags(byte1, byte2, 0);
             return byte1;
         });
         registerAluFunction("RLC", DataType.D8, (flags, arg) -> {
-            int result = (arg << 1) & 0xff;
-            if ((arg & (1<<7)) != 0) {
-                result |= 1;
-                flags.setC(true);
-            } else {
-                flags.setC(false);
-            }
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH(false);
+            int result = ((arg << 1) & 0xff) | (arg >> 7);
+            flags.setResultFlags(result, false, false, (arg & (1<<7)) != 0);
             return result;
         });
         registerAluFunction("RRC", DataType.D8, (flags, arg) -> {
-            int result = arg >> 1;
-            if ((arg & 1) == 1) {
-                result |= (1 << 7);
-                flags.setC(true);
-            } else {
-                flags.setC(false);
-            }
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH(false);
+            int result = (arg >> 1) | ((arg & 1) << 7);
+            flags.setResultFlags(result, false, false, (arg & 1) != 0);
             return result;
         });
         registerAluFunction("RL", DataType.D8, (flags, arg) -> {
             int result = (arg << 1) & 0xff;
             result |= flags.isC() ? 1 : 0;
-            flags.setC((arg & (1<<7)) != 0);
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH(false);
+            flags.setResultFlags(result, false, false, (arg & (1<<7)) != 0);
             return result;
         });
         registerAluFunction("RR", DataType.D8, (flags, arg) -> {
             int result = arg >> 1;
             result |= flags.isC() ? (1 << 7) : 0;
-            flags.setC((arg & 1) != 0);
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH(false);
+            flags.setResultFlags(result, false, false, (arg & 1) != 0);
             return result;
         });
         registerAluFunction("SLA", DataType.D8, (flags, arg) -> {
             int result = (arg << 1) & 0xff;
-            flags.setC((arg & (1<<7)) != 0);
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH(false);
+            flags.setResultFlags(result, false, false, (arg & (1<<7)) != 0);
             return result;
         });
         registerAluFunction("SRA", DataType.D8, (flags, arg) -> {
             int result = (arg >> 1) | (arg & (1 << 7));
-            flags.setC((arg & 1) != 0);
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH(false);
+            flags.setResultFlags(result, false, false, (arg & 1) != 0);
             return result;
         });
         registerAluFunction("SWAP", DataType.D8, (flags, arg) -> {
             int upper = arg & 0xf0;
             int lower = arg & 0x0f;
             int result = (lower << 4) | (upper >> 4);
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH(false);
-            flags.setC(false);
+            flags.setResultFlags(result, false, false, false);
             return result;
         });
         registerAluFunction("SRL", DataType.D8, (flags, arg) -> {
             int result = (arg >> 1);
-            flags.setC((arg & 1) != 0);
-            flags.setZ(result == 0);
-            flags.setN(false);
-            flags.setH(false);
+            flags.setResultFlags(result, false, false, (arg & 1) != 0);
             return result;
         });
         registerAluFunction("BIT", DataType.D8, DataType.D8, (flags, arg1, arg2) -> {
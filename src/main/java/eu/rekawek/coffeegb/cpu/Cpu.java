@@ -1,6 +1,7 @@
 package eu.rekawek.coffeegb.cpu;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.cpu.op.Op;
 import eu.rekawek.coffeegb.cpu.opcode.Opcode;
 import eu.rekawek.coffeegb.gpu.Display;
@@ -9,14 +10,19 @@ import eu.rekawek.coffeegb.gpu.GpuRegister;
 import eu.rekawek.coffeegb.gpu.Lcdc;
 import eu.rekawek.coffeegb.gpu.SpriteBug;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
-public class Cpu {
+public class Cpu implements Snapshotable {
 
     public enum State {
         OPCODE, EXT_OPCODE, OPERAND, RUNNING, IRQ_READ_IF, IRQ_READ_IE, IRQ_PUSH_1, IRQ_PUSH_2, IRQ_JUMP, STOPPED, HALTED
     }
 
+    private static final State[] STATES = State.values();
+
+    private static final InterruptManager.InterruptType[] INTERRUPT_TYPES = InterruptManager.InterruptType.values();
+
     private final Registers registers;
 
     private final AddressSpace addressSpace;
@@ -43,7 +49,7 @@ public class Cpu {
 
     private State state = State.OPCODE;
 
-    private int opContext;
+    int opContext;
 
     private int interruptFlag;
 
@@ -55,13 +61,29 @@ public class Cpu {
 
     private boolean haltBugMode;
 
+    private final boolean flatInterpreter;
+
+    private final InstructionCache instructionCache;
+
+    private DecodedInstruction cachedInstruction;
+
     public Cpu(AddressSpace addressSpace, InterruptManager interruptManager, Gpu gpu, Display display, SpeedMode speedMode) {
+        this(addressSpace, interruptManager, gpu, display, speedMode, true);
+    }
+
+    public Cpu(AddressSpace addressSpace, InterruptManager interruptManager, Gpu gpu, Display display, SpeedMode speedMode, boolean flatInterpreter) {
+        this(addressSpace, interruptManager, gpu, display, speedMode, flatInterpreter, null);
+    }
+
+    public Cpu(AddressSpace addressSpace, InterruptManager interruptManager, Gpu gpu, Display display, SpeedMode speedMode, boolean flatInterpreter, InstructionCache instructionCache) {
         this.registers = new Registers();
         this.addressSpace = addressSpace;
         this.interruptManager = interruptManager;
         this.gpu = gpu;
         this.display = display;
         this.speedMode = speedMode;
+        this.flatInterpreter = flatInterpreter;
+        this.instructionCache = instructionCache;
     }
 
     public void tick() {
@@ -99,13 +121,24 @@ public class Cpu {
             switch (state) {
                 case OPCODE:
                     clearState();
-                    opcode1 = addressSpace.getByte(pc);
+                    // the bytes of the cached instructions are still fetched in the separate cycles
+                    if (instructionCache != null && !haltBugMode) {
+                        cachedInstruction = instructionCache.get(pc);
+                    }
+                    if (cachedInstruction != null) {
+                        opcode1 = cachedInstruction.getOpcode1();
+                    } else {
+                        opcode1 = addressSpace.getByte(pc);
+                    }
                     accessedMemory = true;
                     if (opcode1 == 0xcb) {
                         state = State.EXT_OPCODE;
                     } else if (opcode1 == 0x10) {
                         currentOpcode = Opcodes.COMMANDS.get(opcode1);
                         state = State.EXT_OPCODE;
+                    } else if (cachedInstruction != null) {
+                        state = State.OPERAND;
+                        currentOpcode = cachedInstruction.getOpcode();
                     } else {
                         state = State.OPERAND;
                         currentOpcode = Opcodes.COMMANDS.get(opcode1);
@@ -125,7 +158,12 @@ public class Cpu {
                         return;
                     }
                     accessedMemory = true;
-                    opcode2 = addressSpace.getByte(pc);
+                    if (cachedInstruction != null) {
+                        opcode2 = cachedInstruction.getOpcode2();
+                        currentOpcode = cachedInstruction.getOpcode();
+                    } else {
+                        opcode2 = addressSpace.getByte(pc);
+                    }
                     if (currentOpcode == null) {
                         currentOpcode = Opcodes.EXT_COMMANDS.get(opcode2);
                     }
@@ -142,7 +180,12 @@ public class Cpu {
                             return;
                         }
                         accessedMemory = true;
-                        operand[operandIndex++] = addressSpace.getByte(pc);
+                        if (cachedInstruction != null) {
+                            operand[operandIndex] = cachedInstruction.getOperand(operandIndex);
+                            operandIndex++;
+                        } else {
+                            operand[operandIndex++] = addressSpace.getByte(pc);
+                        }
                         registers.incrementPC();
                     }
                     ops = currentOpcode.getOps();
@@ -169,6 +212,21 @@ public class Cpu {
                         }
                     }
 
+                    if (flatInterpreter) {
+                        boolean finished;
+                        if (opcode1 == 0xcb) {
+                            finished = FlatOpcodes.executeExt(opcode2, this, registers, addressSpace, interruptManager, operand, opIndex++);
+                        } else {
+                            finished = FlatOpcodes.execute(opcode1, this, registers, addressSpace, interruptManager, operand, opIndex++);
+                        }
+                        if (finished) {
+                            state = State.OPCODE;
+                            operandIndex = 0;
+                            interruptManager.onInstructionFinished();
+                        }
+                        return;
+                    }
+
                     if (opIndex < ops.size()) {
                         Op op = ops.get(opIndex);
                         boolean opAccessesMemory = op.readsMemory() || op.writesMemory();
@@ -259,7 +317,7 @@ public class Cpu {
         }
     }
 
-    private void handleSpriteBug(SpriteBug.CorruptionType type) {
+    void handleSpriteBug(SpriteBug.CorruptionType type) {
         if (!gpu.getLcdc().isLcdEnabled()) {
             return;
         }
@@ -285,6 +343,7 @@ public class Cpu {
 
         opIndex = 0;
         opContext = 0;
+        cachedInstruction = null;
 
         interruptFlag = 0;
         interruptEnabled = 0;
@@ -296,8 +355,63 @@ public class Cpu {
         return state;
     }
 
+    public boolean isHaltBugMode() {
+        return haltBugMode;
+    }
+
+    public boolean isInstructionFinished() {
+        return clockCycle == 0 && (state == State.OPCODE || state == State.HALTED || state == State.STOPPED);
+    }
+
     Opcode getCurrentOpcode() {
         return currentOpcode;
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        registers.saveState(buffer);
+        buffer.put((byte) state.ordinal());
+        buffer.put((byte) opcode1);
+        buffer.put((byte) opcode2);
+        buffer.put((byte) operand[0]);
+        buffer.put((byte) operand[1]);
+        buffer.put((byte) operandIndex);
+        buffer.putInt(opIndex);
+        buffer.putInt(opContext);
+        buffer.put((byte) interruptFlag);
+        buffer.put((byte) interruptEnabled);
+        buffer.put((byte) (requestedIrq == null ? -1 : requestedIrq.ordinal()));
+        buffer.put((byte) clockCycle);
+        Snapshotable.putBoolean(buffer, haltBugMode);
+    }
+
+    // the opcode and its ops are decoded again from the opcode bytes. The instruction cache is only a shortcut for
+    // the memory reads, so the rest of the instruction is read from the memory.
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        registers.loadState(buffer);
+        state = STATES[buffer.get()];
+        opcode1 = buffer.get() & 0xff;
+        opcode2 = buffer.get() & 0xff;
+        operand[0] = buffer.get() & 0xff;
+        operand[1] = buffer.get() & 0xff;
+        operandIndex = buffer.get();
+        opIndex = buffer.getInt();
+        opContext = buffer.getInt();
+        interruptFlag = buffer.get() & 0xff;
+        interruptEnabled = buffer.get() & 0xff;
+        int irq = buffer.get();
+        requestedIrq = irq == -1 ? null : INTERRUPT_TYPES[irq];
+        clockCycle = buffer.get();
+        haltBugMode = Snapshotable.getBoolean(buffer);
+
+        if (opcode1 == 0xcb) {
+            currentOpcode = state == State.EXT_OPCODE ? null : Opcodes.EXT_COMMANDS.get(opcode2);
+        } else {
+            currentOpcode = Opcodes.COMMANDS.get(opcode1);
+        }
+        ops = currentOpcode == null ? null : currentOpcode.getOps();
+        cachedInstruction = null;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package eu.rekawek.coffeegb.cpu;
+
+import eu.rekawek.coffeegb.cpu.opcode.Opcode;
+
+public class DecodedInstruction {
+
+    private final int opcode1;
+
+    private final int opcode2;
+
+    private final Opcode opcode;
+
+    private final int[] operands;
+
+    private final int length;
+
+    DecodedInstruction(int opcode1, int opcode2, Opcode opcode, int[] operands, int length) {
+        this.opcode1 = opcode1;
+        this.opcode2 = opcode2;
+        this.opcode = opcode;
+        this.operands = operands;
+        this.length = length;
+    }
+
+    public int getOpcode1() {
+        return opcode1;
+    }
+
+    public int getOpcode2() {
+        return opcode2;
+    }
+
+    public Opcode getOpcode() {
+        return opcode;
+    }
+
+    public int getOperand(int index) {
+        return operands[index];
+    }
+
+    public int getLength() {
+        return length;
+    }
+}
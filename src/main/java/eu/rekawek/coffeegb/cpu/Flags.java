@@ -14,49 +14,204 @@ public class Flags {
 
     private static int C_POS = 4;
 
+    private static final int Z = 1 << 7;
+
+    private static final int N = 1 << 6;
+
+    private static final int H = 1 << 5;
+
+    private static final int C = 1 << 4;
+
+    private static final int NONE = 0;
+
+    private static final int ADD = 1;
+
+    private static final int SUB = 2;
+
+    private static final int RESULT = 3;
+
+    private static final int INC = 4;
+
+    private static final int DEC = 5;
+
+    private static final int ADD_WORD = 6;
+
+    private static final int ADD_SP = 7;
+
+    private final boolean lazy;
+
     private int flags;
 
+    // the last operation, which flags weren't calculated yet
+    private int pendingOperation;
+
+    private int pendingArg1;
+
+    private int pendingArg2;
+
+    private int pendingCarry;
+
+    public Flags() {
+        this(true);
+    }
+
+    public Flags(boolean lazy) {
+        this.lazy = lazy;
+    }
+
     public int getFlagsByte() {
+        evaluate();
         return flags;
     }
 
     public boolean isZ() {
+        evaluate();
         return getBit(flags, Z_POS);
     }
 
     public boolean isN() {
+        evaluate();
         return getBit(flags, N_POS);
     }
 
     public boolean isH() {
+        evaluate();
         return getBit(flags, H_POS);
     }
 
     public boolean isC() {
+        evaluate();
         return getBit(flags, C_POS);
     }
 
     public void setZ(boolean z) {
+        evaluate();
         flags = setBit(flags, Z_POS, z);
     }
 
     public void setN(boolean n) {
+        evaluate();
         flags = setBit(flags, N_POS, n);
     }
 
     public void setH(boolean h) {
+        evaluate();
         flags = setBit(flags, H_POS, h);
     }
 
     public void setC(boolean c) {
+        evaluate();
         flags = setBit(flags, C_POS, c);
     }
 
     public void setFlagsByte(int flags) {
         checkByteArgument("flags", flags);
+        this.pendingOperation = NONE;
         this.flags = flags & 0xf0;
     }
 
+    // 8-bit addition with the optional carry, sets all the flags
+    public void setAddFlags(int arg1, int arg2, int carry) {
+        setPending(ADD, arg1, arg2, carry);
+    }
+
+    // 8-bit subtraction with the optional carry, sets all the flags
+    public void setSubFlags(int arg1, int arg2, int carry) {
+        setPending(SUB, arg1, arg2, carry);
+    }
+
+    // Z is set according to the result, the rest is given
+    public void setResultFlags(int result, boolean n, boolean h, boolean c) {
+        setPending(RESULT, result, (n ? N : 0) | (h ? H : 0) | (c ? C : 0), 0);
+    }
+
+    // 8-bit increment, keeps C
+    public void setIncFlags(int arg) {
+        evaluate();
+        setPending(INC, arg, 0, 0);
+    }
+
+    // 8-bit decrement, keeps C
+    public void setDecFlags(int arg) {
+        evaluate();
+        setPending(DEC, arg, 0, 0);
+    }
+
+    // 16-bit addition, keeps Z
+    public void setAddWordFlags(int arg1, int arg2) {
+        evaluate();
+        setPending(ADD_WORD, arg1, arg2, 0);
+    }
+
+    // addition of the signed byte to SP, Z and N are reset
+    public void setAddSpFlags(int arg1, int arg2) {
+        setPending(ADD_SP, arg1, arg2, 0);
+    }
+
+    private void setPending(int operation, int arg1, int arg2, int carry) {
+        pendingOperation = operation;
+        pendingArg1 = arg1;
+        pendingArg2 = arg2;
+        pendingCarry = carry;
+        if (!lazy) {
+            evaluate();
+        }
+    }
+
+    private void evaluate() {
+        if (pendingOperation == NONE) {
+            return;
+        }
+        int a = pendingArg1;
+        int b = pendingArg2;
+        switch (pendingOperation) {
+            case ADD: {
+                int result = a + b + pendingCarry;
+                flags = zero(result & 0xff)
+                        | ((a & 0x0f) + (b & 0x0f) + pendingCarry > 0x0f ? H : 0)
+                        | (result > 0xff ? C : 0);
+                break;
+            }
+
+            case SUB: {
+                int result = a - b - pendingCarry;
+                flags = zero(result & 0xff)
+                        | N
+                        | ((a & 0x0f) - (b & 0x0f) - pendingCarry < 0 ? H : 0)
+                        | (result < 0 ? C : 0);
+                break;
+            }
+
+            case RESULT:
+                flags = zero(a) | b;
+                break;
+
+            case INC:
+                flags = (flags & C) | zero((a + 1) & 0xff) | ((a & 0x0f) == 0x0f ? H : 0);
+                break;
+
+            case DEC:
+                flags = (flags & C) | zero((a - 1) & 0xff) | N | ((a & 0x0f) == 0x00 ? H : 0);
+                break;
+
+            case ADD_WORD:
+                flags = (flags & Z)
+                        | ((a & 0x0fff) + (b & 0x0fff) > 0x0fff ? H : 0)
+                        | (a + b > 0xffff ? C : 0);
+                break;
+
+            case ADD_SP:
+                flags = (((a & 0x0f) + (b & 0x0f)) & 0x10) != 0 ? H : 0;
+                flags |= (((a & 0xff) + (b & 0xff)) & 0x100) != 0 ? C : 0;
+                break;
+        }
+        pendingOperation = NONE;
+    }
+
+    private static int zero(int result) {
+        return result == 0 ? Z : 0;
+    }
+
     @Override
     public String toString() {
         StringBuilder result = new StringBuilder();
@@ -0,0 +1,7792 @@
+package eu.rekawek.coffeegb.cpu;
+
+import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.cpu.op.Argument;
+import eu.rekawek.coffeegb.cpu.op.DataType;
+import eu.rekawek.coffeegb.gpu.SpriteBug;
+
+// generated by FlatOpcodesGenerator from the Opcodes definitions, don't edit
+public final class FlatOpcodes {
+
+    private static final AluFunctions ALU = new AluFunctions();
+
+    private static final AluFunctions.BiIntRegistryFunction ADC_D8_D8 = ALU.findAluFunction("ADC", DataType.D8, DataType.D8);
+
+    private static final AluFunctions.BiIntRegistryFunction ADD_D16_D16 = ALU.findAluFunction("ADD", DataType.D16, DataType.D16);
+
+    private static final AluFunctions.BiIntRegistryFunction ADD_D16_R8 = ALU.findAluFunction("ADD", DataType.D16, DataType.R8);
+
+    private static final AluFunctions.BiIntRegistryFunction ADD_D8_D8 = ALU.findAluFunction("ADD", DataType.D8, DataType.D8);
+
+    private static final AluFunctions.BiIntRegistryFunction ADD_SP_D16_R8 = ALU.findAluFunction("ADD_SP", DataType.D16, DataType.R8);
+
+    private static final AluFunctions.BiIntRegistryFunction AND_D8_D8 = ALU.findAluFunction("AND", DataType.D8, DataType.D8);
+
+    private static final AluFunctions.BiIntRegistryFunction BIT_D8_D8 = ALU.findAluFunction("BIT", DataType.D8, DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction CCF_D8 = ALU.findAluFunction("CCF", DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction CPL_D8 = ALU.findAluFunction("CPL", DataType.D8);
+
+    private static final AluFunctions.BiIntRegistryFunction CP_D8_D8 = ALU.findAluFunction("CP", DataType.D8, DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction DAA_D8 = ALU.findAluFunction("DAA", DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction DEC_D16 = ALU.findAluFunction("DEC", DataType.D16);
+
+    private static final AluFunctions.IntRegistryFunction DEC_D8 = ALU.findAluFunction("DEC", DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction INC_D16 = ALU.findAluFunction("INC", DataType.D16);
+
+    private static final AluFunctions.IntRegistryFunction INC_D8 = ALU.findAluFunction("INC", DataType.D8);
+
+    private static final AluFunctions.BiIntRegistryFunction OR_D8_D8 = ALU.findAluFunction("OR", DataType.D8, DataType.D8);
+
+    private static final AluFunctions.BiIntRegistryFunction RES_D8_D8 = ALU.findAluFunction("RES", DataType.D8, DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction RLC_D8 = ALU.findAluFunction("RLC", DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction RL_D8 = ALU.findAluFunction("RL", DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction RRC_D8 = ALU.findAluFunction("RRC", DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction RR_D8 = ALU.findAluFunction("RR", DataType.D8);
+
+    private static final AluFunctions.BiIntRegistryFunction SBC_D8_D8 = ALU.findAluFunction("SBC", DataType.D8, DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction SCF_D8 = ALU.findAluFunction("SCF", DataType.D8);
+
+    private static final AluFunctions.BiIntRegistryFunction SET_D8_D8 = ALU.findAluFunction("SET", DataType.D8, DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction SLA_D8 = ALU.findAluFunction("SLA", DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction SRA_D8 = ALU.findAluFunction("SRA", DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction SRL_D8 = ALU.findAluFunction("SRL", DataType.D8);
+
+    private static final AluFunctions.BiIntRegistryFunction SUB_D8_D8 = ALU.findAluFunction("SUB", DataType.D8, DataType.D8);
+
+    private static final AluFunctions.IntRegistryFunction SWAP_D8 = ALU.findAluFunction("SWAP", DataType.D8);
+
+    private static final AluFunctions.BiIntRegistryFunction XOR_D8_D8 = ALU.findAluFunction("XOR", DataType.D8, DataType.D8);
+
+    private FlatOpcodes() {
+    }
+
+    static boolean execute(int opcode, Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        switch (opcode) {
+            case 0x00:
+                return opcode00(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x01:
+                return opcode01(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x02:
+                return opcode02(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x03:
+                return opcode03(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x04:
+                return opcode04(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x05:
+                return opcode05(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x06:
+                return opcode06(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x07:
+                return opcode07(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x08:
+                return opcode08(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x09:
+                return opcode09(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0a:
+                return opcode0a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0b:
+                return opcode0b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0c:
+                return opcode0c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0d:
+                return opcode0d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0e:
+                return opcode0e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0f:
+                return opcode0f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x10:
+                return opcode10(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x11:
+                return opcode11(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x12:
+                return opcode12(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x13:
+                return opcode13(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x14:
+                return opcode14(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x15:
+                return opcode15(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x16:
+                return opcode16(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x17:
+                return opcode17(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x18:
+                return opcode18(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x19:
+                return opcode19(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1a:
+                return opcode1a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1b:
+                return opcode1b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1c:
+                return opcode1c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1d:
+                return opcode1d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1e:
+                return opcode1e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1f:
+                return opcode1f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x20:
+                return opcode20(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x21:
+                return opcode21(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x22:
+                return opcode22(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x23:
+                return opcode23(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x24:
+                return opcode24(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x25:
+                return opcode25(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x26:
+                return opcode26(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x27:
+                return opcode27(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x28:
+                return opcode28(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x29:
+                return opcode29(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2a:
+                return opcode2a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2b:
+                return opcode2b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2c:
+                return opcode2c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2d:
+                return opcode2d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2e:
+                return opcode2e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2f:
+                return opcode2f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x30:
+                return opcode30(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x31:
+                return opcode31(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x32:
+                return opcode32(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x33:
+                return opcode33(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x34:
+                return opcode34(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x35:
+                return opcode35(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x36:
+                return opcode36(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x37:
+                return opcode37(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x38:
+                return opcode38(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x39:
+                return opcode39(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3a:
+                return opcode3a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3b:
+                return opcode3b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3c:
+                return opcode3c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3d:
+                return opcode3d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3e:
+                return opcode3e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3f:
+                return opcode3f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x40:
+                return opcode40(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x41:
+                return opcode41(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x42:
+                return opcode42(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x43:
+                return opcode43(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x44:
+                return opcode44(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x45:
+                return opcode45(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x46:
+                return opcode46(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x47:
+                return opcode47(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x48:
+                return opcode48(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x49:
+                return opcode49(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4a:
+                return opcode4a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4b:
+                return opcode4b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4c:
+                return opcode4c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4d:
+                return opcode4d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4e:
+                return opcode4e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4f:
+                return opcode4f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x50:
+                return opcode50(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x51:
+                return opcode51(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x52:
+                return opcode52(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x53:
+                return opcode53(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x54:
+                return opcode54(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x55:
+                return opcode55(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x56:
+                return opcode56(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x57:
+                return opcode57(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x58:
+                return opcode58(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x59:
+                return opcode59(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5a:
+                return opcode5a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5b:
+                return opcode5b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5c:
+                return opcode5c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5d:
+                return opcode5d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5e:
+                return opcode5e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5f:
+                return opcode5f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x60:
+                return opcode60(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x61:
+                return opcode61(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x62:
+                return opcode62(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x63:
+                return opcode63(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x64:
+                return opcode64(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x65:
+                return opcode65(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x66:
+                return opcode66(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x67:
+                return opcode67(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x68:
+                return opcode68(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x69:
+                return opcode69(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6a:
+                return opcode6a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6b:
+                return opcode6b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6c:
+                return opcode6c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6d:
+                return opcode6d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6e:
+                return opcode6e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6f:
+                return opcode6f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x70:
+                return opcode70(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x71:
+                return opcode71(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x72:
+                return opcode72(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x73:
+                return opcode73(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x74:
+                return opcode74(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x75:
+                return opcode75(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x76:
+                return opcode76(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x77:
+                return opcode77(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x78:
+                return opcode78(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x79:
+                return opcode79(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7a:
+                return opcode7a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7b:
+                return opcode7b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7c:
+                return opcode7c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7d:
+                return opcode7d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7e:
+                return opcode7e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7f:
+                return opcode7f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x80:
+                return opcode80(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x81:
+                return opcode81(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x82:
+                return opcode82(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x83:
+                return opcode83(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x84:
+                return opcode84(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x85:
+                return opcode85(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x86:
+                return opcode86(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x87:
+                return opcode87(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x88:
+                return opcode88(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x89:
+                return opcode89(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8a:
+                return opcode8a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8b:
+                return opcode8b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8c:
+                return opcode8c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8d:
+                return opcode8d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8e:
+                return opcode8e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8f:
+                return opcode8f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x90:
+                return opcode90(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x91:
+                return opcode91(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x92:
+                return opcode92(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x93:
+                return opcode93(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x94:
+                return opcode94(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x95:
+                return opcode95(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x96:
+                return opcode96(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x97:
+                return opcode97(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x98:
+                return opcode98(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x99:
+                return opcode99(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9a:
+                return opcode9a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9b:
+                return opcode9b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9c:
+                return opcode9c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9d:
+                return opcode9d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9e:
+                return opcode9e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9f:
+                return opcode9f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa0:
+                return opcodea0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa1:
+                return opcodea1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa2:
+                return opcodea2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa3:
+                return opcodea3(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa4:
+                return opcodea4(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa5:
+                return opcodea5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa6:
+                return opcodea6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa7:
+                return opcodea7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa8:
+                return opcodea8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa9:
+                return opcodea9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xaa:
+                return opcodeaa(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xab:
+                return opcodeab(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xac:
+                return opcodeac(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xad:
+                return opcodead(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xae:
+                return opcodeae(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xaf:
+                return opcodeaf(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb0:
+                return opcodeb0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb1:
+                return opcodeb1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb2:
+                return opcodeb2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb3:
+                return opcodeb3(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb4:
+                return opcodeb4(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb5:
+                return opcodeb5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb6:
+                return opcodeb6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb7:
+                return opcodeb7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb8:
+                return opcodeb8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb9:
+                return opcodeb9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xba:
+                return opcodeba(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xbb:
+                return opcodebb(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xbc:
+                return opcodebc(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xbd:
+                return opcodebd(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xbe:
+                return opcodebe(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xbf:
+                return opcodebf(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc0:
+                return opcodec0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc1:
+                return opcodec1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc2:
+                return opcodec2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc3:
+                return opcodec3(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc4:
+                return opcodec4(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc5:
+                return opcodec5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc6:
+                return opcodec6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc7:
+                return opcodec7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc8:
+                return opcodec8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc9:
+                return opcodec9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xca:
+                return opcodeca(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xcc:
+                return opcodecc(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xcd:
+                return opcodecd(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xce:
+                return opcodece(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xcf:
+                return opcodecf(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd0:
+                return opcoded0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd1:
+                return opcoded1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd2:
+                return opcoded2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd4:
+                return opcoded4(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd5:
+                return opcoded5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd6:
+                return opcoded6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd7:
+                return opcoded7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd8:
+                return opcoded8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd9:
+                return opcoded9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xda:
+                return opcodeda(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xdc:
+                return opcodedc(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xde:
+                return opcodede(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xdf:
+                return opcodedf(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe0:
+                return opcodee0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe1:
+                return opcodee1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe2:
+                return opcodee2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe5:
+                return opcodee5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe6:
+                return opcodee6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe7:
+                return opcodee7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe8:
+                return opcodee8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe9:
+                return opcodee9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xea:
+                return opcodeea(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xee:
+                return opcodeee(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xef:
+                return opcodeef(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf0:
+                return opcodef0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf1:
+                return opcodef1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf2:
+                return opcodef2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf3:
+                return opcodef3(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf5:
+                return opcodef5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf6:
+                return opcodef6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf7:
+                return opcodef7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf8:
+                return opcodef8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf9:
+                return opcodef9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xfa:
+                return opcodefa(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xfb:
+                return opcodefb(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xfe:
+                return opcodefe(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xff:
+                return opcodeff(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            default:
+                throw new IllegalStateException(String.format("No command for 0x%02x", opcode));
+        }
+    }
+
+    static boolean executeExt(int opcode, Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        switch (opcode) {
+            case 0x00:
+                return extOpcode00(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x01:
+                return extOpcode01(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x02:
+                return extOpcode02(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x03:
+                return extOpcode03(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x04:
+                return extOpcode04(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x05:
+                return extOpcode05(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x06:
+                return extOpcode06(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x07:
+                return extOpcode07(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x08:
+                return extOpcode08(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x09:
+                return extOpcode09(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0a:
+                return extOpcode0a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0b:
+                return extOpcode0b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0c:
+                return extOpcode0c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0d:
+                return extOpcode0d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0e:
+                return extOpcode0e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x0f:
+                return extOpcode0f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x10:
+                return extOpcode10(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x11:
+                return extOpcode11(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x12:
+                return extOpcode12(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x13:
+                return extOpcode13(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x14:
+                return extOpcode14(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x15:
+                return extOpcode15(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x16:
+                return extOpcode16(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x17:
+                return extOpcode17(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x18:
+                return extOpcode18(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x19:
+                return extOpcode19(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1a:
+                return extOpcode1a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1b:
+                return extOpcode1b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1c:
+                return extOpcode1c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1d:
+                return extOpcode1d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1e:
+                return extOpcode1e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x1f:
+                return extOpcode1f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x20:
+                return extOpcode20(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x21:
+                return extOpcode21(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x22:
+                return extOpcode22(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x23:
+                return extOpcode23(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x24:
+                return extOpcode24(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x25:
+                return extOpcode25(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x26:
+                return extOpcode26(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x27:
+                return extOpcode27(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x28:
+                return extOpcode28(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x29:
+                return extOpcode29(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2a:
+                return extOpcode2a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2b:
+                return extOpcode2b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2c:
+                return extOpcode2c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2d:
+                return extOpcode2d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2e:
+                return extOpcode2e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x2f:
+                return extOpcode2f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x30:
+                return extOpcode30(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x31:
+                return extOpcode31(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x32:
+                return extOpcode32(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x33:
+                return extOpcode33(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x34:
+                return extOpcode34(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x35:
+                return extOpcode35(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x36:
+                return extOpcode36(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x37:
+                return extOpcode37(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x38:
+                return extOpcode38(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x39:
+                return extOpcode39(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3a:
+                return extOpcode3a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3b:
+                return extOpcode3b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3c:
+                return extOpcode3c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3d:
+                return extOpcode3d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3e:
+                return extOpcode3e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x3f:
+                return extOpcode3f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x40:
+                return extOpcode40(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x41:
+                return extOpcode41(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x42:
+                return extOpcode42(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x43:
+                return extOpcode43(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x44:
+                return extOpcode44(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x45:
+                return extOpcode45(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x46:
+                return extOpcode46(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x47:
+                return extOpcode47(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x48:
+                return extOpcode48(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x49:
+                return extOpcode49(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4a:
+                return extOpcode4a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4b:
+                return extOpcode4b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4c:
+                return extOpcode4c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4d:
+                return extOpcode4d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4e:
+                return extOpcode4e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x4f:
+                return extOpcode4f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x50:
+                return extOpcode50(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x51:
+                return extOpcode51(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x52:
+                return extOpcode52(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x53:
+                return extOpcode53(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x54:
+                return extOpcode54(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x55:
+                return extOpcode55(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x56:
+                return extOpcode56(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x57:
+                return extOpcode57(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x58:
+                return extOpcode58(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x59:
+                return extOpcode59(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5a:
+                return extOpcode5a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5b:
+                return extOpcode5b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5c:
+                return extOpcode5c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5d:
+                return extOpcode5d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5e:
+                return extOpcode5e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x5f:
+                return extOpcode5f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x60:
+                return extOpcode60(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x61:
+                return extOpcode61(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x62:
+                return extOpcode62(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x63:
+                return extOpcode63(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x64:
+                return extOpcode64(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x65:
+                return extOpcode65(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x66:
+                return extOpcode66(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x67:
+                return extOpcode67(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x68:
+                return extOpcode68(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x69:
+                return extOpcode69(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6a:
+                return extOpcode6a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6b:
+                return extOpcode6b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6c:
+                return extOpcode6c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6d:
+                return extOpcode6d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6e:
+                return extOpcode6e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x6f:
+                return extOpcode6f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x70:
+                return extOpcode70(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x71:
+                return extOpcode71(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x72:
+                return extOpcode72(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x73:
+                return extOpcode73(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x74:
+                return extOpcode74(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x75:
+                return extOpcode75(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x76:
+                return extOpcode76(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x77:
+                return extOpcode77(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x78:
+                return extOpcode78(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x79:
+                return extOpcode79(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7a:
+                return extOpcode7a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7b:
+                return extOpcode7b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7c:
+                return extOpcode7c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7d:
+                return extOpcode7d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7e:
+                return extOpcode7e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x7f:
+                return extOpcode7f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x80:
+                return extOpcode80(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x81:
+                return extOpcode81(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x82:
+                return extOpcode82(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x83:
+                return extOpcode83(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x84:
+                return extOpcode84(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x85:
+                return extOpcode85(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x86:
+                return extOpcode86(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x87:
+                return extOpcode87(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x88:
+                return extOpcode88(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x89:
+                return extOpcode89(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8a:
+                return extOpcode8a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8b:
+                return extOpcode8b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8c:
+                return extOpcode8c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8d:
+                return extOpcode8d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8e:
+                return extOpcode8e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x8f:
+                return extOpcode8f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x90:
+                return extOpcode90(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x91:
+                return extOpcode91(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x92:
+                return extOpcode92(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x93:
+                return extOpcode93(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x94:
+                return extOpcode94(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x95:
+                return extOpcode95(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x96:
+                return extOpcode96(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x97:
+                return extOpcode97(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x98:
+                return extOpcode98(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x99:
+                return extOpcode99(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9a:
+                return extOpcode9a(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9b:
+                return extOpcode9b(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9c:
+                return extOpcode9c(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9d:
+                return extOpcode9d(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9e:
+                return extOpcode9e(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0x9f:
+                return extOpcode9f(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa0:
+                return extOpcodea0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa1:
+                return extOpcodea1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa2:
+                return extOpcodea2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa3:
+                return extOpcodea3(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa4:
+                return extOpcodea4(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa5:
+                return extOpcodea5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa6:
+                return extOpcodea6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa7:
+                return extOpcodea7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa8:
+                return extOpcodea8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xa9:
+                return extOpcodea9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xaa:
+                return extOpcodeaa(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xab:
+                return extOpcodeab(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xac:
+                return extOpcodeac(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xad:
+                return extOpcodead(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xae:
+                return extOpcodeae(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xaf:
+                return extOpcodeaf(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb0:
+                return extOpcodeb0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb1:
+                return extOpcodeb1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb2:
+                return extOpcodeb2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb3:
+                return extOpcodeb3(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb4:
+                return extOpcodeb4(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb5:
+                return extOpcodeb5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb6:
+                return extOpcodeb6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb7:
+                return extOpcodeb7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb8:
+                return extOpcodeb8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xb9:
+                return extOpcodeb9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xba:
+                return extOpcodeba(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xbb:
+                return extOpcodebb(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xbc:
+                return extOpcodebc(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xbd:
+                return extOpcodebd(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xbe:
+                return extOpcodebe(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xbf:
+                return extOpcodebf(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc0:
+                return extOpcodec0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc1:
+                return extOpcodec1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc2:
+                return extOpcodec2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc3:
+                return extOpcodec3(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc4:
+                return extOpcodec4(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc5:
+                return extOpcodec5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc6:
+                return extOpcodec6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc7:
+                return extOpcodec7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc8:
+                return extOpcodec8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xc9:
+                return extOpcodec9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xca:
+                return extOpcodeca(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xcb:
+                return extOpcodecb(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xcc:
+                return extOpcodecc(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xcd:
+                return extOpcodecd(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xce:
+                return extOpcodece(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xcf:
+                return extOpcodecf(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd0:
+                return extOpcoded0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd1:
+                return extOpcoded1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd2:
+                return extOpcoded2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd3:
+                return extOpcoded3(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd4:
+                return extOpcoded4(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd5:
+                return extOpcoded5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd6:
+                return extOpcoded6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd7:
+                return extOpcoded7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd8:
+                return extOpcoded8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xd9:
+                return extOpcoded9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xda:
+                return extOpcodeda(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xdb:
+                return extOpcodedb(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xdc:
+                return extOpcodedc(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xdd:
+                return extOpcodedd(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xde:
+                return extOpcodede(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xdf:
+                return extOpcodedf(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe0:
+                return extOpcodee0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe1:
+                return extOpcodee1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe2:
+                return extOpcodee2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe3:
+                return extOpcodee3(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe4:
+                return extOpcodee4(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe5:
+                return extOpcodee5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe6:
+                return extOpcodee6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe7:
+                return extOpcodee7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe8:
+                return extOpcodee8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xe9:
+                return extOpcodee9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xea:
+                return extOpcodeea(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xeb:
+                return extOpcodeeb(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xec:
+                return extOpcodeec(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xed:
+                return extOpcodeed(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xee:
+                return extOpcodeee(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xef:
+                return extOpcodeef(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf0:
+                return extOpcodef0(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf1:
+                return extOpcodef1(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf2:
+                return extOpcodef2(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf3:
+                return extOpcodef3(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf4:
+                return extOpcodef4(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf5:
+                return extOpcodef5(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf6:
+                return extOpcodef6(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf7:
+                return extOpcodef7(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf8:
+                return extOpcodef8(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xf9:
+                return extOpcodef9(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xfa:
+                return extOpcodefa(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xfb:
+                return extOpcodefb(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xfc:
+                return extOpcodefc(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xfd:
+                return extOpcodefd(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xfe:
+                return extOpcodefe(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            case 0xff:
+                return extOpcodeff(cpu, registers, addressSpace, interruptManager, args, cycle);
+
+            default:
+                throw new IllegalStateException(String.format("No command for 0xcb 0x%02x", opcode));
+        }
+    }
+
+    // NOP
+    public static boolean opcode00(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        return true;
+    }
+
+    // LD BC,d16
+    public static boolean opcode01(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.d16.read(registers, addressSpace, args);
+        Argument.BC.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD (BC),A
+    public static boolean opcode02(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._BC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC BC
+    public static boolean opcode03(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.BC.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.INC_DEC);
+                }
+                context = INC_D16.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.BC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC B
+    public static boolean opcode04(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = INC_D8.apply(registers.getFlags(), context);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // DEC B
+    public static boolean opcode05(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = DEC_D8.apply(registers.getFlags(), context);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD B,d8
+    public static boolean opcode06(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.d8.read(registers, addressSpace, args);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RLCA
+    public static boolean opcode07(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RLC_D8.apply(registers.getFlags(), context);
+        registers.getFlags().setZ(false);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD (a16),SP
+    public static boolean opcode08(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.SP.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                addressSpace.setByte(BitUtils.toWord(args), context & 0x00ff);
+                return false;
+
+            case 2:
+                addressSpace.setByte((BitUtils.toWord(args) + 1) & 0xffff, (context & 0xff00) >> 8);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // ADD HL,BC
+    public static boolean opcode09(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.HL.read(registers, addressSpace, args);
+                context = ADD_D16_D16.apply(registers.getFlags(), context, Argument.BC.read(registers, addressSpace, args));
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD A,(BC)
+    public static boolean opcode0a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._BC.read(registers, addressSpace, args);
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // DEC BC
+    public static boolean opcode0b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.BC.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.INC_DEC);
+                }
+                context = DEC_D16.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.BC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC C
+    public static boolean opcode0c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = INC_D8.apply(registers.getFlags(), context);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // DEC C
+    public static boolean opcode0d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = DEC_D8.apply(registers.getFlags(), context);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD C,d8
+    public static boolean opcode0e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.d8.read(registers, addressSpace, args);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RRCA
+    public static boolean opcode0f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RRC_D8.apply(registers.getFlags(), context);
+        registers.getFlags().setZ(false);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // STOP
+    public static boolean opcode10(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        return true;
+    }
+
+    // LD DE,d16
+    public static boolean opcode11(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.d16.read(registers, addressSpace, args);
+        Argument.DE.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD (DE),A
+    public static boolean opcode12(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._DE.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC DE
+    public static boolean opcode13(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.DE.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.INC_DEC);
+                }
+                context = INC_D16.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.DE.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC D
+    public static boolean opcode14(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = INC_D8.apply(registers.getFlags(), context);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // DEC D
+    public static boolean opcode15(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = DEC_D8.apply(registers.getFlags(), context);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD D,d8
+    public static boolean opcode16(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.d8.read(registers, addressSpace, args);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RLA
+    public static boolean opcode17(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RL_D8.apply(registers.getFlags(), context);
+        registers.getFlags().setZ(false);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // JR r8
+    public static boolean opcode18(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                context = ADD_D16_R8.apply(registers.getFlags(), context, Argument.r8.read(registers, addressSpace, args));
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // ADD HL,DE
+    public static boolean opcode19(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.HL.read(registers, addressSpace, args);
+                context = ADD_D16_D16.apply(registers.getFlags(), context, Argument.DE.read(registers, addressSpace, args));
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD A,(DE)
+    public static boolean opcode1a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._DE.read(registers, addressSpace, args);
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // DEC DE
+    public static boolean opcode1b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.DE.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.INC_DEC);
+                }
+                context = DEC_D16.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.DE.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC E
+    public static boolean opcode1c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = INC_D8.apply(registers.getFlags(), context);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // DEC E
+    public static boolean opcode1d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = DEC_D8.apply(registers.getFlags(), context);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD E,d8
+    public static boolean opcode1e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.d8.read(registers, addressSpace, args);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RRA
+    public static boolean opcode1f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RR_D8.apply(registers.getFlags(), context);
+        registers.getFlags().setZ(false);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // JR NZ,r8
+    public static boolean opcode20(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                if (registers.getFlags().isZ()) {
+                    return true;
+                }
+                context = ADD_D16_R8.apply(registers.getFlags(), context, Argument.r8.read(registers, addressSpace, args));
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD HL,d16
+    public static boolean opcode21(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.d16.read(registers, addressSpace, args);
+        Argument.HL.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD (HL+),A
+    public static boolean opcode22(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._HL.write(registers, addressSpace, args, context);
+                context = Argument.HL.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.LD_HL);
+                }
+                context = INC_D16.apply(registers.getFlags(), context);
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC HL
+    public static boolean opcode23(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.HL.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.INC_DEC);
+                }
+                context = INC_D16.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC H
+    public static boolean opcode24(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = INC_D8.apply(registers.getFlags(), context);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // DEC H
+    public static boolean opcode25(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = DEC_D8.apply(registers.getFlags(), context);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD H,d8
+    public static boolean opcode26(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.d8.read(registers, addressSpace, args);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // DAA
+    public static boolean opcode27(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = DAA_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // JR Z,r8
+    public static boolean opcode28(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                if (!registers.getFlags().isZ()) {
+                    return true;
+                }
+                context = ADD_D16_R8.apply(registers.getFlags(), context, Argument.r8.read(registers, addressSpace, args));
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // ADD HL,HL
+    public static boolean opcode29(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.HL.read(registers, addressSpace, args);
+                context = ADD_D16_D16.apply(registers.getFlags(), context, Argument.HL.read(registers, addressSpace, args));
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD A,(HL+)
+    public static boolean opcode2a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                Argument.A.write(registers, addressSpace, args, context);
+                context = Argument.HL.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.LD_HL);
+                }
+                context = INC_D16.apply(registers.getFlags(), context);
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // DEC HL
+    public static boolean opcode2b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.HL.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.INC_DEC);
+                }
+                context = DEC_D16.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC L
+    public static boolean opcode2c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = INC_D8.apply(registers.getFlags(), context);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // DEC L
+    public static boolean opcode2d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = DEC_D8.apply(registers.getFlags(), context);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD L,d8
+    public static boolean opcode2e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.d8.read(registers, addressSpace, args);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // CPL
+    public static boolean opcode2f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = CPL_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // JR NC,r8
+    public static boolean opcode30(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                if (registers.getFlags().isC()) {
+                    return true;
+                }
+                context = ADD_D16_R8.apply(registers.getFlags(), context, Argument.r8.read(registers, addressSpace, args));
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD SP,d16
+    public static boolean opcode31(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.d16.read(registers, addressSpace, args);
+        Argument.SP.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD (HL-),A
+    public static boolean opcode32(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._HL.write(registers, addressSpace, args, context);
+                context = Argument.HL.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.LD_HL);
+                }
+                context = DEC_D16.apply(registers.getFlags(), context);
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC SP
+    public static boolean opcode33(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.SP.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.INC_DEC);
+                }
+                context = INC_D16.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.SP.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC (HL)
+    public static boolean opcode34(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = INC_D8.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // DEC (HL)
+    public static boolean opcode35(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = DEC_D8.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD (HL),d8
+    public static boolean opcode36(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.d8.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SCF
+    public static boolean opcode37(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SCF_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // JR C,r8
+    public static boolean opcode38(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                if (!registers.getFlags().isC()) {
+                    return true;
+                }
+                context = ADD_D16_R8.apply(registers.getFlags(), context, Argument.r8.read(registers, addressSpace, args));
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // ADD HL,SP
+    public static boolean opcode39(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.HL.read(registers, addressSpace, args);
+                context = ADD_D16_D16.apply(registers.getFlags(), context, Argument.SP.read(registers, addressSpace, args));
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD A,(HL-)
+    public static boolean opcode3a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                Argument.A.write(registers, addressSpace, args, context);
+                context = Argument.HL.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.LD_HL);
+                }
+                context = DEC_D16.apply(registers.getFlags(), context);
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // DEC SP
+    public static boolean opcode3b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.SP.read(registers, addressSpace, args);
+                if (inOamArea(context)) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.INC_DEC);
+                }
+                context = DEC_D16.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.SP.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // INC A
+    public static boolean opcode3c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = INC_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // DEC A
+    public static boolean opcode3d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = DEC_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD A,d8
+    public static boolean opcode3e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.d8.read(registers, addressSpace, args);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // CCF
+    public static boolean opcode3f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = CCF_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD B,B
+    public static boolean opcode40(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD B,C
+    public static boolean opcode41(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD B,D
+    public static boolean opcode42(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD B,E
+    public static boolean opcode43(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD B,H
+    public static boolean opcode44(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD B,L
+    public static boolean opcode45(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD B,(HL)
+    public static boolean opcode46(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                Argument.B.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD B,A
+    public static boolean opcode47(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD C,B
+    public static boolean opcode48(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD C,C
+    public static boolean opcode49(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD C,D
+    public static boolean opcode4a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD C,E
+    public static boolean opcode4b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD C,H
+    public static boolean opcode4c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD C,L
+    public static boolean opcode4d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD C,(HL)
+    public static boolean opcode4e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                Argument.C.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD C,A
+    public static boolean opcode4f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD D,B
+    public static boolean opcode50(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD D,C
+    public static boolean opcode51(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD D,D
+    public static boolean opcode52(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD D,E
+    public static boolean opcode53(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD D,H
+    public static boolean opcode54(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD D,L
+    public static boolean opcode55(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD D,(HL)
+    public static boolean opcode56(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                Argument.D.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD D,A
+    public static boolean opcode57(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD E,B
+    public static boolean opcode58(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD E,C
+    public static boolean opcode59(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD E,D
+    public static boolean opcode5a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD E,E
+    public static boolean opcode5b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD E,H
+    public static boolean opcode5c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD E,L
+    public static boolean opcode5d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD E,(HL)
+    public static boolean opcode5e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                Argument.E.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD E,A
+    public static boolean opcode5f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD H,B
+    public static boolean opcode60(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD H,C
+    public static boolean opcode61(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD H,D
+    public static boolean opcode62(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD H,E
+    public static boolean opcode63(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD H,H
+    public static boolean opcode64(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD H,L
+    public static boolean opcode65(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD H,(HL)
+    public static boolean opcode66(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                Argument.H.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD H,A
+    public static boolean opcode67(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD L,B
+    public static boolean opcode68(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD L,C
+    public static boolean opcode69(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD L,D
+    public static boolean opcode6a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD L,E
+    public static boolean opcode6b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD L,H
+    public static boolean opcode6c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD L,L
+    public static boolean opcode6d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD L,(HL)
+    public static boolean opcode6e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                Argument.L.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD L,A
+    public static boolean opcode6f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD (HL),B
+    public static boolean opcode70(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.B.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD (HL),C
+    public static boolean opcode71(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.C.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD (HL),D
+    public static boolean opcode72(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.D.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD (HL),E
+    public static boolean opcode73(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.E.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD (HL),H
+    public static boolean opcode74(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.H.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD (HL),L
+    public static boolean opcode75(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.L.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // HALT
+    public static boolean opcode76(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        return true;
+    }
+
+    // LD (HL),A
+    public static boolean opcode77(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD A,B
+    public static boolean opcode78(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD A,C
+    public static boolean opcode79(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD A,D
+    public static boolean opcode7a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD A,E
+    public static boolean opcode7b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD A,H
+    public static boolean opcode7c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD A,L
+    public static boolean opcode7d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD A,(HL)
+    public static boolean opcode7e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD A,A
+    public static boolean opcode7f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADD B
+    public static boolean opcode80(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADD_D8_D8.apply(registers.getFlags(), context, Argument.B.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADD C
+    public static boolean opcode81(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADD_D8_D8.apply(registers.getFlags(), context, Argument.C.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADD D
+    public static boolean opcode82(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADD_D8_D8.apply(registers.getFlags(), context, Argument.D.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADD E
+    public static boolean opcode83(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADD_D8_D8.apply(registers.getFlags(), context, Argument.E.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADD H
+    public static boolean opcode84(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADD_D8_D8.apply(registers.getFlags(), context, Argument.H.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADD L
+    public static boolean opcode85(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADD_D8_D8.apply(registers.getFlags(), context, Argument.L.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADD (HL)
+    public static boolean opcode86(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                context = ADD_D8_D8.apply(registers.getFlags(), context, Argument._HL.read(registers, addressSpace, args));
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // ADD A
+    public static boolean opcode87(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADD_D8_D8.apply(registers.getFlags(), context, Argument.A.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADC B
+    public static boolean opcode88(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADC_D8_D8.apply(registers.getFlags(), context, Argument.B.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADC C
+    public static boolean opcode89(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADC_D8_D8.apply(registers.getFlags(), context, Argument.C.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADC D
+    public static boolean opcode8a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADC_D8_D8.apply(registers.getFlags(), context, Argument.D.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADC E
+    public static boolean opcode8b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADC_D8_D8.apply(registers.getFlags(), context, Argument.E.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADC H
+    public static boolean opcode8c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADC_D8_D8.apply(registers.getFlags(), context, Argument.H.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADC L
+    public static boolean opcode8d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADC_D8_D8.apply(registers.getFlags(), context, Argument.L.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // ADC (HL)
+    public static boolean opcode8e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                context = ADC_D8_D8.apply(registers.getFlags(), context, Argument._HL.read(registers, addressSpace, args));
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // ADC A
+    public static boolean opcode8f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADC_D8_D8.apply(registers.getFlags(), context, Argument.A.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SUB B
+    public static boolean opcode90(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SUB_D8_D8.apply(registers.getFlags(), context, Argument.B.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SUB C
+    public static boolean opcode91(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SUB_D8_D8.apply(registers.getFlags(), context, Argument.C.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SUB D
+    public static boolean opcode92(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SUB_D8_D8.apply(registers.getFlags(), context, Argument.D.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SUB E
+    public static boolean opcode93(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SUB_D8_D8.apply(registers.getFlags(), context, Argument.E.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SUB H
+    public static boolean opcode94(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SUB_D8_D8.apply(registers.getFlags(), context, Argument.H.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SUB L
+    public static boolean opcode95(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SUB_D8_D8.apply(registers.getFlags(), context, Argument.L.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SUB (HL)
+    public static boolean opcode96(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                context = SUB_D8_D8.apply(registers.getFlags(), context, Argument._HL.read(registers, addressSpace, args));
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SUB A
+    public static boolean opcode97(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SUB_D8_D8.apply(registers.getFlags(), context, Argument.A.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SBC B
+    public static boolean opcode98(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SBC_D8_D8.apply(registers.getFlags(), context, Argument.B.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SBC C
+    public static boolean opcode99(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SBC_D8_D8.apply(registers.getFlags(), context, Argument.C.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SBC D
+    public static boolean opcode9a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SBC_D8_D8.apply(registers.getFlags(), context, Argument.D.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SBC E
+    public static boolean opcode9b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SBC_D8_D8.apply(registers.getFlags(), context, Argument.E.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SBC H
+    public static boolean opcode9c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SBC_D8_D8.apply(registers.getFlags(), context, Argument.H.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SBC L
+    public static boolean opcode9d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SBC_D8_D8.apply(registers.getFlags(), context, Argument.L.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SBC (HL)
+    public static boolean opcode9e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                context = SBC_D8_D8.apply(registers.getFlags(), context, Argument._HL.read(registers, addressSpace, args));
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SBC A
+    public static boolean opcode9f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SBC_D8_D8.apply(registers.getFlags(), context, Argument.A.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // AND B
+    public static boolean opcodea0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = AND_D8_D8.apply(registers.getFlags(), context, Argument.B.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // AND C
+    public static boolean opcodea1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = AND_D8_D8.apply(registers.getFlags(), context, Argument.C.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // AND D
+    public static boolean opcodea2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = AND_D8_D8.apply(registers.getFlags(), context, Argument.D.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // AND E
+    public static boolean opcodea3(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = AND_D8_D8.apply(registers.getFlags(), context, Argument.E.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // AND H
+    public static boolean opcodea4(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = AND_D8_D8.apply(registers.getFlags(), context, Argument.H.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // AND L
+    public static boolean opcodea5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = AND_D8_D8.apply(registers.getFlags(), context, Argument.L.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // AND (HL)
+    public static boolean opcodea6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                context = AND_D8_D8.apply(registers.getFlags(), context, Argument._HL.read(registers, addressSpace, args));
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // AND A
+    public static boolean opcodea7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = AND_D8_D8.apply(registers.getFlags(), context, Argument.A.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // XOR B
+    public static boolean opcodea8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = XOR_D8_D8.apply(registers.getFlags(), context, Argument.B.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // XOR C
+    public static boolean opcodea9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = XOR_D8_D8.apply(registers.getFlags(), context, Argument.C.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // XOR D
+    public static boolean opcodeaa(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = XOR_D8_D8.apply(registers.getFlags(), context, Argument.D.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // XOR E
+    public static boolean opcodeab(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = XOR_D8_D8.apply(registers.getFlags(), context, Argument.E.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // XOR H
+    public static boolean opcodeac(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = XOR_D8_D8.apply(registers.getFlags(), context, Argument.H.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // XOR L
+    public static boolean opcodead(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = XOR_D8_D8.apply(registers.getFlags(), context, Argument.L.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // XOR (HL)
+    public static boolean opcodeae(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                context = XOR_D8_D8.apply(registers.getFlags(), context, Argument._HL.read(registers, addressSpace, args));
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // XOR A
+    public static boolean opcodeaf(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = XOR_D8_D8.apply(registers.getFlags(), context, Argument.A.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // OR B
+    public static boolean opcodeb0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = OR_D8_D8.apply(registers.getFlags(), context, Argument.B.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // OR C
+    public static boolean opcodeb1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = OR_D8_D8.apply(registers.getFlags(), context, Argument.C.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // OR D
+    public static boolean opcodeb2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = OR_D8_D8.apply(registers.getFlags(), context, Argument.D.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // OR E
+    public static boolean opcodeb3(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = OR_D8_D8.apply(registers.getFlags(), context, Argument.E.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // OR H
+    public static boolean opcodeb4(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = OR_D8_D8.apply(registers.getFlags(), context, Argument.H.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // OR L
+    public static boolean opcodeb5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = OR_D8_D8.apply(registers.getFlags(), context, Argument.L.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // OR (HL)
+    public static boolean opcodeb6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                context = OR_D8_D8.apply(registers.getFlags(), context, Argument._HL.read(registers, addressSpace, args));
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // OR A
+    public static boolean opcodeb7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = OR_D8_D8.apply(registers.getFlags(), context, Argument.A.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // CP B
+    public static boolean opcodeb8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = CP_D8_D8.apply(registers.getFlags(), context, Argument.B.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // CP C
+    public static boolean opcodeb9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = CP_D8_D8.apply(registers.getFlags(), context, Argument.C.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // CP D
+    public static boolean opcodeba(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = CP_D8_D8.apply(registers.getFlags(), context, Argument.D.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // CP E
+    public static boolean opcodebb(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = CP_D8_D8.apply(registers.getFlags(), context, Argument.E.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // CP H
+    public static boolean opcodebc(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = CP_D8_D8.apply(registers.getFlags(), context, Argument.H.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // CP L
+    public static boolean opcodebd(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = CP_D8_D8.apply(registers.getFlags(), context, Argument.L.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // CP (HL)
+    public static boolean opcodebe(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                context = CP_D8_D8.apply(registers.getFlags(), context, Argument._HL.read(registers, addressSpace, args));
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // CP A
+    public static boolean opcodebf(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = CP_D8_D8.apply(registers.getFlags(), context, Argument.A.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RET NZ
+    public static boolean opcodec0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                if (registers.getFlags().isZ()) {
+                    return true;
+                }
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_1);
+                }
+                context = addressSpace.getByte(registers.getSP());
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_2);
+                }
+                context = context | (addressSpace.getByte(registers.getSP()) << 8);
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 4:
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // POP BC
+    public static boolean opcodec1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_1);
+                }
+                context = addressSpace.getByte(registers.getSP());
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_2);
+                }
+                context = context | (addressSpace.getByte(registers.getSP()) << 8);
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                Argument.BC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // JP NZ,a16
+    public static boolean opcodec2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.a16.read(registers, addressSpace, args);
+                if (registers.getFlags().isZ()) {
+                    return true;
+                }
+                Argument.PC.write(registers, addressSpace, args, context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // JP a16
+    public static boolean opcodec3(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.a16.read(registers, addressSpace, args);
+                Argument.PC.write(registers, addressSpace, args, context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // CALL NZ,a16
+    public static boolean opcodec4(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                if (registers.getFlags().isZ()) {
+                    return true;
+                }
+                return false;
+
+            case 1:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                context = Argument.a16.read(registers, addressSpace, args);
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // PUSH BC
+    public static boolean opcodec5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument.BC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // ADD d8
+    public static boolean opcodec6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADD_D8_D8.apply(registers.getFlags(), context, Argument.d8.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RST 00H
+    public static boolean opcodec7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return false;
+
+            case 3:
+                context = 0x0000;
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RET Z
+    public static boolean opcodec8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                if (!registers.getFlags().isZ()) {
+                    return true;
+                }
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_1);
+                }
+                context = addressSpace.getByte(registers.getSP());
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_2);
+                }
+                context = context | (addressSpace.getByte(registers.getSP()) << 8);
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 4:
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RET
+    public static boolean opcodec9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_1);
+                }
+                context = addressSpace.getByte(registers.getSP());
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_2);
+                }
+                context = context | (addressSpace.getByte(registers.getSP()) << 8);
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 3:
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // JP Z,a16
+    public static boolean opcodeca(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.a16.read(registers, addressSpace, args);
+                if (!registers.getFlags().isZ()) {
+                    return true;
+                }
+                Argument.PC.write(registers, addressSpace, args, context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // CALL Z,a16
+    public static boolean opcodecc(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                if (!registers.getFlags().isZ()) {
+                    return true;
+                }
+                return false;
+
+            case 1:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                context = Argument.a16.read(registers, addressSpace, args);
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // CALL a16
+    public static boolean opcodecd(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                context = Argument.a16.read(registers, addressSpace, args);
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // ADC d8
+    public static boolean opcodece(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = ADC_D8_D8.apply(registers.getFlags(), context, Argument.d8.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RST 08H
+    public static boolean opcodecf(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return false;
+
+            case 3:
+                context = 0x0008;
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RET NC
+    public static boolean opcoded0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                if (registers.getFlags().isC()) {
+                    return true;
+                }
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_1);
+                }
+                context = addressSpace.getByte(registers.getSP());
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_2);
+                }
+                context = context | (addressSpace.getByte(registers.getSP()) << 8);
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 4:
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // POP DE
+    public static boolean opcoded1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_1);
+                }
+                context = addressSpace.getByte(registers.getSP());
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_2);
+                }
+                context = context | (addressSpace.getByte(registers.getSP()) << 8);
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                Argument.DE.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // JP NC,a16
+    public static boolean opcoded2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.a16.read(registers, addressSpace, args);
+                if (registers.getFlags().isC()) {
+                    return true;
+                }
+                Argument.PC.write(registers, addressSpace, args, context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // CALL NC,a16
+    public static boolean opcoded4(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                if (registers.getFlags().isC()) {
+                    return true;
+                }
+                return false;
+
+            case 1:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                context = Argument.a16.read(registers, addressSpace, args);
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // PUSH DE
+    public static boolean opcoded5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument.DE.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SUB d8
+    public static boolean opcoded6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SUB_D8_D8.apply(registers.getFlags(), context, Argument.d8.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RST 10H
+    public static boolean opcoded7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return false;
+
+            case 3:
+                context = 0x0010;
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RET C
+    public static boolean opcoded8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                if (!registers.getFlags().isC()) {
+                    return true;
+                }
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_1);
+                }
+                context = addressSpace.getByte(registers.getSP());
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_2);
+                }
+                context = context | (addressSpace.getByte(registers.getSP()) << 8);
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 4:
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RETI
+    public static boolean opcoded9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_1);
+                }
+                context = addressSpace.getByte(registers.getSP());
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_2);
+                }
+                context = context | (addressSpace.getByte(registers.getSP()) << 8);
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 3:
+                Argument.PC.write(registers, addressSpace, args, context);
+                interruptManager.enableInterrupts(false);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // JP C,a16
+    public static boolean opcodeda(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.a16.read(registers, addressSpace, args);
+                if (!registers.getFlags().isC()) {
+                    return true;
+                }
+                Argument.PC.write(registers, addressSpace, args, context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // CALL C,a16
+    public static boolean opcodedc(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                if (!registers.getFlags().isC()) {
+                    return true;
+                }
+                return false;
+
+            case 1:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                context = Argument.a16.read(registers, addressSpace, args);
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SBC d8
+    public static boolean opcodede(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SBC_D8_D8.apply(registers.getFlags(), context, Argument.d8.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RST 18H
+    public static boolean opcodedf(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return false;
+
+            case 3:
+                context = 0x0018;
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LDH (a8),A
+    public static boolean opcodee0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._a8.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // POP HL
+    public static boolean opcodee1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_1);
+                }
+                context = addressSpace.getByte(registers.getSP());
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_2);
+                }
+                context = context | (addressSpace.getByte(registers.getSP()) << 8);
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD (C),A
+    public static boolean opcodee2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._C.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // PUSH HL
+    public static boolean opcodee5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument.HL.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // AND d8
+    public static boolean opcodee6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = AND_D8_D8.apply(registers.getFlags(), context, Argument.d8.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RST 20H
+    public static boolean opcodee7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return false;
+
+            case 3:
+                context = 0x0020;
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // ADD SP,r8
+    public static boolean opcodee8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.SP.read(registers, addressSpace, args);
+                context = ADD_SP_D16_R8.apply(registers.getFlags(), context, Argument.r8.read(registers, addressSpace, args));
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                return false;
+
+            case 2:
+                Argument.SP.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // JP (HL)
+    public static boolean opcodee9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.HL.read(registers, addressSpace, args);
+        Argument.PC.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // LD (a16),A
+    public static boolean opcodeea(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.A.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument._a16.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // XOR d8
+    public static boolean opcodeee(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = XOR_D8_D8.apply(registers.getFlags(), context, Argument.d8.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RST 28H
+    public static boolean opcodeef(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return false;
+
+            case 3:
+                context = 0x0028;
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LDH A,(a8)
+    public static boolean opcodef0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._a8.read(registers, addressSpace, args);
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // POP AF
+    public static boolean opcodef1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_1);
+                }
+                context = addressSpace.getByte(registers.getSP());
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.POP_2);
+                }
+                context = context | (addressSpace.getByte(registers.getSP()) << 8);
+                registers.setSP(INC_D16.apply(registers.getFlags(), registers.getSP()));
+                Argument.AF.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD A,(C)
+    public static boolean opcodef2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._C.read(registers, addressSpace, args);
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // DI
+    public static boolean opcodef3(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        interruptManager.disableInterrupts(true);
+        return true;
+    }
+
+    // PUSH AF
+    public static boolean opcodef5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument.AF.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 3:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // OR d8
+    public static boolean opcodef6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = OR_D8_D8.apply(registers.getFlags(), context, Argument.d8.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RST 30H
+    public static boolean opcodef7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return false;
+
+            case 3:
+                context = 0x0030;
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD HL,SP+r8
+    public static boolean opcodef8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.SP.read(registers, addressSpace, args);
+                context = ADD_SP_D16_R8.apply(registers.getFlags(), context, Argument.r8.read(registers, addressSpace, args));
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                Argument.HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD SP,HL
+    public static boolean opcodef9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.HL.read(registers, addressSpace, args);
+                Argument.SP.write(registers, addressSpace, args, context);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // LD A,(a16)
+    public static boolean opcodefa(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._a16.read(registers, addressSpace, args);
+                Argument.A.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // EI
+    public static boolean opcodefb(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        interruptManager.enableInterrupts(true);
+        return true;
+    }
+
+    // CP d8
+    public static boolean opcodefe(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = CP_D8_D8.apply(registers.getFlags(), context, Argument.d8.read(registers, addressSpace, args));
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RST 38H
+    public static boolean opcodeff(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                context = Argument.PC.read(registers, addressSpace, args);
+                cpu.opContext = context;
+                return false;
+
+            case 1:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_1);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);
+                return false;
+
+            case 2:
+                if (inOamArea(registers.getSP())) {
+                    cpu.handleSpriteBug(SpriteBug.CorruptionType.PUSH_2);
+                }
+                registers.setSP(DEC_D16.apply(registers.getFlags(), registers.getSP()));
+                addressSpace.setByte(registers.getSP(), context & 0x00ff);
+                return false;
+
+            case 3:
+                context = 0x0038;
+                Argument.PC.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RLC B
+    public static boolean extOpcode00(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RLC_D8.apply(registers.getFlags(), context);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RLC C
+    public static boolean extOpcode01(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RLC_D8.apply(registers.getFlags(), context);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RLC D
+    public static boolean extOpcode02(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RLC_D8.apply(registers.getFlags(), context);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RLC E
+    public static boolean extOpcode03(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RLC_D8.apply(registers.getFlags(), context);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RLC H
+    public static boolean extOpcode04(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RLC_D8.apply(registers.getFlags(), context);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RLC L
+    public static boolean extOpcode05(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RLC_D8.apply(registers.getFlags(), context);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RLC (HL)
+    public static boolean extOpcode06(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RLC_D8.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RLC A
+    public static boolean extOpcode07(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RLC_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RRC B
+    public static boolean extOpcode08(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RRC_D8.apply(registers.getFlags(), context);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RRC C
+    public static boolean extOpcode09(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RRC_D8.apply(registers.getFlags(), context);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RRC D
+    public static boolean extOpcode0a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RRC_D8.apply(registers.getFlags(), context);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RRC E
+    public static boolean extOpcode0b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RRC_D8.apply(registers.getFlags(), context);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RRC H
+    public static boolean extOpcode0c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RRC_D8.apply(registers.getFlags(), context);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RRC L
+    public static boolean extOpcode0d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RRC_D8.apply(registers.getFlags(), context);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RRC (HL)
+    public static boolean extOpcode0e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RRC_D8.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RRC A
+    public static boolean extOpcode0f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RRC_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RL B
+    public static boolean extOpcode10(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RL_D8.apply(registers.getFlags(), context);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RL C
+    public static boolean extOpcode11(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RL_D8.apply(registers.getFlags(), context);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RL D
+    public static boolean extOpcode12(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RL_D8.apply(registers.getFlags(), context);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RL E
+    public static boolean extOpcode13(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RL_D8.apply(registers.getFlags(), context);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RL H
+    public static boolean extOpcode14(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RL_D8.apply(registers.getFlags(), context);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RL L
+    public static boolean extOpcode15(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RL_D8.apply(registers.getFlags(), context);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RL (HL)
+    public static boolean extOpcode16(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RL_D8.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RL A
+    public static boolean extOpcode17(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RL_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RR B
+    public static boolean extOpcode18(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RR_D8.apply(registers.getFlags(), context);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RR C
+    public static boolean extOpcode19(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RR_D8.apply(registers.getFlags(), context);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RR D
+    public static boolean extOpcode1a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RR_D8.apply(registers.getFlags(), context);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RR E
+    public static boolean extOpcode1b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RR_D8.apply(registers.getFlags(), context);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RR H
+    public static boolean extOpcode1c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RR_D8.apply(registers.getFlags(), context);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RR L
+    public static boolean extOpcode1d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RR_D8.apply(registers.getFlags(), context);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RR (HL)
+    public static boolean extOpcode1e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RR_D8.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RR A
+    public static boolean extOpcode1f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RR_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SLA B
+    public static boolean extOpcode20(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SLA_D8.apply(registers.getFlags(), context);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SLA C
+    public static boolean extOpcode21(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SLA_D8.apply(registers.getFlags(), context);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SLA D
+    public static boolean extOpcode22(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SLA_D8.apply(registers.getFlags(), context);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SLA E
+    public static boolean extOpcode23(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SLA_D8.apply(registers.getFlags(), context);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SLA H
+    public static boolean extOpcode24(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SLA_D8.apply(registers.getFlags(), context);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SLA L
+    public static boolean extOpcode25(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SLA_D8.apply(registers.getFlags(), context);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SLA (HL)
+    public static boolean extOpcode26(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SLA_D8.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SLA A
+    public static boolean extOpcode27(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SLA_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRA B
+    public static boolean extOpcode28(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SRA_D8.apply(registers.getFlags(), context);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRA C
+    public static boolean extOpcode29(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SRA_D8.apply(registers.getFlags(), context);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRA D
+    public static boolean extOpcode2a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SRA_D8.apply(registers.getFlags(), context);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRA E
+    public static boolean extOpcode2b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SRA_D8.apply(registers.getFlags(), context);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRA H
+    public static boolean extOpcode2c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SRA_D8.apply(registers.getFlags(), context);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRA L
+    public static boolean extOpcode2d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SRA_D8.apply(registers.getFlags(), context);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRA (HL)
+    public static boolean extOpcode2e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SRA_D8.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SRA A
+    public static boolean extOpcode2f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SRA_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SWAP B
+    public static boolean extOpcode30(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SWAP_D8.apply(registers.getFlags(), context);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SWAP C
+    public static boolean extOpcode31(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SWAP_D8.apply(registers.getFlags(), context);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SWAP D
+    public static boolean extOpcode32(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SWAP_D8.apply(registers.getFlags(), context);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SWAP E
+    public static boolean extOpcode33(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SWAP_D8.apply(registers.getFlags(), context);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SWAP H
+    public static boolean extOpcode34(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SWAP_D8.apply(registers.getFlags(), context);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SWAP L
+    public static boolean extOpcode35(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SWAP_D8.apply(registers.getFlags(), context);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SWAP (HL)
+    public static boolean extOpcode36(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SWAP_D8.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SWAP A
+    public static boolean extOpcode37(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SWAP_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRL B
+    public static boolean extOpcode38(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SRL_D8.apply(registers.getFlags(), context);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRL C
+    public static boolean extOpcode39(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SRL_D8.apply(registers.getFlags(), context);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRL D
+    public static boolean extOpcode3a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SRL_D8.apply(registers.getFlags(), context);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRL E
+    public static boolean extOpcode3b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SRL_D8.apply(registers.getFlags(), context);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRL H
+    public static boolean extOpcode3c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SRL_D8.apply(registers.getFlags(), context);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRL L
+    public static boolean extOpcode3d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SRL_D8.apply(registers.getFlags(), context);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SRL (HL)
+    public static boolean extOpcode3e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SRL_D8.apply(registers.getFlags(), context);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SRL A
+    public static boolean extOpcode3f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SRL_D8.apply(registers.getFlags(), context);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 0,B
+    public static boolean extOpcode40(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 0,C
+    public static boolean extOpcode41(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 0,D
+    public static boolean extOpcode42(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 0,E
+    public static boolean extOpcode43(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 0,H
+    public static boolean extOpcode44(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 0,L
+    public static boolean extOpcode45(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 0,(HL)
+    public static boolean extOpcode46(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                int value = addressSpace.getByte(registers.getHL());
+                registers.getFlags().setN(false);
+                registers.getFlags().setH(true);
+                registers.getFlags().setZ(!BitUtils.getBit(value, 0));
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // BIT 0,A
+    public static boolean extOpcode47(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 1,B
+    public static boolean extOpcode48(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 1,C
+    public static boolean extOpcode49(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 1,D
+    public static boolean extOpcode4a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 1,E
+    public static boolean extOpcode4b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 1,H
+    public static boolean extOpcode4c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 1,L
+    public static boolean extOpcode4d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 1,(HL)
+    public static boolean extOpcode4e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                int value = addressSpace.getByte(registers.getHL());
+                registers.getFlags().setN(false);
+                registers.getFlags().setH(true);
+                registers.getFlags().setZ(!BitUtils.getBit(value, 1));
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // BIT 1,A
+    public static boolean extOpcode4f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 2,B
+    public static boolean extOpcode50(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 2,C
+    public static boolean extOpcode51(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 2,D
+    public static boolean extOpcode52(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 2,E
+    public static boolean extOpcode53(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 2,H
+    public static boolean extOpcode54(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 2,L
+    public static boolean extOpcode55(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 2,(HL)
+    public static boolean extOpcode56(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                int value = addressSpace.getByte(registers.getHL());
+                registers.getFlags().setN(false);
+                registers.getFlags().setH(true);
+                registers.getFlags().setZ(!BitUtils.getBit(value, 2));
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // BIT 2,A
+    public static boolean extOpcode57(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 3,B
+    public static boolean extOpcode58(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 3,C
+    public static boolean extOpcode59(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 3,D
+    public static boolean extOpcode5a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 3,E
+    public static boolean extOpcode5b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 3,H
+    public static boolean extOpcode5c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 3,L
+    public static boolean extOpcode5d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 3,(HL)
+    public static boolean extOpcode5e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                int value = addressSpace.getByte(registers.getHL());
+                registers.getFlags().setN(false);
+                registers.getFlags().setH(true);
+                registers.getFlags().setZ(!BitUtils.getBit(value, 3));
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // BIT 3,A
+    public static boolean extOpcode5f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 4,B
+    public static boolean extOpcode60(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 4,C
+    public static boolean extOpcode61(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 4,D
+    public static boolean extOpcode62(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 4,E
+    public static boolean extOpcode63(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 4,H
+    public static boolean extOpcode64(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 4,L
+    public static boolean extOpcode65(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 4,(HL)
+    public static boolean extOpcode66(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                int value = addressSpace.getByte(registers.getHL());
+                registers.getFlags().setN(false);
+                registers.getFlags().setH(true);
+                registers.getFlags().setZ(!BitUtils.getBit(value, 4));
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // BIT 4,A
+    public static boolean extOpcode67(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 5,B
+    public static boolean extOpcode68(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 5,C
+    public static boolean extOpcode69(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 5,D
+    public static boolean extOpcode6a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 5,E
+    public static boolean extOpcode6b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 5,H
+    public static boolean extOpcode6c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 5,L
+    public static boolean extOpcode6d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 5,(HL)
+    public static boolean extOpcode6e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                int value = addressSpace.getByte(registers.getHL());
+                registers.getFlags().setN(false);
+                registers.getFlags().setH(true);
+                registers.getFlags().setZ(!BitUtils.getBit(value, 5));
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // BIT 5,A
+    public static boolean extOpcode6f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 6,B
+    public static boolean extOpcode70(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 6,C
+    public static boolean extOpcode71(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 6,D
+    public static boolean extOpcode72(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 6,E
+    public static boolean extOpcode73(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 6,H
+    public static boolean extOpcode74(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 6,L
+    public static boolean extOpcode75(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 6,(HL)
+    public static boolean extOpcode76(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                int value = addressSpace.getByte(registers.getHL());
+                registers.getFlags().setN(false);
+                registers.getFlags().setH(true);
+                registers.getFlags().setZ(!BitUtils.getBit(value, 6));
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // BIT 6,A
+    public static boolean extOpcode77(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 7,B
+    public static boolean extOpcode78(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 7,C
+    public static boolean extOpcode79(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 7,D
+    public static boolean extOpcode7a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 7,E
+    public static boolean extOpcode7b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 7,H
+    public static boolean extOpcode7c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 7,L
+    public static boolean extOpcode7d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // BIT 7,(HL)
+    public static boolean extOpcode7e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                int value = addressSpace.getByte(registers.getHL());
+                registers.getFlags().setN(false);
+                registers.getFlags().setH(true);
+                registers.getFlags().setZ(!BitUtils.getBit(value, 7));
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // BIT 7,A
+    public static boolean extOpcode7f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = BIT_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 0,B
+    public static boolean extOpcode80(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 0,C
+    public static boolean extOpcode81(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 0,D
+    public static boolean extOpcode82(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 0,E
+    public static boolean extOpcode83(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 0,H
+    public static boolean extOpcode84(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 0,L
+    public static boolean extOpcode85(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 0,(HL)
+    public static boolean extOpcode86(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RES_D8_D8.apply(registers.getFlags(), context, 0);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RES 0,A
+    public static boolean extOpcode87(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 1,B
+    public static boolean extOpcode88(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 1,C
+    public static boolean extOpcode89(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 1,D
+    public static boolean extOpcode8a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 1,E
+    public static boolean extOpcode8b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 1,H
+    public static boolean extOpcode8c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 1,L
+    public static boolean extOpcode8d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 1,(HL)
+    public static boolean extOpcode8e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RES_D8_D8.apply(registers.getFlags(), context, 1);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RES 1,A
+    public static boolean extOpcode8f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 2,B
+    public static boolean extOpcode90(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 2,C
+    public static boolean extOpcode91(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 2,D
+    public static boolean extOpcode92(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 2,E
+    public static boolean extOpcode93(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 2,H
+    public static boolean extOpcode94(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 2,L
+    public static boolean extOpcode95(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 2,(HL)
+    public static boolean extOpcode96(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RES_D8_D8.apply(registers.getFlags(), context, 2);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RES 2,A
+    public static boolean extOpcode97(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 3,B
+    public static boolean extOpcode98(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 3,C
+    public static boolean extOpcode99(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 3,D
+    public static boolean extOpcode9a(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 3,E
+    public static boolean extOpcode9b(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 3,H
+    public static boolean extOpcode9c(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 3,L
+    public static boolean extOpcode9d(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 3,(HL)
+    public static boolean extOpcode9e(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RES_D8_D8.apply(registers.getFlags(), context, 3);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RES 3,A
+    public static boolean extOpcode9f(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 4,B
+    public static boolean extOpcodea0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 4,C
+    public static boolean extOpcodea1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 4,D
+    public static boolean extOpcodea2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 4,E
+    public static boolean extOpcodea3(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 4,H
+    public static boolean extOpcodea4(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 4,L
+    public static boolean extOpcodea5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 4,(HL)
+    public static boolean extOpcodea6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RES_D8_D8.apply(registers.getFlags(), context, 4);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RES 4,A
+    public static boolean extOpcodea7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 5,B
+    public static boolean extOpcodea8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 5,C
+    public static boolean extOpcodea9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 5,D
+    public static boolean extOpcodeaa(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 5,E
+    public static boolean extOpcodeab(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 5,H
+    public static boolean extOpcodeac(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 5,L
+    public static boolean extOpcodead(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 5,(HL)
+    public static boolean extOpcodeae(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RES_D8_D8.apply(registers.getFlags(), context, 5);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RES 5,A
+    public static boolean extOpcodeaf(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 6,B
+    public static boolean extOpcodeb0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 6,C
+    public static boolean extOpcodeb1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 6,D
+    public static boolean extOpcodeb2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 6,E
+    public static boolean extOpcodeb3(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 6,H
+    public static boolean extOpcodeb4(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 6,L
+    public static boolean extOpcodeb5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 6,(HL)
+    public static boolean extOpcodeb6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RES_D8_D8.apply(registers.getFlags(), context, 6);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RES 6,A
+    public static boolean extOpcodeb7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 7,B
+    public static boolean extOpcodeb8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 7,C
+    public static boolean extOpcodeb9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 7,D
+    public static boolean extOpcodeba(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 7,E
+    public static boolean extOpcodebb(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 7,H
+    public static boolean extOpcodebc(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 7,L
+    public static boolean extOpcodebd(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // RES 7,(HL)
+    public static boolean extOpcodebe(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = RES_D8_D8.apply(registers.getFlags(), context, 7);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // RES 7,A
+    public static boolean extOpcodebf(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = RES_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 0,B
+    public static boolean extOpcodec0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 0,C
+    public static boolean extOpcodec1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 0,D
+    public static boolean extOpcodec2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 0,E
+    public static boolean extOpcodec3(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 0,H
+    public static boolean extOpcodec4(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 0,L
+    public static boolean extOpcodec5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 0,(HL)
+    public static boolean extOpcodec6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SET_D8_D8.apply(registers.getFlags(), context, 0);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SET 0,A
+    public static boolean extOpcodec7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 0);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 1,B
+    public static boolean extOpcodec8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 1,C
+    public static boolean extOpcodec9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 1,D
+    public static boolean extOpcodeca(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 1,E
+    public static boolean extOpcodecb(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 1,H
+    public static boolean extOpcodecc(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 1,L
+    public static boolean extOpcodecd(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 1,(HL)
+    public static boolean extOpcodece(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SET_D8_D8.apply(registers.getFlags(), context, 1);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SET 1,A
+    public static boolean extOpcodecf(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 1);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 2,B
+    public static boolean extOpcoded0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 2,C
+    public static boolean extOpcoded1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 2,D
+    public static boolean extOpcoded2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 2,E
+    public static boolean extOpcoded3(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 2,H
+    public static boolean extOpcoded4(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 2,L
+    public static boolean extOpcoded5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 2,(HL)
+    public static boolean extOpcoded6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SET_D8_D8.apply(registers.getFlags(), context, 2);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SET 2,A
+    public static boolean extOpcoded7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 2);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 3,B
+    public static boolean extOpcoded8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 3,C
+    public static boolean extOpcoded9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 3,D
+    public static boolean extOpcodeda(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 3,E
+    public static boolean extOpcodedb(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 3,H
+    public static boolean extOpcodedc(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 3,L
+    public static boolean extOpcodedd(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 3,(HL)
+    public static boolean extOpcodede(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SET_D8_D8.apply(registers.getFlags(), context, 3);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SET 3,A
+    public static boolean extOpcodedf(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 3);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 4,B
+    public static boolean extOpcodee0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 4,C
+    public static boolean extOpcodee1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 4,D
+    public static boolean extOpcodee2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 4,E
+    public static boolean extOpcodee3(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 4,H
+    public static boolean extOpcodee4(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 4,L
+    public static boolean extOpcodee5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 4,(HL)
+    public static boolean extOpcodee6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SET_D8_D8.apply(registers.getFlags(), context, 4);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SET 4,A
+    public static boolean extOpcodee7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 4);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 5,B
+    public static boolean extOpcodee8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 5,C
+    public static boolean extOpcodee9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 5,D
+    public static boolean extOpcodeea(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 5,E
+    public static boolean extOpcodeeb(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 5,H
+    public static boolean extOpcodeec(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 5,L
+    public static boolean extOpcodeed(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 5,(HL)
+    public static boolean extOpcodeee(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SET_D8_D8.apply(registers.getFlags(), context, 5);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SET 5,A
+    public static boolean extOpcodeef(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 5);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 6,B
+    public static boolean extOpcodef0(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 6,C
+    public static boolean extOpcodef1(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 6,D
+    public static boolean extOpcodef2(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 6,E
+    public static boolean extOpcodef3(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 6,H
+    public static boolean extOpcodef4(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 6,L
+    public static boolean extOpcodef5(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 6,(HL)
+    public static boolean extOpcodef6(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SET_D8_D8.apply(registers.getFlags(), context, 6);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SET 6,A
+    public static boolean extOpcodef7(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 6);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 7,B
+    public static boolean extOpcodef8(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.B.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.B.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 7,C
+    public static boolean extOpcodef9(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.C.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.C.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 7,D
+    public static boolean extOpcodefa(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.D.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.D.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 7,E
+    public static boolean extOpcodefb(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.E.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.E.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 7,H
+    public static boolean extOpcodefc(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.H.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.H.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 7,L
+    public static boolean extOpcodefd(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.L.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.L.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    // SET 7,(HL)
+    public static boolean extOpcodefe(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        switch (cycle) {
+            case 0:
+                return false;
+
+            case 1:
+                context = Argument._HL.read(registers, addressSpace, args);
+                context = SET_D8_D8.apply(registers.getFlags(), context, 7);
+                cpu.opContext = context;
+                return false;
+
+            case 2:
+                Argument._HL.write(registers, addressSpace, args, context);
+                return true;
+
+            default:
+                throw new IllegalStateException("Invalid cycle " + cycle);
+        }
+    }
+
+    // SET 7,A
+    public static boolean extOpcodeff(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle) {
+        int context = cpu.opContext;
+        context = Argument.A.read(registers, addressSpace, args);
+        context = SET_D8_D8.apply(registers.getFlags(), context, 7);
+        Argument.A.write(registers, addressSpace, args, context);
+        return true;
+    }
+
+    private static boolean inOamArea(int address) {
+        return address >= 0xfe00 && address <= 0xfeff;
+    }
+}
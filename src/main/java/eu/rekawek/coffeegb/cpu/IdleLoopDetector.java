@@ -0,0 +1,208 @@
+package eu.rekawek.coffeegb.cpu;
+
+import eu.rekawek.coffeegb.AddressSpace;
+
+import static eu.rekawek.coffeegb.cpu.BitUtils.toSigned;
+import static eu.rekawek.coffeegb.cpu.BitUtils.toWord;
+
+public class IdleLoopDetector {
+
+    private static final int MAX_LOOP_LENGTH = 0x20;
+
+    private static final int DIV = 0xff04;
+
+    private static final int IF = 0xff0f;
+
+    private static final int STAT = 0xff41;
+
+    private static final int LY = 0xff44;
+
+    private static final int[] POLLED_REGISTERS = {DIV, IF, STAT, LY};
+
+    private final AddressSpace addressSpace;
+
+    private final Registers registers;
+
+    private final int[] savedRegisters = new int[5];
+
+    private final int[] savedPolledRegisters = new int[POLLED_REGISTERS.length];
+
+    private int previousPc = -1;
+
+    private int loopStart = -1;
+
+    private boolean idleLoop;
+
+    private boolean pollingDiv;
+
+    private int iterationTicks;
+
+    private int ticksSinceLoopStart;
+
+    private long skippedTicks;
+
+    public IdleLoopDetector(AddressSpace addressSpace, Registers registers) {
+        this.addressSpace = addressSpace;
+        this.registers = registers;
+    }
+
+    // returns the length of the loop iteration if the CPU is in a confirmed idle loop
+    public int onInstructionFinished(int ticks) {
+        int pc = registers.getPC();
+        int previousPc = this.previousPc;
+        this.previousPc = pc;
+        ticksSinceLoopStart += ticks;
+
+        if (pc == loopStart) {
+            boolean repeated = idleLoop && ticksSinceLoopStart == iterationTicks && !registersChanged() && !polledRegistersChanged();
+            iterationTicks = ticksSinceLoopStart;
+            ticksSinceLoopStart = 0;
+            saveRegisters();
+            return repeated ? iterationTicks : 0;
+        } else if (pc < previousPc && previousPc - pc < MAX_LOOP_LENGTH) {
+            loopStart = pc;
+            idleLoop = isIdleLoop(pc);
+            iterationTicks = -1;
+            ticksSinceLoopStart = 0;
+            saveRegisters();
+        }
+        return 0;
+    }
+
+    // forgets the current loop, eg. after the state was restored
+    public void reset() {
+        previousPc = -1;
+        loopStart = -1;
+        idleLoop = false;
+        pollingDiv = false;
+    }
+
+    public boolean isPollingDiv() {
+        return pollingDiv;
+    }
+
+    public void onTicksSkipped(int ticks) {
+        skippedTicks += ticks;
+    }
+
+    public long getSkippedTicks() {
+        return skippedTicks;
+    }
+
+    private void saveRegisters() {
+        savedRegisters[0] = registers.getAF();
+        savedRegisters[1] = registers.getBC();
+        savedRegisters[2] = registers.getDE();
+        savedRegisters[3] = registers.getHL();
+        savedRegisters[4] = registers.getSP();
+        if (idleLoop) {
+            for (int i = 0; i < POLLED_REGISTERS.length; i++) {
+                savedPolledRegisters[i] = addressSpace.getByte(POLLED_REGISTERS[i]);
+            }
+        }
+    }
+
+    // the values read during the last iteration should be still valid
+    private boolean polledRegistersChanged() {
+        for (int i = 0; i < POLLED_REGISTERS.length; i++) {
+            if (savedPolledRegisters[i] != addressSpace.getByte(POLLED_REGISTERS[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean registersChanged() {
+        return savedRegisters[0] != registers.getAF()
+                || savedRegisters[1] != registers.getBC()
+                || savedRegisters[2] != registers.getDE()
+                || savedRegisters[3] != registers.getHL()
+                || savedRegisters[4] != registers.getSP();
+    }
+
+    // the loop may only read the polled registers, modify A and flags and jump
+    private boolean isIdleLoop(int start) {
+        if (!isCodeMemory(start)) {
+            return false;
+        }
+        pollingDiv = false;
+        int pc = start;
+        while (pc < start + MAX_LOOP_LENGTH) {
+            int opcode = addressSpace.getByte(pc);
+            int length;
+            if (opcode == 0x18 || opcode == 0x20 || opcode == 0x28 || opcode == 0x30 || opcode == 0x38) { // jr
+                int target = (pc + 2 + toSigned(addressSpace.getByte(pc + 1))) & 0xffff;
+                if (target == start) {
+                    return true;
+                } else if (opcode == 0x18 || target < pc) {
+                    return false;
+                }
+                length = 2;
+            } else if (opcode == 0xc3 || opcode == 0xc2 || opcode == 0xca || opcode == 0xd2 || opcode == 0xda) { // jp
+                int target = toWord(addressSpace.getByte(pc + 2), addressSpace.getByte(pc + 1));
+                if (target == start) {
+                    return true;
+                } else if (opcode == 0xc3 || target < pc) {
+                    return false;
+                }
+                length = 3;
+            } else if (opcode == 0xf0) { // ldh a,(n)
+                if (!isPolled(0xff00 + addressSpace.getByte(pc + 1))) {
+                    return false;
+                }
+                length = 2;
+            } else if (opcode == 0xfa) { // ld a,(nn)
+                if (!isPolled(toWord(addressSpace.getByte(pc + 2), addressSpace.getByte(pc + 1)))) {
+                    return false;
+                }
+                length = 3;
+            } else if (opcode == 0xf2) { // ld a,(c)
+                if (!isPolled(0xff00 + registers.getC())) {
+                    return false;
+                }
+                length = 1;
+            } else if (opcode == 0x0a || opcode == 0x1a) { // ld a,(bc), ld a,(de)
+                if (!isPolled(opcode == 0x0a ? registers.getBC() : registers.getDE())) {
+                    return false;
+                }
+                length = 1;
+            } else if (opcode == 0x7e || opcode == 0xa6 || opcode == 0xae || opcode == 0xb6 || opcode == 0xbe) { // (hl)
+                if (!isPolled(registers.getHL())) {
+                    return false;
+                }
+                length = 1;
+            } else if ((opcode >= 0x78 && opcode <= 0x7f) || (opcode >= 0xa0 && opcode <= 0xbf) || opcode == 0x00) { // ld a,r, and/xor/or/cp r, nop
+                length = 1;
+            } else if (opcode == 0xe6 || opcode == 0xee || opcode == 0xf6 || opcode == 0xfe) { // and/xor/or/cp n
+                length = 2;
+            } else if (opcode == 0xcb) {
+                int extOpcode = addressSpace.getByte(pc + 1);
+                if (extOpcode < 0x40 || extOpcode > 0x7f) { // bit b,r
+                    return false;
+                }
+                if ((extOpcode & 0x07) == 0x06 && !isPolled(registers.getHL())) {
+                    return false;
+                }
+                length = 2;
+            } else {
+                return false;
+            }
+            pc += length;
+        }
+        return false;
+    }
+
+    private boolean isPolled(int address) {
+        if (address == DIV) {
+            pollingDiv = true;
+            return true;
+        }
+        return address == IF || address == STAT || address == LY;
+    }
+
+    private static boolean isCodeMemory(int address) {
+        return address < 0x8000 - MAX_LOOP_LENGTH
+                || (address >= 0xc000 && address < 0xe000 - MAX_LOOP_LENGTH)
+                || (address >= 0xff80 && address < 0xffff - MAX_LOOP_LENGTH);
+    }
+}
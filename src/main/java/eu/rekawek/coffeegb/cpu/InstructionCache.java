@@ -0,0 +1,131 @@
+package eu.rekawek.coffeegb.cpu;
+
+import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.cpu.opcode.Opcode;
+import eu.rekawek.coffeegb.memory.cart.Cartridge;
+
+import java.util.Arrays;
+
+// keeps the decoded instructions from ROM, WRAM bank 0 and HRAM, so the Cpu doesn't need to go through the Mmu
+// to fetch them; the ROM entries are kept per bank
+public class InstructionCache {
+
+    private static final int MAX_ROM_BANKS = 0x200;
+
+    private static final DecodedInstruction NOT_CACHEABLE = new DecodedInstruction(0, 0, null, null, 0);
+
+    private final AddressSpace addressSpace;
+
+    private final Cartridge cartridge;
+
+    private final DecodedInstruction[][] romBanks = new DecodedInstruction[MAX_ROM_BANKS][];
+
+    private final DecodedInstruction[] ram = new DecodedInstruction[0x10000];
+
+    private DecodedInstruction[] lowRom;
+
+    private DecodedInstruction[] highRom;
+
+    public InstructionCache(AddressSpace addressSpace, Cartridge cartridge) {
+        this.addressSpace = addressSpace;
+        this.cartridge = cartridge;
+        updateBanks();
+    }
+
+    // returns null if the instruction can't be cached
+    public DecodedInstruction get(int address) {
+        DecodedInstruction[] entries;
+        int offset;
+        int limit;
+        if (address < 0x4000) {
+            entries = lowRom;
+            offset = address;
+            limit = 0x4000;
+        } else if (address < 0x8000) {
+            entries = highRom;
+            offset = address - 0x4000;
+            limit = 0x8000;
+        } else if (address >= 0xc000 && address < 0xd000) {
+            entries = ram;
+            offset = address;
+            limit = 0xd000;
+        } else if (address >= 0xff80 && address < 0xffff) {
+            entries = ram;
+            offset = address;
+            limit = 0xffff;
+        } else {
+            return null;
+        }
+        if (entries == null) {
+            return null;
+        }
+        DecodedInstruction instruction = entries[offset];
+        if (instruction == null) {
+            instruction = decode(address, limit);
+            entries[offset] = instruction;
+        }
+        return instruction == NOT_CACHEABLE ? null : instruction;
+    }
+
+    // the writes to the ROM area are the MBC register writes, which may switch the banks
+    public void onMemoryWrite(int address) {
+        if (address < 0x8000 || address == 0xff50) {
+            updateBanks();
+        } else if (address >= 0xc000) {
+            for (int i = Math.max(0xc000, address - 2); i <= address; i++) {
+                DecodedInstruction instruction = ram[i];
+                if (instruction != null && i + Math.max(instruction.getLength(), 1) > address) {
+                    ram[i] = null;
+                }
+            }
+        }
+    }
+
+    // drops the RAM entries and maps the current ROM banks again, after the memory was replaced without the writes
+    public void invalidate() {
+        Arrays.fill(ram, 0xc000, ram.length, null);
+        updateBanks();
+    }
+
+    private void updateBanks() {
+        lowRom = getBank(cartridge.getRomBank(0x0000));
+        highRom = getBank(cartridge.getRomBank(0x4000));
+    }
+
+    private DecodedInstruction[] getBank(int bank) {
+        if (bank < 0 || bank >= MAX_ROM_BANKS) {
+            return null;
+        }
+        if (romBanks[bank] == null) {
+            romBanks[bank] = new DecodedInstruction[0x4000];
+        }
+        return romBanks[bank];
+    }
+
+    private DecodedInstruction decode(int address, int limit) {
+        int opcode1 = addressSpace.getByte(address);
+        int opcode2 = 0;
+        int length = 1;
+        Opcode opcode;
+        if (opcode1 == 0xcb) {
+            if (address + 1 >= limit) {
+                return NOT_CACHEABLE;
+            }
+            opcode2 = addressSpace.getByte(address + 1);
+            opcode = Opcodes.EXT_COMMANDS.get(opcode2);
+            length++;
+        } else if (opcode1 == 0x10) {
+            return NOT_CACHEABLE;
+        } else {
+            opcode = Opcodes.COMMANDS.get(opcode1);
+        }
+        if (opcode == null || address + length + opcode.getOperandLength() > limit) {
+            return NOT_CACHEABLE;
+        }
+        int[] operands = new int[opcode.getOperandLength()];
+        for (int i = 0; i < operands.length; i++) {
+            operands[i] = addressSpace.getByte(address + length + i);
+        }
+        return new DecodedInstruction(opcode1, opcode2, opcode, operands, length + operands.length);
+    }
+}
@@ -1,8 +1,11 @@
 package eu.rekawek.coffeegb.cpu;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 
-public class InterruptManager implements AddressSpace {
+import java.nio.ByteBuffer;
+
+public class InterruptManager implements AddressSpace, Snapshotable {
 
     public enum InterruptType {
         VBlank(0x0040), LCDC(0x0048), Timer(0x0050), Serial(0x0058), P10_13(0x0060);
@@ -122,4 +125,22 @@ public class InterruptManager implements AddressSpace {
                 return 0xff;
         }
     }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        Snapshotable.putBoolean(buffer, ime);
+        buffer.put((byte) interruptFlag);
+        buffer.put((byte) interruptEnabled);
+        buffer.put((byte) pendingEnableInterrupts);
+        buffer.put((byte) pendingDisableInterrupts);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        ime = Snapshotable.getBoolean(buffer);
+        interruptFlag = buffer.get() & 0xff;
+        interruptEnabled = buffer.get() & 0xff;
+        pendingEnableInterrupts = buffer.get();
+        pendingDisableInterrupts = buffer.get();
+    }
 }
@@ -1,11 +1,15 @@
 package eu.rekawek.coffeegb.cpu;
 
+import eu.rekawek.coffeegb.Snapshotable;
+
+import java.nio.ByteBuffer;
+
 import static eu.rekawek.coffeegb.cpu.BitUtils.checkByteArgument;
 import static eu.rekawek.coffeegb.cpu.BitUtils.checkWordArgument;
 import static eu.rekawek.coffeegb.cpu.BitUtils.getLSB;
 import static eu.rekawek.coffeegb.cpu.BitUtils.getMSB;
 
-public class Registers {
+public class Registers implements Snapshotable {
     private int a, b, c, d, e, h, l;
 
     private int sp;
@@ -151,6 +155,26 @@ public class Registers {
         sp = (sp + 1) & 0xffff;
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.putShort((short) getAF());
+        buffer.putShort((short) getBC());
+        buffer.putShort((short) getDE());
+        buffer.putShort((short) getHL());
+        buffer.putShort((short) sp);
+        buffer.putShort((short) pc);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        setAF(buffer.getShort() & 0xffff);
+        setBC(buffer.getShort() & 0xffff);
+        setDE(buffer.getShort() & 0xffff);
+        setHL(buffer.getShort() & 0xffff);
+        sp = buffer.getShort() & 0xffff;
+        pc = buffer.getShort() & 0xffff;
+    }
+
     @Override
     public String toString() {
         return String.format("AF=%04x, BC=%04x, DE=%04x, HL=%04x, SP=%04x, PC=%04x, %s", getAF(), getBC(), getDE(), getHL(), getSP(), getPC(), getFlags().toString());
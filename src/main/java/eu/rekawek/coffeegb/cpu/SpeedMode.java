@@ -1,13 +1,20 @@
 package eu.rekawek.coffeegb.cpu;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 
-public class SpeedMode implements AddressSpace {
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SpeedMode implements AddressSpace, Snapshotable {
 
     private boolean currentSpeed;
 
     private boolean prepareSpeedSwitch;
 
+    private final List<Runnable> switchListeners = new ArrayList<>();
+
     @Override
     public boolean accepts(int address) {
         return address == 0xff4d;
@@ -27,6 +34,7 @@ public class SpeedMode implements AddressSpace {
         if (prepareSpeedSwitch) {
             currentSpeed = !currentSpeed;
             prepareSpeedSwitch = false;
+            switchListeners.forEach(Runnable::run);
             return true;
         } else {
             return false;
@@ -36,4 +44,21 @@ public class SpeedMode implements AddressSpace {
     public int getSpeedMode() {
         return currentSpeed ? 2 : 1;
     }
+
+    public void registerSwitchListener(Runnable switchListener) {
+        switchListeners.add(switchListener);
+    }
+
+    // the listeners aren't notified, the components keep their own copy of the speed in their state
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        Snapshotable.putBoolean(buffer, currentSpeed);
+        Snapshotable.putBoolean(buffer, prepareSpeedSwitch);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        currentSpeed = Snapshotable.getBoolean(buffer);
+        prepareSpeedSwitch = Snapshotable.getBoolean(buffer);
+    }
 }
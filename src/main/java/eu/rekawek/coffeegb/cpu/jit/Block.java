@@ -0,0 +1,47 @@
+package eu.rekawek.coffeegb.cpu.jit;
+
+public class Block {
+
+    private final int address;
+
+    private final int length;
+
+    private final int instructions;
+
+    private final int maxCycles;
+
+    private final BlockCode code;
+
+    Block(int address, int length, int instructions, int maxCycles, BlockCode code) {
+        this.address = address;
+        this.length = length;
+        this.instructions = instructions;
+        this.maxCycles = maxCycles;
+        this.code = code;
+    }
+
+    public int getAddress() {
+        return address;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getInstructions() {
+        return instructions;
+    }
+
+    public int getMaxCycles() {
+        return maxCycles;
+    }
+
+    BlockCode getCode() {
+        return code;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Block[%04x-%04x, %d instructions]", address, address + length - 1, instructions);
+    }
+}
@@ -0,0 +1,146 @@
+package eu.rekawek.coffeegb.cpu.jit;
+
+import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.cpu.Cpu;
+import eu.rekawek.coffeegb.cpu.InterruptManager;
+import eu.rekawek.coffeegb.memory.cart.Cartridge;
+
+import java.util.Arrays;
+
+public class BlockCache {
+
+    private static final int COMPILE_THRESHOLD = 1000;
+
+    private static final int NOT_COMPILABLE = Integer.MIN_VALUE;
+
+    private static final int MAX_ROM_BANKS = 0x200;
+
+    private final Cpu cpu;
+
+    private final AddressSpace addressSpace;
+
+    private final InterruptManager interruptManager;
+
+    private final Cartridge cartridge;
+
+    private final BlockCompiler compiler;
+
+    private final Block[][] romBlocks = new Block[MAX_ROM_BANKS][];
+
+    private final int[][] romCounters = new int[MAX_ROM_BANKS][];
+
+    private final Block[] ramBlocks = new Block[0x10000];
+
+    private final int[] ramCounters = new int[0x10000];
+
+    // number of RAM blocks containing the given address
+    private final int[] ramCoverage = new int[0x10000];
+
+    private final int[] args = new int[2];
+
+    private long hits;
+
+    private long compiled;
+
+    private long invalidated;
+
+    public BlockCache(Cpu cpu, AddressSpace addressSpace, InterruptManager interruptManager, Cartridge cartridge) {
+        this.cpu = cpu;
+        this.addressSpace = addressSpace;
+        this.interruptManager = interruptManager;
+        this.cartridge = cartridge;
+        this.compiler = new BlockCompiler(addressSpace);
+    }
+
+    // returns null if the code under the address isn't hot yet or can't be compiled
+    public Block getBlock(int address) {
+        Block[] blocks;
+        int[] counters;
+        int limit;
+        if (address < 0x8000) {
+            int bank = cartridge.getRomBank(address);
+            if (bank < 0 || bank >= MAX_ROM_BANKS) {
+                return null;
+            }
+            if (romBlocks[bank] == null) {
+                romBlocks[bank] = new Block[0x8000];
+                romCounters[bank] = new int[0x8000];
+            }
+            blocks = romBlocks[bank];
+            counters = romCounters[bank];
+            limit = address < 0x4000 ? 0x4000 : 0x8000;
+        } else if (address >= 0xc000 && address < 0xd000) {
+            blocks = ramBlocks;
+            counters = ramCounters;
+            limit = 0xd000;
+        } else if (address >= 0xff80 && address < 0xffff) {
+            blocks = ramBlocks;
+            counters = ramCounters;
+            limit = 0xffff;
+        } else {
+            return null;
+        }
+
+        Block block = blocks[address];
+        if (block != null || counters[address] < 0 || ++counters[address] < COMPILE_THRESHOLD) {
+            return block;
+        }
+        block = compiler.compile(address, limit);
+        if (block == null) {
+            counters[address] = NOT_COMPILABLE;
+            return null;
+        }
+        blocks[address] = block;
+        compiled++;
+        if (blocks == ramBlocks) {
+            cover(block, 1);
+        }
+        return block;
+    }
+
+    // the CPU should be between instructions, returns the number of machine cycles
+    public int execute(Block block) {
+        hits++;
+        return block.getCode().execute(cpu, cpu.getRegisters(), addressSpace, interruptManager, args);
+    }
+
+    public void onMemoryWrite(int address) {
+        if (ramCoverage[address] == 0) {
+            return;
+        }
+        for (int i = Math.max(0, address - BlockCompiler.MAX_LENGTH + 1); i <= address; i++) {
+            Block block = ramBlocks[i];
+            if (block != null && i + block.getLength() > address) {
+                ramBlocks[i] = null;
+                ramCounters[i] = 0;
+                cover(block, -1);
+                invalidated++;
+            }
+        }
+    }
+
+    // drops the RAM blocks, after the memory was replaced without the writes. The ROM blocks are kept per bank.
+    public void invalidate() {
+        Arrays.fill(ramBlocks, 0xc000, ramBlocks.length, null);
+        Arrays.fill(ramCounters, 0xc000, ramCounters.length, 0);
+        Arrays.fill(ramCoverage, 0xc000, ramCoverage.length, 0);
+    }
+
+    private void cover(Block block, int delta) {
+        for (int i = 0; i < block.getLength(); i++) {
+            ramCoverage[block.getAddress() + i] += delta;
+        }
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getCompiled() {
+        return compiled;
+    }
+
+    public long getInvalidated() {
+        return invalidated;
+    }
+}
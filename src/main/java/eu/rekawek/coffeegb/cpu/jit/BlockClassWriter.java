@@ -0,0 +1,254 @@
+package eu.rekawek.coffeegb.cpu.jit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+// writes a class with a no-arg constructor and a single instance method; the class file version is 49, so the
+// branches don't need the stack map frames
+class BlockClassWriter {
+
+    private static final int CLASS_VERSION = 49;
+
+    private static final int ACC_PUBLIC = 0x0001;
+
+    private static final int ACC_FINAL = 0x0010;
+
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ALOAD = 0x19;
+
+    private static final int ALOAD_0 = 0x2a;
+
+    private static final int ICONST_0 = 0x03;
+
+    private static final int BIPUSH = 0x10;
+
+    private static final int SIPUSH = 0x11;
+
+    private static final int LDC_W = 0x13;
+
+    private static final int IASTORE = 0x4f;
+
+    private static final int POP = 0x57;
+
+    private static final int IFEQ = 0x99;
+
+    private static final int IRETURN = 0xac;
+
+    private static final int RETURN = 0xb1;
+
+    private static final int INVOKEVIRTUAL = 0xb6;
+
+    private static final int INVOKESPECIAL = 0xb7;
+
+    private static final int INVOKESTATIC = 0xb8;
+
+    private final ByteArrayOutputStream constantPool = new ByteArrayOutputStream();
+
+    private final DataOutputStream constants = new DataOutputStream(constantPool);
+
+    private final Map<String, Integer> constantIndex = new HashMap<>();
+
+    private int constantCount = 1;
+
+    private ByteArrayOutputStream code = new ByteArrayOutputStream();
+
+    private final String className;
+
+    private final String interfaceName;
+
+    private final String methodName;
+
+    private final String methodDescriptor;
+
+    private final int maxStack;
+
+    private final int maxLocals;
+
+    BlockClassWriter(String className, String interfaceName, String methodName, String methodDescriptor, int maxStack, int maxLocals) {
+        this.className = className;
+        this.interfaceName = interfaceName;
+        this.methodName = methodName;
+        this.methodDescriptor = methodDescriptor;
+        this.maxStack = maxStack;
+        this.maxLocals = maxLocals;
+    }
+
+    void aload(int index) {
+        if (index <= 3) {
+            code.write(ALOAD_0 + index);
+        } else {
+            code.write(ALOAD);
+            code.write(index);
+        }
+    }
+
+    void pushInt(int value) {
+        if (value >= 0 && value <= 5) {
+            code.write(ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            code.write(BIPUSH);
+            code.write(value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            code.write(SIPUSH);
+            writeShort(code, value);
+        } else {
+            code.write(LDC_W);
+            writeShort(code, integer(value));
+        }
+    }
+
+    void iastore() {
+        code.write(IASTORE);
+    }
+
+    void pop() {
+        code.write(POP);
+    }
+
+    void ireturn() {
+        code.write(IRETURN);
+    }
+
+    void invokeStatic(String owner, String name, String descriptor) {
+        code.write(INVOKESTATIC);
+        writeShort(code, methodRef(owner, name, descriptor));
+    }
+
+    void invokeVirtual(String owner, String name, String descriptor) {
+        code.write(INVOKEVIRTUAL);
+        writeShort(code, methodRef(owner, name, descriptor));
+    }
+
+    // the code emitted by the body is skipped if the int on the stack is 0
+    void ifTrue(Runnable body) {
+        ByteArrayOutputStream outer = code;
+        code = new ByteArrayOutputStream();
+        body.run();
+        byte[] bodyCode = code.toByteArray();
+        code = outer;
+        code.write(IFEQ);
+        writeShort(code, bodyCode.length + 3);
+        code.write(bodyCode, 0, bodyCode.length);
+    }
+
+    byte[] toByteArray() {
+        int thisClass = classRef(className);
+        int superClass = classRef("java/lang/Object");
+        int iface = classRef(interfaceName);
+        int objectInit = methodRef("java/lang/Object", "<init>", "()V");
+        int initName = utf8("<init>");
+        int initDescriptor = utf8("()V");
+        int name = utf8(methodName);
+        int descriptor = utf8(methodDescriptor);
+        int codeAttribute = utf8("Code");
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xcafebabe);
+            out.writeShort(0);
+            out.writeShort(CLASS_VERSION);
+            out.writeShort(constantCount);
+            constants.flush();
+            constantPool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(iface);
+            out.writeShort(0);
+
+            out.writeShort(2);
+            byte[] init = new byte[]{(byte) ALOAD_0, (byte) INVOKESPECIAL, (byte) (objectInit >> 8), (byte) objectInit, (byte) RETURN};
+            writeMethod(out, initName, initDescriptor, codeAttribute, 1, 1, init);
+            writeMethod(out, name, descriptor, codeAttribute, maxStack, maxLocals, code.toByteArray());
+
+            out.writeShort(0);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeMethod(DataOutputStream out, int name, int descriptor, int codeAttribute, int maxStack, int maxLocals, byte[] code) throws IOException {
+        out.writeShort(ACC_PUBLIC);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);
+        out.writeShort(codeAttribute);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    private int utf8(String value) {
+        return constant("U" + value, () -> {
+            constants.writeByte(1);
+            constants.writeUTF(value);
+        });
+    }
+
+    private int integer(int value) {
+        return constant("I" + value, () -> {
+            constants.writeByte(3);
+            constants.writeInt(value);
+        });
+    }
+
+    private int classRef(String internalName) {
+        int name = utf8(internalName);
+        return constant("C" + internalName, () -> {
+            constants.writeByte(7);
+            constants.writeShort(name);
+        });
+    }
+
+    private int methodRef(String owner, String name, String descriptor) {
+        int ownerIndex = classRef(owner);
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        int nameAndType = constant("N" + name + descriptor, () -> {
+            constants.writeByte(12);
+            constants.writeShort(nameIndex);
+            constants.writeShort(descriptorIndex);
+        });
+        return constant("M" + owner + "." + name + descriptor, () -> {
+            constants.writeByte(10);
+            constants.writeShort(ownerIndex);
+            constants.writeShort(nameAndType);
+        });
+    }
+
+    private int constant(String key, ConstantWriter writer) {
+        Integer index = constantIndex.get(key);
+        if (index == null) {
+            try {
+                writer.write();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            index = constantCount++;
+            constantIndex.put(key, index);
+        }
+        return index;
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int value) {
+        out.write(value >> 8);
+        out.write(value);
+    }
+
+    private interface ConstantWriter {
+        void write() throws IOException;
+    }
+}
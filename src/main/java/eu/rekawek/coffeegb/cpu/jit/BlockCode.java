@@ -0,0 +1,13 @@
+package eu.rekawek.coffeegb.cpu.jit;
+
+import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.cpu.Cpu;
+import eu.rekawek.coffeegb.cpu.InterruptManager;
+import eu.rekawek.coffeegb.cpu.Registers;
+
+public interface BlockCode {
+
+    // returns the number of machine cycles taken by the block
+    int execute(Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args);
+
+}
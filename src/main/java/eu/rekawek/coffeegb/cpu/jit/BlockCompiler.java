@@ -0,0 +1,197 @@
+package eu.rekawek.coffeegb.cpu.jit;
+
+import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.cpu.Opcodes;
+import eu.rekawek.coffeegb.cpu.opcode.Opcode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// translates a sequence of instructions that don't access memory into a class calling the FlatOpcodes methods in
+// a row, ending after the first jump
+class BlockCompiler {
+
+    static final int MAX_INSTRUCTIONS = 16;
+
+    static final int MAX_LENGTH = MAX_INSTRUCTIONS * 3;
+
+    private static final String BLOCK_CODE = "eu/rekawek/coffeegb/cpu/jit/BlockCode";
+
+    private static final String FLAT_OPCODES = "eu/rekawek/coffeegb/cpu/FlatOpcodes";
+
+    private static final String REGISTERS_CLASS = "eu/rekawek/coffeegb/cpu/Registers";
+
+    private static final String INTERRUPT_MANAGER_CLASS = "eu/rekawek/coffeegb/cpu/InterruptManager";
+
+    private static final String PARAMS = "Leu/rekawek/coffeegb/cpu/Cpu;Leu/rekawek/coffeegb/cpu/Registers;Leu/rekawek/coffeegb/AddressSpace;Leu/rekawek/coffeegb/cpu/InterruptManager;[I";
+
+    private static final int CPU = 1;
+
+    private static final int REGISTERS = 2;
+
+    private static final int ADDRESS_SPACE = 3;
+
+    private static final int INTERRUPT_MANAGER = 4;
+
+    private static final int ARGS = 5;
+
+    private final AddressSpace addressSpace;
+
+    private int compiledClasses;
+
+    BlockCompiler(AddressSpace addressSpace) {
+        this.addressSpace = addressSpace;
+    }
+
+    // the block won't cross the limit address
+    Block compile(int address, int limit) {
+        List<Instruction> instructions = decode(address, limit);
+        if (instructions.isEmpty()) {
+            return null;
+        }
+        Instruction lastInstruction = instructions.get(instructions.size() - 1);
+        int end = lastInstruction.address + lastInstruction.length;
+        String className = String.format("eu/rekawek/coffeegb/cpu/jit/CompiledBlock%d_%04x", compiledClasses++, address);
+
+        BlockClassWriter w = new BlockClassWriter(className, BLOCK_CODE, "execute", "(" + PARAMS + ")I", 6, 6);
+        int cycles = 0;
+        for (Instruction i : instructions) {
+            boolean last = i == lastInstruction;
+            if (last) {
+                w.aload(REGISTERS);
+                w.pushInt(end & 0xffff);
+                w.invokeVirtual(REGISTERS_CLASS, "setPC", "(I)V");
+            }
+            for (int j = 0; j < i.operands.length; j++) {
+                w.aload(ARGS);
+                w.pushInt(j);
+                w.pushInt(i.operands[j]);
+                w.iastore();
+            }
+
+            String method = String.format("%s%02x", i.ext ? "extOpcode" : "opcode", i.opcode.getOpcode());
+            // all the bytes are fetched in separate cycles and the last one is shared with the first op cycle
+            int base = cycles + i.length - 1;
+            int opCycles = i.opcode.getCycles();
+            for (int c = 0; c < opCycles; c++) {
+                w.aload(CPU);
+                w.aload(REGISTERS);
+                w.aload(ADDRESS_SPACE);
+                w.aload(INTERRUPT_MANAGER);
+                w.aload(ARGS);
+                w.pushInt(c);
+                w.invokeStatic(FLAT_OPCODES, method, "(" + PARAMS + "I)Z");
+                if (last && c < opCycles - 1) {
+                    // the conditional jumps may finish earlier
+                    int finishedCycles = base + c + 1;
+                    w.ifTrue(() -> writeFinish(w, finishedCycles));
+                } else {
+                    w.pop();
+                }
+            }
+            cycles = base + opCycles;
+            if (!last) {
+                finishInstruction(w);
+            }
+        }
+        writeFinish(w, cycles);
+
+        Class<?> blockClass = new BlockClassLoader().define(className.replace('/', '.'), w.toByteArray());
+        try {
+            BlockCode code = (BlockCode) blockClass.newInstance();
+            return new Block(address, end - address, instructions.size(), cycles, code);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeFinish(BlockClassWriter w, int cycles) {
+        finishInstruction(w);
+        w.pushInt(cycles);
+        w.ireturn();
+    }
+
+    private static void finishInstruction(BlockClassWriter w) {
+        w.aload(INTERRUPT_MANAGER);
+        w.invokeVirtual(INTERRUPT_MANAGER_CLASS, "onInstructionFinished", "()V");
+    }
+
+    private List<Instruction> decode(int address, int limit) {
+        List<Instruction> instructions = new ArrayList<>();
+        int pc = address;
+        while (instructions.size() < MAX_INSTRUCTIONS) {
+            int opcode = addressSpace.getByte(pc);
+            boolean ext = opcode == 0xcb;
+            Opcode o;
+            int fetches;
+            if (ext) {
+                if (pc + 1 >= limit) {
+                    break;
+                }
+                o = Opcodes.EXT_COMMANDS.get(addressSpace.getByte(pc + 1));
+                fetches = 2;
+            } else {
+                o = Opcodes.COMMANDS.get(opcode);
+                fetches = 1;
+            }
+            if (!isCompilable(o, ext)) {
+                break;
+            }
+            int length = fetches + o.getOperandLength();
+            if (pc + length > limit) {
+                break;
+            }
+            int[] operands = new int[o.getOperandLength()];
+            for (int i = 0; i < operands.length; i++) {
+                operands[i] = addressSpace.getByte(pc + fetches + i);
+            }
+            instructions.add(new Instruction(pc, length, o, ext, operands));
+            pc += length;
+            if (!ext && (o.getLabel().startsWith("JP") || o.getLabel().startsWith("JR"))) {
+                break;
+            }
+        }
+        return instructions;
+    }
+
+    // HALT and STOP are handled by the Cpu itself
+    private static boolean isCompilable(Opcode opcode, boolean ext) {
+        if (opcode == null || opcode.isAccessingMemory()) {
+            return false;
+        }
+        return ext || (opcode.getOpcode() != 0x10 && opcode.getOpcode() != 0x76);
+    }
+
+    private static class Instruction {
+
+        private final int address;
+
+        private final int length;
+
+        private final Opcode opcode;
+
+        private final boolean ext;
+
+        private final int[] operands;
+
+        private Instruction(int address, int length, Opcode opcode, boolean ext, int[] operands) {
+            this.address = address;
+            this.length = length;
+            this.opcode = opcode;
+            this.ext = ext;
+            this.operands = operands;
+        }
+    }
+
+    // each block gets its own loader, so the invalidated blocks can be unloaded
+    private static class BlockClassLoader extends ClassLoader {
+
+        private BlockClassLoader() {
+            super(BlockCode.class.getClassLoader());
+        }
+
+        private Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package eu.rekawek.coffeegb.cpu.opcode;
+
+import eu.rekawek.coffeegb.cpu.Opcodes;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class FlatOpcodesGenerator {
+
+    public static final File OUTPUT = new File("src/main/java/eu/rekawek/coffeegb/cpu/FlatOpcodes.java");
+
+    private static final String PARAMS = "Cpu cpu, Registers registers, AddressSpace addressSpace, InterruptManager interruptManager, int[] args, int cycle";
+
+    private static final String ARGS = "cpu, registers, addressSpace, interruptManager, args, cycle";
+
+    private final Map<String, String> functions = new TreeMap<>();
+
+    public static void main(String[] args) throws IOException {
+        File output = args.length > 0 ? new File(args[0]) : OUTPUT;
+        Files.write(output.toPath(), generate().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String generate() {
+        return new FlatOpcodesGenerator().generateClass();
+    }
+
+    private String generateClass() {
+        StringBuilder methods = new StringBuilder();
+        StringBuilder header = new StringBuilder();
+        for (Opcode o : Opcodes.COMMANDS) {
+            if (o != null) {
+                methods.append(generateMethod(o, methodName(o, false)));
+            }
+        }
+        for (Opcode o : Opcodes.EXT_COMMANDS) {
+            if (o != null) {
+                methods.append(generateMethod(o, methodName(o, true)));
+            }
+        }
+
+        header.append("package eu.rekawek.coffeegb.cpu;\n");
+        header.append("\n");
+        header.append("import eu.rekawek.coffeegb.AddressSpace;\n");
+        header.append("import eu.rekawek.coffeegb.cpu.op.Argument;\n");
+        header.append("import eu.rekawek.coffeegb.cpu.op.DataType;\n");
+        header.append("import eu.rekawek.coffeegb.gpu.SpriteBug;\n");
+        header.append("\n");
+        header.append("// generated by FlatOpcodesGenerator from the Opcodes definitions, don't edit\n");
+        header.append("public final class FlatOpcodes {\n");
+        header.append("\n");
+        header.append("    private static final AluFunctions ALU = new AluFunctions();\n");
+        for (String f : functions.values()) {
+            header.append("\n");
+            header.append("    private static final ").append(f).append("\n");
+        }
+        header.append("\n");
+        header.append("    private FlatOpcodes() {\n");
+        header.append("    }\n");
+        header.append("\n");
+        header.append(generateDispatch("execute", Opcodes.COMMANDS, false));
+        header.append("\n");
+        header.append(generateDispatch("executeExt", Opcodes.EXT_COMMANDS, true));
+        header.append(methods);
+        header.append("\n");
+        header.append("    private static boolean inOamArea(int address) {\n");
+        header.append("        return address >= 0xfe00 && address <= 0xfeff;\n");
+        header.append("    }\n");
+        header.append("}\n");
+        return header.toString();
+    }
+
+    private static String generateDispatch(String name, List<Opcode> opcodes, boolean ext) {
+        StringBuilder b = new StringBuilder();
+        b.append(String.format("    static boolean %s(int opcode, %s) {\n", name, PARAMS));
+        b.append("        switch (opcode) {\n");
+        for (Opcode o : opcodes) {
+            if (o == null) {
+                continue;
+            }
+            b.append(String.format("            case 0x%02x:\n", o.getOpcode()));
+            b.append(String.format("                return %s(%s);\n", methodName(o, ext), ARGS));
+            b.append("\n");
+        }
+        b.append("            default:\n");
+        b.append(String.format("                throw new IllegalStateException(String.format(\"No command for %s0x%%02x\", opcode));\n", ext ? "0xcb " : ""));
+        b.append("        }\n");
+        b.append("    }\n");
+        return b.toString();
+    }
+
+    private String generateMethod(Opcode opcode, String name) {
+        functions.putAll(opcode.getFunctions());
+        List<List<Integer>> groups = Opcode.groupCycles(opcode.getOps());
+        List<String> code = opcode.getCode();
+        boolean usesContext = code.stream().anyMatch(c -> c != null && c.contains("context"));
+
+        StringBuilder b = new StringBuilder();
+        b.append("\n");
+        b.append(String.format("    // %s\n", opcode.getLabel()));
+        b.append(String.format("    public static boolean %s(%s) {\n", name, PARAMS));
+        if (usesContext) {
+            b.append("        int context = cpu.opContext;\n");
+        }
+        if (groups.size() == 1) {
+            appendCycle(b, code, groups.get(0), true, "        ");
+        } else {
+            b.append("        switch (cycle) {\n");
+            for (int i = 0; i < groups.size(); i++) {
+                b.append(String.format("            case %d:\n", i));
+                appendCycle(b, code, groups.get(i), i == groups.size() - 1, "                ");
+                b.append("\n");
+            }
+            b.append("            default:\n");
+            b.append("                throw new IllegalStateException(\"Invalid cycle \" + cycle);\n");
+            b.append("        }\n");
+        }
+        b.append("    }\n");
+        return b.toString();
+    }
+
+    private static void appendCycle(StringBuilder b, List<String> code, List<Integer> ops, boolean last, String indent) {
+        boolean storeContext = false;
+        for (int i : ops) {
+            String c = code.get(i);
+            if (c == null) {
+                throw new IllegalStateException("Op " + i + " doesn't provide the code");
+            }
+            if (c.isEmpty()) {
+                continue;
+            }
+            storeContext |= c.contains("context = ");
+            for (String line : c.split("\n")) {
+                b.append(indent).append(line).append("\n");
+            }
+        }
+        if (last) {
+            b.append(indent).append("return true;\n");
+        } else {
+            if (storeContext) {
+                b.append(indent).append("cpu.opContext = context;\n");
+            }
+            b.append(indent).append("return false;\n");
+        }
+    }
+
+    private static String methodName(Opcode opcode, boolean ext) {
+        return String.format("%s%02x", ext ? "extOpcode" : "opcode", opcode.getOpcode());
+    }
+}
@@ -5,6 +5,9 @@ import eu.rekawek.coffeegb.cpu.op.Op;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
 
 public class Opcode {
 
@@ -16,11 +19,52 @@ public class Opcode {
 
     private final int length;
 
+    private final List<String> code;
+
+    private final Map<String, String> functions;
+
+    private final int cycles;
+
+    private final boolean accessingMemory;
+
     Opcode(OpcodeBuilder builder) {
         this.opcode = builder.getOpcode();
         this.label = builder.getLabel();
         this.ops = Collections.unmodifiableList(new ArrayList<>(builder.getOps()));
+        this.code = Collections.unmodifiableList(new ArrayList<>(builder.getCode()));
+        this.functions = Collections.unmodifiableMap(new TreeMap<>(builder.getFunctions()));
         this.length = ops.stream().mapToInt(o -> o.operandLength()).max().orElse(0);
+        this.cycles = groupCycles(ops).size();
+        // ops without code only take the bus cycle
+        this.accessingMemory = IntStream.range(0, ops.size())
+                .anyMatch(i -> (ops.get(i).readsMemory() || ops.get(i).writesMemory()) && !"".equals(code.get(i)));
+    }
+
+    // groups the ops the same way as Cpu.tick() does: the first group runs together with the last fetch and each
+    // subsequent one starts with a memory access or after a forced cycle finish
+    static List<List<Integer>> groupCycles(List<Op> ops) {
+        List<List<Integer>> groups = new ArrayList<>();
+        List<Integer> group = new ArrayList<>();
+        groups.add(group);
+        boolean accessedMemory = true;
+        for (int i = 0; i < ops.size(); i++) {
+            Op op = ops.get(i);
+            boolean opAccessesMemory = op.readsMemory() || op.writesMemory();
+            if (accessedMemory && opAccessesMemory) {
+                group = new ArrayList<>();
+                groups.add(group);
+                accessedMemory = false;
+            }
+            group.add(i);
+            if (op.forceFinishCycle()) {
+                group = new ArrayList<>();
+                groups.add(group);
+                accessedMemory = false;
+            } else if (opAccessesMemory) {
+                accessedMemory = true;
+            }
+        }
+        return groups;
     }
 
     public int getOperandLength() {
@@ -32,10 +76,27 @@ public class Opcode {
         return String.format("%02x %s", opcode, label);
     }
 
+    // number of cycles after the last fetch, including the one shared with it
+    public int getCycles() {
+        return cycles;
+    }
+
+    public boolean isAccessingMemory() {
+        return accessingMemory;
+    }
+
     public List<Op> getOps() {
         return ops;
     }
 
+    List<String> getCode() {
+        return code;
+    }
+
+    Map<String, String> getFunctions() {
+        return functions;
+    }
+
     public String getLabel() {
         return label;
     }
@@ -12,10 +12,14 @@ import eu.rekawek.coffeegb.cpu.op.Op;
 import eu.rekawek.coffeegb.gpu.SpriteBug;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import static eu.rekawek.coffeegb.cpu.BitUtils.toWord;
 
@@ -37,6 +41,10 @@ public class OpcodeBuilder {
 
     private final List<Op> ops = new ArrayList<>();
 
+    private final List<String> code = new ArrayList<>();
+
+    private final Map<String, String> functions = new TreeMap<>();
+
     private DataType lastDataType;
 
     public OpcodeBuilder(int opcode, String label) {
@@ -78,6 +86,7 @@ public class OpcodeBuilder {
                 }
             }
         });
+        code.add(String.format("context = Argument.%s.read(registers, addressSpace, args);", arg.name()));
         return this;
     }
 
@@ -94,6 +103,7 @@ public class OpcodeBuilder {
                 return String.format("0x%02X → [__]", value);
             }
         });
+        code.add(String.format("context = 0x%04x;", value));
         return this;
     }
 
@@ -122,6 +132,7 @@ public class OpcodeBuilder {
                     return String.format("[ _] → %s", arg.getLabel());
                 }
             });
+            code.add("addressSpace.setByte(BitUtils.toWord(args), context & 0x00ff);");
             ops.add(new Op() {
                 @Override
                 public boolean writesMemory() {
@@ -144,6 +155,7 @@ public class OpcodeBuilder {
                     return String.format("[_ ] → %s", arg.getLabel());
                 }
             });
+            code.add("addressSpace.setByte((BitUtils.toWord(args) + 1) & 0xffff, (context & 0xff00) >> 8);");
         } else if (lastDataType == arg.getDataType()) {
             ops.add(new Op() {
                 @Override
@@ -171,6 +183,7 @@ public class OpcodeBuilder {
                     }
                 }
             });
+            code.add(String.format("Argument.%s.write(registers, addressSpace, args, context);", arg.name()));
         } else {
             throw new IllegalStateException("Can't write " + lastDataType + " to " + target);
         }
@@ -202,11 +215,13 @@ public class OpcodeBuilder {
                 return String.format("? %s:", condition);
             }
         });
+        code.add(String.format("if (%s) {\n    return true;\n}", getStopCondition(condition)));
         return this;
     }
 
     public OpcodeBuilder push() {
         AluFunctions.IntRegistryFunction dec = ALU.findAluFunction("DEC", DataType.D16);
+        String decFunction = aluFunction("DEC", DataType.D16);
         ops.add(new Op() {
             @Override
             public boolean writesMemory() {
@@ -230,6 +245,7 @@ public class OpcodeBuilder {
                 return String.format("[_ ] → (SP--)");
             }
         });
+        code.add(String.format("%sregisters.setSP(%s.apply(registers.getFlags(), registers.getSP()));\naddressSpace.setByte(registers.getSP(), (context & 0xff00) >> 8);", spriteBugCode("registers.getSP()", SpriteBug.CorruptionType.PUSH_1), decFunction));
         ops.add(new Op() {
             @Override
             public boolean writesMemory() {
@@ -253,11 +269,13 @@ public class OpcodeBuilder {
                 return String.format("[ _] → (SP--)");
             }
         });
+        code.add(String.format("%sregisters.setSP(%s.apply(registers.getFlags(), registers.getSP()));\naddressSpace.setByte(registers.getSP(), context & 0x00ff);", spriteBugCode("registers.getSP()", SpriteBug.CorruptionType.PUSH_2), decFunction));
         return this;
     }
 
     public OpcodeBuilder pop() {
         AluFunctions.IntRegistryFunction inc = ALU.findAluFunction("INC", DataType.D16);
+        String incFunction = aluFunction("INC", DataType.D16);
 
         lastDataType = DataType.D16;
         ops.add(new Op() {
@@ -283,6 +301,7 @@ public class OpcodeBuilder {
                 return String.format("(SP++) → [ _]");
             }
         });
+        code.add(String.format("%scontext = addressSpace.getByte(registers.getSP());\nregisters.setSP(%s.apply(registers.getFlags(), registers.getSP()));", spriteBugCode("registers.getSP()", SpriteBug.CorruptionType.POP_1), incFunction));
         ops.add(new Op() {
             @Override
             public boolean readsMemory() {
@@ -306,6 +325,7 @@ public class OpcodeBuilder {
                 return String.format("(SP++) → [_ ]");
             }
         });
+        code.add(String.format("%scontext = context | (addressSpace.getByte(registers.getSP()) << 8);\nregisters.setSP(%s.apply(registers.getFlags(), registers.getSP()));", spriteBugCode("registers.getSP()", SpriteBug.CorruptionType.POP_2), incFunction));
         return this;
     }
 
@@ -338,6 +358,7 @@ public class OpcodeBuilder {
                 }
             }
         });
+        code.add(String.format("context = %s.apply(registers.getFlags(), context, Argument.%s.read(registers, addressSpace, args));", aluFunction(operation, lastDataType, arg2.getDataType()), arg2.name()));
         if (lastDataType == DataType.D16) {
             extraCycle();
         }
@@ -357,6 +378,7 @@ public class OpcodeBuilder {
                 return String.format("%s(%d,[_]) → [_]", operation, d8Value);
             }
         });
+        code.add(String.format("context = %s.apply(registers.getFlags(), context, %d);", aluFunction(operation, lastDataType, DataType.D8), d8Value));
         if (lastDataType == DataType.D16) {
             extraCycle();
         }
@@ -385,6 +407,7 @@ public class OpcodeBuilder {
                 }
             }
         });
+        code.add(String.format("%scontext = %s.apply(registers.getFlags(), context);", OEM_BUG.contains(func) ? spriteBugCode("context", SpriteBug.CorruptionType.INC_DEC) : "", aluFunction(operation, lastDataType)));
         if (lastDataType == DataType.D16) {
             extraCycle();
         }
@@ -410,6 +433,7 @@ public class OpcodeBuilder {
                 return String.format("%s(HL) → [__]");
             }
         });
+        code.add(String.format("%scontext = %s.apply(registers.getFlags(), context);", OEM_BUG.contains(func) ? spriteBugCode("context", SpriteBug.CorruptionType.LD_HL) : "", aluFunction(operation, DataType.D16)));
         store("HL");
         return this;
     }
@@ -438,6 +462,7 @@ public class OpcodeBuilder {
                 return String.format("BIT(%d,HL)", bit);
             }
         });
+        code.add("int value = addressSpace.getByte(registers.getHL());\nregisters.getFlags().setN(false);\nregisters.getFlags().setH(true);" + (bit < 8 ? String.format("\nregisters.getFlags().setZ(!BitUtils.getBit(value, %d));", bit) : ""));
         return this;
     }
 
@@ -454,6 +479,7 @@ public class OpcodeBuilder {
                 return String.format("0 → Z");
             }
         });
+        code.add("registers.getFlags().setZ(false);");
         return this;
     }
 
@@ -473,11 +499,13 @@ public class OpcodeBuilder {
                 return (enable ? "enable" : "disable") + " interrupts";
             }
         });
+        code.add(String.format("interruptManager.%s(%b);", enable ? "enableInterrupts" : "disableInterrupts", withDelay));
         return this;
     }
 
     public OpcodeBuilder op(Op op) {
         ops.add(op);
+        code.add(null);
         return this;
     }
 
@@ -493,6 +521,7 @@ public class OpcodeBuilder {
                 return "wait cycle";
             }
         });
+        code.add("");
         return this;
     }
 
@@ -508,6 +537,7 @@ public class OpcodeBuilder {
                 return "finish cycle";
             }
         });
+        code.add("");
         return this;
     }
 
@@ -527,11 +557,48 @@ public class OpcodeBuilder {
         return ops;
     }
 
+    List<String> getCode() {
+        return code;
+    }
+
+    Map<String, String> getFunctions() {
+        return functions;
+    }
+
     @Override
     public String toString() {
         return label;
     }
 
+    private String aluFunction(String operation, DataType... types) {
+        String name = operation + "_" + Arrays.stream(types).map(DataType::name).collect(Collectors.joining("_"));
+        String type = types.length == 1 ? "IntRegistryFunction" : "BiIntRegistryFunction";
+        String args = Arrays.stream(types).map(t -> "DataType." + t.name()).collect(Collectors.joining(", "));
+        functions.put(name, String.format("AluFunctions.%s %s = ALU.findAluFunction(\"%s\", %s);", type, name, operation, args));
+        return name;
+    }
+
+    private static String spriteBugCode(String address, SpriteBug.CorruptionType type) {
+        return String.format("if (inOamArea(%s)) {\n    cpu.handleSpriteBug(SpriteBug.CorruptionType.%s);\n}\n", address, type.name());
+    }
+
+    private static String getStopCondition(String condition) {
+        switch (condition) {
+            case "NZ":
+                return "registers.getFlags().isZ()";
+
+            case "Z":
+                return "!registers.getFlags().isZ()";
+
+            case "NC":
+                return "registers.getFlags().isC()";
+
+            case "C":
+                return "!registers.getFlags().isC()";
+        }
+        return "true";
+    }
+
     private static boolean causesOemBug(AluFunctions.IntRegistryFunction function, int context) {
         return OEM_BUG.contains(function) && inOamArea(context);
     }
@@ -0,0 +1,42 @@
+package eu.rekawek.coffeegb.debug.command;
+
+import eu.rekawek.coffeegb.debug.Command;
+import eu.rekawek.coffeegb.debug.CommandPattern;
+import eu.rekawek.coffeegb.debug.CommandPattern.ParsedCommandLine;
+import eu.rekawek.coffeegb.rewind.Rewind;
+
+public class StepBack implements Command {
+
+    private static final CommandPattern PATTERN = CommandPattern.Builder
+            .create("rewind")
+            .withOptionalArgument("frames")
+            .withDescription("goes back by the given number of frames (1 by default)")
+            .build();
+
+    private final Rewind rewind;
+
+    public StepBack(Rewind rewind) {
+        this.rewind = rewind;
+    }
+
+    @Override
+    public CommandPattern getPattern() {
+        return PATTERN;
+    }
+
+    @Override
+    public void run(ParsedCommandLine commandLine) {
+        String arg = commandLine.getArgument("frames");
+        int frames;
+        try {
+            frames = arg == null ? 1 : Integer.parseInt(arg);
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number of frames: " + arg);
+            return;
+        }
+        if (!rewind.stepBack(frames)) {
+            System.out.println("No more frames to rewind");
+        }
+        System.out.println(String.format("%d frames left", rewind.getFrames()));
+    }
+}
@@ -9,6 +9,7 @@ import eu.rekawek.coffeegb.gpu.Gpu;
 import eu.rekawek.coffeegb.gpu.GpuRegister;
 import eu.rekawek.coffeegb.gpu.Lcdc;
 import eu.rekawek.coffeegb.gpu.TileAttributes;
+import eu.rekawek.coffeegb.gpu.TileCache;
 import eu.rekawek.coffeegb.gui.SwingDisplay;
 import eu.rekawek.coffeegb.memory.MemoryRegisters;
 import org.slf4j.Logger;
@@ -21,7 +22,6 @@ import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
 
 import static eu.rekawek.coffeegb.cpu.BitUtils.toSigned;
-import static eu.rekawek.coffeegb.gpu.Fetcher.zip;
 
 public class ShowBackground implements Command {
 
@@ -138,13 +138,14 @@ public class ShowBackground implements Command {
             Lcdc lcdc = gpu.getLcdc();
             AddressSpace videoRam0 = gpu.getVideoRam0();
             AddressSpace videoRam1 = gpu.getVideoRam1();
+            TileCache tileCache = gpu.getTileCache();
             MemoryRegisters reg = gpu.getRegisters();
 
             int tileMap = type == Type.BACKGROUND ? lcdc.getBgTileMapDisplay() : lcdc.getWindowTileMapDisplay();
             int tileData = lcdc.getBgWindowTileData();
             int dmgPalette = reg.get(GpuRegister.BGP);
 
-            int[][] tile = new int[8][8];
+            int[][] tile = new int[8][];
             for (int x = 0; x < 32; x++) {
                 for (int y = 0; y < 32; y++) {
                     int tileId = videoRam0.getByte(tileMap + x + 32 * y);
@@ -160,18 +161,9 @@ public class ShowBackground implements Command {
                     } else {
                         tileAddress = tileData + tileId * 0x10;
                     }
-                    for (int i = 0; i < 16; i += 2) {
-                        AddressSpace bank = attr.getBank() == 0 ? videoRam0 : videoRam1;
-                        int b1 = bank.getByte(tileAddress + i);
-                        int b2 = bank.getByte(tileAddress + i + 1);
-                        zip(b1, b2, attr.isXflip(), tile[i/2]);
-                    }
-                    if (attr.isYflip()) {
-                        for (int i = 0; i < 8; i++) {
-                            int[] tmp = tile[i];
-                            tile[i] = tile[7 - i];
-                            tile[7 - i] = tmp;
-                        }
+                    for (int i = 0; i < 8; i++) {
+                        int line = attr.isYflip() ? 7 - i : i;
+                        tile[i] = tileCache.getLine(attr.getBank(), tileAddress + line * 2, attr.isXflip());
                     }
                     int[] palette = new int[4];
                     if (gpu.isGbc()) {
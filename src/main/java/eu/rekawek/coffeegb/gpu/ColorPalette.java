@@ -1,8 +1,11 @@
 package eu.rekawek.coffeegb.gpu;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 
-public class ColorPalette implements AddressSpace {
+import java.nio.ByteBuffer;
+
+public class ColorPalette implements AddressSpace, Snapshotable {
 
     private final int indexAddr;
 
@@ -61,6 +64,28 @@ public class ColorPalette implements AddressSpace {
         }
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        for (int[] palette : palettes) {
+            for (int color : palette) {
+                buffer.putShort((short) color);
+            }
+        }
+        buffer.put((byte) index);
+        Snapshotable.putBoolean(buffer, autoIncrement);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        for (int[] palette : palettes) {
+            for (int i = 0; i < palette.length; i++) {
+                palette[i] = buffer.getShort() & 0xffff;
+            }
+        }
+        index = buffer.get();
+        autoIncrement = Snapshotable.getBoolean(buffer);
+    }
+
     public int[] getPalette(int index) {
         return palettes[index];
     }
@@ -1,5 +1,7 @@
 package eu.rekawek.coffeegb.gpu;
 
+import java.nio.ByteBuffer;
+
 public class ColorPixelFifo implements PixelFifo {
 
     private final IntQueue pixels = new IntQueue(16);
@@ -10,15 +12,15 @@ public class ColorPixelFifo implements PixelFifo {
 
     private final Lcdc lcdc;
 
-    private final Display display;
+    private final FrameBuffer frameBuffer;
 
     private final ColorPalette bgPalette;
 
     private final ColorPalette oamPalette;
 
-    public ColorPixelFifo(Lcdc lcdc, Display display, ColorPalette bgPalette, ColorPalette oamPalette) {
+    public ColorPixelFifo(Lcdc lcdc, FrameBuffer frameBuffer, ColorPalette bgPalette, ColorPalette oamPalette) {
         this.lcdc = lcdc;
-        this.display = display;
+        this.frameBuffer = frameBuffer;
         this.bgPalette = bgPalette;
         this.oamPalette = oamPalette;
     }
@@ -30,7 +32,7 @@ public class ColorPixelFifo implements PixelFifo {
 
     @Override
     public void putPixelToScreen() {
-        display.putColorPixel(dequeuePixel());
+        frameBuffer.putPixel(dequeuePixel());
     }
 
     private int dequeuePixel() {
@@ -104,6 +106,20 @@ public class ColorPixelFifo implements PixelFifo {
         priorities.clear();
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        pixels.saveState(buffer);
+        palettes.saveState(buffer);
+        priorities.saveState(buffer);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        pixels.loadState(buffer);
+        palettes.loadState(buffer);
+        priorities.loadState(buffer);
+    }
+
     private int getColor(int priority, int palette, int color) {
         if (priority >= 0 && priority < 10) {
             return oamPalette.getPalette(palette)[color];
@@ -2,11 +2,9 @@ package eu.rekawek.coffeegb.gpu;
 
 public interface Display {
 
-    void putDmgPixel(int color);
-
-    void putColorPixel(int gbcRgb);
-
-    void requestRefresh();
+    // the frame is complete. The buffer can be read until waitForRefresh() returns, afterwards the emulator starts
+    // drawing the next frame into it.
+    void requestRefresh(FrameBuffer frameBuffer);
 
     void waitForRefresh();
 
@@ -17,15 +15,7 @@ public interface Display {
     Display NULL_DISPLAY = new Display() {
 
         @Override
-        public void putDmgPixel(int color) {
-        }
-
-        @Override
-        public void putColorPixel(int gbcRgb) {
-        }
-
-        @Override
-        public void requestRefresh() {
+        public void requestRefresh(FrameBuffer frameBuffer) {
         }
 
         @Override
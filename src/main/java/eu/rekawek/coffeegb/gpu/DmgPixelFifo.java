@@ -2,6 +2,8 @@ package eu.rekawek.coffeegb.gpu;
 
 import eu.rekawek.coffeegb.memory.MemoryRegisters;
 
+import java.nio.ByteBuffer;
+
 public class DmgPixelFifo implements PixelFifo {
 
     private final IntQueue pixels = new IntQueue(16);
@@ -10,15 +12,15 @@ public class DmgPixelFifo implements PixelFifo {
 
     private final IntQueue pixelType = new IntQueue(16); // 0 - bg, 1 - sprite
 
-    private final Display display;
+    private final FrameBuffer frameBuffer;
 
     private final Lcdc lcdc;
 
     private final MemoryRegisters registers;
 
-    public DmgPixelFifo(Display display, Lcdc lcdc, MemoryRegisters registers) {
+    public DmgPixelFifo(FrameBuffer frameBuffer, Lcdc lcdc, MemoryRegisters registers) {
         this.lcdc = lcdc;
-        this.display = display;
+        this.frameBuffer = frameBuffer;
         this.registers = registers;
     }
 
@@ -29,7 +31,7 @@ public class DmgPixelFifo implements PixelFifo {
 
     @Override
     public void putPixelToScreen() {
-        display.putDmgPixel(dequeuePixel());
+        frameBuffer.putPixel(dequeuePixel());
     }
 
     @Override
@@ -84,4 +86,18 @@ public class DmgPixelFifo implements PixelFifo {
         palettes.clear();
         pixelType.clear();
     }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        pixels.saveState(buffer);
+        palettes.saveState(buffer);
+        pixelType.saveState(buffer);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        pixels.loadState(buffer);
+        palettes.loadState(buffer);
+        pixelType.loadState(buffer);
+    }
 }
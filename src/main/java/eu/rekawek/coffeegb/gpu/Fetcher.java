@@ -1,21 +1,25 @@
 package eu.rekawek.coffeegb.gpu;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.gpu.phase.OamSearch.SpritePosition;
 import eu.rekawek.coffeegb.memory.MemoryRegisters;
 
+import java.nio.ByteBuffer;
 import java.util.EnumSet;
 
 import static eu.rekawek.coffeegb.cpu.BitUtils.toSigned;
 import static eu.rekawek.coffeegb.gpu.GpuRegister.LY;
 
-public class Fetcher {
+public class Fetcher implements Snapshotable {
 
     private enum State {
         READ_TILE_ID, READ_DATA_1, READ_DATA_2, PUSH,
         READ_SPRITE_TILE_ID, READ_SPRITE_FLAGS, READ_SPRITE_DATA_1, READ_SPRITE_DATA_2, PUSH_SPRITE
     }
 
+    private static final State[] STATES = State.values();
+
     private static final int[] EMPTY_PIXEL_LINE = new int[8];
 
     private final PixelFifo fifo;
@@ -32,7 +36,10 @@ public class Fetcher {
 
     private final boolean gbc;
 
-    private final int[] pixelLine = new int[8];
+    private final TileCache tileCache;
+
+    // if false, only the timing is emulated and the FIFO gets empty lines
+    private final boolean fetchPixels;
 
     private State state;
 
@@ -52,13 +59,16 @@ public class Fetcher {
 
     private TileAttributes tileAttributes;
 
-    private int tileData1;
+    private int tileLineAddress;
 
-    private int tileData2;
+    private int[] pixelLine;
+
+    // the fetched line is restored here, as the tile cache line could be decoded again in the meantime
+    private final int[] restoredPixelLine = new int[8];
 
     private int spriteTileLine;
 
-    private SpritePosition sprite;
+    private int spriteAddress;
 
     private TileAttributes spriteAttributes;
 
@@ -68,8 +78,10 @@ public class Fetcher {
 
     private int divider = 2;
 
-    public Fetcher(PixelFifo fifo, AddressSpace videoRam0, AddressSpace videoRam1, AddressSpace oemRam, Lcdc lcdc, MemoryRegisters registers, boolean gbc) {
+    public Fetcher(PixelFifo fifo, AddressSpace videoRam0, AddressSpace videoRam1, AddressSpace oemRam, Lcdc lcdc, MemoryRegisters registers, boolean gbc, TileCache tileCache, boolean fetchPixels) {
         this.gbc = gbc;
+        this.fetchPixels = fetchPixels;
+        this.tileCache = tileCache;
         this.fifo = fifo;
         this.videoRam0 = videoRam0;
         this.videoRam1 = videoRam1;
@@ -81,8 +93,6 @@ public class Fetcher {
     public void init() {
         state = State.READ_TILE_ID;
         tileId = 0;
-        tileData1 = 0;
-        tileData2 = 0;
         divider = 2;
         fetchingDisabled = false;
     }
@@ -97,8 +107,6 @@ public class Fetcher {
 
         state = State.READ_TILE_ID;
         tileId = 0;
-        tileData1 = 0;
-        tileData2 = 0;
         divider = 2;
     }
 
@@ -107,7 +115,7 @@ public class Fetcher {
     }
 
     public void addSprite(SpritePosition sprite, int offset, int oamIndex) {
-        this.sprite = sprite;
+        this.spriteAddress = sprite.getAddress();
         this.state = State.READ_SPRITE_TILE_ID;
         this.spriteTileLine = r.get(LY) + 16 - sprite.getY();
         this.spriteOffset = offset;
@@ -130,8 +138,10 @@ public class Fetcher {
 
         switch (state) {
             case READ_TILE_ID:
-                tileId = videoRam0.getByte(mapAddress + xOffset);
-                if (gbc) {
+                if (fetchPixels) {
+                    tileId = videoRam0.getByte(mapAddress + xOffset);
+                }
+                if (gbc && fetchPixels) {
                     tileAttributes = TileAttributes.valueOf(videoRam1.getByte(mapAddress + xOffset));
                 } else {
                     tileAttributes = TileAttributes.EMPTY;
@@ -140,53 +150,59 @@ public class Fetcher {
                 break;
 
             case READ_DATA_1:
-                tileData1 = getTileData(tileId, tileLine, 0, tileDataAddress, tileIdSigned, tileAttributes, 8);
+                if (fetchPixels) {
+                    tileLineAddress = getTileLineAddress(tileId, tileLine, tileDataAddress, tileIdSigned, tileAttributes, 8);
+                }
                 state = State.READ_DATA_2;
                 break;
 
             case READ_DATA_2:
-                tileData2 = getTileData(tileId, tileLine, 1, tileDataAddress, tileIdSigned, tileAttributes, 8);
+                pixelLine = fetchPixels ? getPixelLine(tileLineAddress, tileAttributes) : EMPTY_PIXEL_LINE;
                 state = State.PUSH;
 
             case PUSH:
                 if (fifo.getLength() <= 8) {
-                    fifo.enqueue8Pixels(zip(tileData1, tileData2, tileAttributes.isXflip()), tileAttributes);
+                    fifo.enqueue8Pixels(pixelLine, tileAttributes);
                     xOffset = (xOffset + 1) % 0x20;
                     state = State.READ_TILE_ID;
                 }
                 break;
 
             case READ_SPRITE_TILE_ID:
-                tileId = oemRam.getByte(sprite.getAddress() + 2);
+                if (fetchPixels) {
+                    tileId = oemRam.getByte(spriteAddress + 2);
+                }
                 state = State.READ_SPRITE_FLAGS;
                 break;
 
             case READ_SPRITE_FLAGS:
-                spriteAttributes = TileAttributes.valueOf(oemRam.getByte(sprite.getAddress() + 3));
+                spriteAttributes = fetchPixels ? TileAttributes.valueOf(oemRam.getByte(spriteAddress + 3)) : TileAttributes.EMPTY;
                 state = State.READ_SPRITE_DATA_1;
                 break;
 
             case READ_SPRITE_DATA_1:
-                if (lcdc.getSpriteHeight() == 16) {
-                    tileId &= 0xfe;
+                if (fetchPixels) {
+                    if (lcdc.getSpriteHeight() == 16) {
+                        tileId &= 0xfe;
+                    }
+                    tileLineAddress = getTileLineAddress(tileId, spriteTileLine, 0x8000, false, spriteAttributes, lcdc.getSpriteHeight());
                 }
-                tileData1 = getTileData(tileId, spriteTileLine, 0, 0x8000, false, spriteAttributes, lcdc.getSpriteHeight());
                 state = State.READ_SPRITE_DATA_2;
                 break;
 
             case READ_SPRITE_DATA_2:
-                tileData2 = getTileData(tileId, spriteTileLine, 1, 0x8000, false, spriteAttributes, lcdc.getSpriteHeight());
+                pixelLine = fetchPixels ? getPixelLine(tileLineAddress, spriteAttributes) : EMPTY_PIXEL_LINE;
                 state = State.PUSH_SPRITE;
                 break;
 
             case PUSH_SPRITE:
-                fifo.setOverlay(zip(tileData1, tileData2, spriteAttributes.isXflip()), spriteOffset, spriteAttributes, spriteOamIndex);
+                fifo.setOverlay(pixelLine, spriteOffset, spriteAttributes, spriteOamIndex);
                 state = State.READ_TILE_ID;
                 break;
         }
     }
 
-    private int getTileData(int tileId, int line, int byteNumber, int tileDataAddress, boolean signed, TileAttributes attr, int tileHeight) {
+    private int getTileLineAddress(int tileId, int line, int tileDataAddress, boolean signed, TileAttributes attr, int tileHeight) {
         int effectiveLine;
         if (attr.isYflip()) {
             effectiveLine = tileHeight - 1 - line;
@@ -200,16 +216,73 @@ public class Fetcher {
         } else {
             tileAddress = tileDataAddress + tileId * 0x10;
         }
-        AddressSpace videoRam = (attr.getBank() == 0 || !gbc) ? videoRam0 : videoRam1;
-        return videoRam.getByte(tileAddress + effectiveLine * 2 + byteNumber);
+        return tileAddress + effectiveLine * 2;
+    }
+
+    private int[] getPixelLine(int tileLineAddress, TileAttributes attr) {
+        int bank = (attr.getBank() == 0 || !gbc) ? 0 : 1;
+        return tileCache.getLine(bank, tileLineAddress, attr.isXflip());
     }
 
     public boolean spriteInProgress() {
         return EnumSet.of(State.READ_SPRITE_TILE_ID, State.READ_SPRITE_FLAGS, State.READ_SPRITE_DATA_1, State.READ_SPRITE_DATA_2, State.PUSH_SPRITE).contains(state);
     }
 
-    public int[] zip(int data1, int data2, boolean reverse) {
-        return zip(data1, data2, reverse, pixelLine);
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put((byte) (state == null ? -1 : state.ordinal()));
+        Snapshotable.putBoolean(buffer, fetchingDisabled);
+        buffer.putShort((short) mapAddress);
+        buffer.put((byte) xOffset);
+        buffer.putShort((short) tileDataAddress);
+        Snapshotable.putBoolean(buffer, tileIdSigned);
+        buffer.put((byte) tileLine);
+        buffer.put((byte) tileId);
+        putAttributes(buffer, tileAttributes);
+        buffer.putShort((short) tileLineAddress);
+        for (int i = 0; i < 8; i++) {
+            buffer.put((byte) (pixelLine == null ? 0 : pixelLine[i]));
+        }
+        buffer.put((byte) spriteTileLine);
+        buffer.putShort((short) spriteAddress);
+        putAttributes(buffer, spriteAttributes);
+        buffer.put((byte) spriteOffset);
+        buffer.put((byte) spriteOamIndex);
+        buffer.put((byte) divider);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        int s = buffer.get();
+        state = s == -1 ? null : STATES[s];
+        fetchingDisabled = Snapshotable.getBoolean(buffer);
+        mapAddress = buffer.getShort() & 0xffff;
+        xOffset = buffer.get();
+        tileDataAddress = buffer.getShort() & 0xffff;
+        tileIdSigned = Snapshotable.getBoolean(buffer);
+        tileLine = buffer.get();
+        tileId = buffer.get() & 0xff;
+        tileAttributes = getAttributes(buffer);
+        tileLineAddress = buffer.getShort() & 0xffff;
+        for (int i = 0; i < 8; i++) {
+            restoredPixelLine[i] = buffer.get();
+        }
+        pixelLine = restoredPixelLine;
+        spriteTileLine = buffer.get();
+        spriteAddress = buffer.getShort() & 0xffff;
+        spriteAttributes = getAttributes(buffer);
+        spriteOffset = buffer.get();
+        spriteOamIndex = buffer.get();
+        divider = buffer.get();
+    }
+
+    private static void putAttributes(ByteBuffer buffer, TileAttributes attributes) {
+        buffer.putShort((short) (attributes == null ? -1 : attributes.getValue()));
+    }
+
+    private static TileAttributes getAttributes(ByteBuffer buffer) {
+        int value = buffer.getShort();
+        return value == -1 ? null : TileAttributes.valueOf(value);
     }
 
     public static int[] zip(int data1, int data2, boolean reverse, int[] pixelLine) {
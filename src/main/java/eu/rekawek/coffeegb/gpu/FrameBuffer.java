@@ -0,0 +1,89 @@
+package eu.rekawek.coffeegb.gpu;
+
+import eu.rekawek.coffeegb.Snapshotable;
+
+import java.nio.ByteBuffer;
+
+// the emulator-owned frame, filled line by line during the pixel transfer. The pixels are the DMG color indices (0-3)
+// or the 15-bit CGB colors, depending on the mode.
+public class FrameBuffer implements Snapshotable {
+
+    public static final int WIDTH = 160;
+
+    public static final int HEIGHT = 144;
+
+    private final int[] pixels = new int[WIDTH * HEIGHT];
+
+    private final boolean gbc;
+
+    private int position;
+
+    public FrameBuffer(boolean gbc) {
+        this.gbc = gbc;
+    }
+
+    public void startLine(int line) {
+        position = line * WIDTH;
+    }
+
+    public void putPixel(int pixel) {
+        pixels[position++] = pixel;
+    }
+
+    public void putLine(int[] line) {
+        System.arraycopy(line, 0, pixels, position, WIDTH);
+        position += WIDTH;
+    }
+
+    public void copyFrom(FrameBuffer frameBuffer) {
+        System.arraycopy(frameBuffer.pixels, 0, pixels, 0, pixels.length);
+    }
+
+    public boolean isGbc() {
+        return gbc;
+    }
+
+    // the array shouldn't be modified
+    public int[] getPixels() {
+        return pixels;
+    }
+
+    public void toRgb(int[] rgb, int[] dmgColors) {
+        if (gbc) {
+            for (int i = 0; i < pixels.length; i++) {
+                rgb[i] = translateGbcRgb(pixels[i]);
+            }
+        } else {
+            for (int i = 0; i < pixels.length; i++) {
+                rgb[i] = dmgColors[pixels[i]];
+            }
+        }
+    }
+
+    // both the color indices and the CGB colors fit in 16 bits
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        for (int p : pixels) {
+            buffer.putShort((short) p);
+        }
+        buffer.putInt(position);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = buffer.getShort() & 0xffff;
+        }
+        position = buffer.getInt();
+    }
+
+    public static int translateGbcRgb(int gbcRgb) {
+        int r = (gbcRgb >> 0) & 0x1f;
+        int g = (gbcRgb >> 5) & 0x1f;
+        int b = (gbcRgb >> 10) & 0x1f;
+        int result = (r * 8) << 16;
+        result |= (g * 8) << 8;
+        result |= (b * 8) << 0;
+        return result;
+    }
+}
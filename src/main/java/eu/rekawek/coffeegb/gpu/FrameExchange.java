@@ -0,0 +1,65 @@
+package eu.rekawek.coffeegb.gpu;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// triple buffer passing the frames from the emulator thread to a single display thread without locking. The emulator
+// copies the complete frame into its back buffer and swaps it with the middle one. The display swaps its front buffer
+// with the middle one if it contains a frame that wasn't displayed yet.
+public class FrameExchange {
+
+    private static final int FRESH = 0b100;
+
+    private static final int INDEX = 0b011;
+
+    private final FrameBuffer[] buffers = new FrameBuffer[3];
+
+    // index of the middle buffer, with the FRESH bit set if it hasn't been taken yet
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    private final AtomicLong droppedFrames = new AtomicLong();
+
+    private final AtomicLong duplicatedFrames = new AtomicLong();
+
+    // used by the emulator thread only
+    private int back = 0;
+
+    // used by the display thread only
+    private int front = 2;
+
+    public FrameExchange(boolean gbc) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new FrameBuffer(gbc);
+        }
+    }
+
+    public void publish(FrameBuffer frameBuffer) {
+        buffers[back].copyFrom(frameBuffer);
+        int previous = middle.getAndSet(back | FRESH);
+        if ((previous & FRESH) != 0) {
+            droppedFrames.incrementAndGet();
+        }
+        back = previous & INDEX;
+    }
+
+    // returns the latest frame, or null if there's nothing new since the last call. The frame can be read until the
+    // next call.
+    public FrameBuffer take() {
+        if ((middle.get() & FRESH) == 0) {
+            duplicatedFrames.incrementAndGet();
+            return null;
+        }
+        front = middle.getAndSet(front) & INDEX;
+        return buffers[front];
+    }
+
+    // frames overwritten by the emulator before the display took them
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    // display refreshes without a new frame
+    public long getDuplicatedFrames() {
+        return duplicatedFrames.get();
+    }
+}
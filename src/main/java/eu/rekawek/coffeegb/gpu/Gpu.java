@@ -1,6 +1,7 @@
 package eu.rekawek.coffeegb.gpu;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.cpu.InterruptManager;
 import eu.rekawek.coffeegb.cpu.InterruptManager.InterruptType;
 import eu.rekawek.coffeegb.cpu.SpeedMode;
@@ -13,19 +14,23 @@ import eu.rekawek.coffeegb.memory.Dma;
 import eu.rekawek.coffeegb.memory.MemoryRegisters;
 import eu.rekawek.coffeegb.memory.Ram;
 
+import java.nio.ByteBuffer;
+
 import static eu.rekawek.coffeegb.gpu.GpuRegister.*;
 
-public class Gpu implements AddressSpace {
+public class Gpu implements AddressSpace, Snapshotable {
 
     public enum Mode {
         HBlank, VBlank, OamSearch, PixelTransfer
     }
 
-    private final AddressSpace videoRam0;
+    private static final Mode[] MODES = Mode.values();
+
+    private final Ram videoRam0;
 
-    private final AddressSpace videoRam1;
+    private final Ram videoRam1;
 
-    private final AddressSpace oamRam;
+    private final Ram oamRam;
 
     private final Display display;
 
@@ -41,6 +46,10 @@ public class Gpu implements AddressSpace {
 
     private final ColorPalette oamPalette;
 
+    private final TileCache tileCache;
+
+    private final FrameBuffer frameBuffer;
+
     private final HBlankPhase hBlankPhase;
 
     private final OamSearch oamSearchPhase;
@@ -49,6 +58,13 @@ public class Gpu implements AddressSpace {
 
     private final VBlankPhase vBlankPhase;
 
+    // render 1 in frameSkip frames, 0 disables rendering
+    private final int frameSkip;
+
+    private int frameCounter;
+
+    private boolean renderingFrame;
+
     private boolean lcdEnabled = true;
 
     private int lcdEnabledDelay;
@@ -62,6 +78,19 @@ public class Gpu implements AddressSpace {
     private GpuPhase phase;
 
     public Gpu(Display display, InterruptManager interruptManager, Dma dma, Ram oamRam, boolean gbc) {
+        this(display, interruptManager, dma, oamRam, gbc, false);
+    }
+
+    public Gpu(Display display, InterruptManager interruptManager, Dma dma, Ram oamRam, boolean gbc, boolean scanlineRenderer) {
+        this(display, interruptManager, dma, oamRam, gbc, scanlineRenderer, 1);
+    }
+
+    public Gpu(Display display, InterruptManager interruptManager, Dma dma, Ram oamRam, boolean gbc, boolean scanlineRenderer, int frameSkip) {
+        if (frameSkip < 0) {
+            throw new IllegalArgumentException("Invalid frame skip: " + frameSkip);
+        }
+        this.frameSkip = frameSkip;
+        this.renderingFrame = frameSkip != 0;
         this.r = new MemoryRegisters(GpuRegister.values());
         this.lcdc = new Lcdc();
         this.interruptManager = interruptManager;
@@ -74,13 +103,15 @@ public class Gpu implements AddressSpace {
         }
         this.oamRam = oamRam;
         this.dma = dma;
+        this.tileCache = new TileCache(videoRam0, videoRam1);
+        this.frameBuffer = new FrameBuffer(gbc);
 
         this.bgPalette = new ColorPalette(0xff68);
         this.oamPalette = new ColorPalette(0xff6a);
         oamPalette.fillWithFF();
 
         this.oamSearchPhase = new OamSearch(oamRam, lcdc, r);
-        this.pixelTransferPhase = new PixelTransfer(videoRam0, videoRam1, oamRam, display, lcdc, r, gbc, bgPalette, oamPalette);
+        this.pixelTransferPhase = new PixelTransfer(videoRam0, videoRam1, oamRam, frameBuffer, lcdc, r, gbc, bgPalette, oamPalette, tileCache, scanlineRenderer);
         this.hBlankPhase = new HBlankPhase();
         this.vBlankPhase = new VBlankPhase();
 
@@ -116,6 +147,14 @@ public class Gpu implements AddressSpace {
         }
     }
 
+    public FrameBuffer getFrameBuffer() {
+        return frameBuffer;
+    }
+
+    public TileCache getTileCache() {
+        return tileCache;
+    }
+
     public AddressSpace getVideoRam0() {
         return videoRam0;
     }
@@ -139,6 +178,9 @@ public class Gpu implements AddressSpace {
                 setLcdc(value);
             } else if (space != null) {
                 space.setByte(address, value);
+                if (space == videoRam0 || space == videoRam1) {
+                    tileCache.onVideoRamWrite(space == videoRam0 ? 0 : 1, address);
+                }
             }
         }
     }
@@ -159,6 +201,33 @@ public class Gpu implements AddressSpace {
         }
     }
 
+    @Override
+    public void readBlock(int address, byte[] buffer, int offset, int length) {
+        if (isVideoRamRange(address, length)) {
+            getVideoRam().readBlock(address, buffer, offset, length);
+        } else {
+            AddressSpace.super.readBlock(address, buffer, offset, length);
+        }
+    }
+
+    @Override
+    public void writeBlock(int address, byte[] buffer, int offset, int length) {
+        if (isVideoRamRange(address, length)) {
+            AddressSpace videoRam = getVideoRam();
+            videoRam.writeBlock(address, buffer, offset, length);
+            for (int i = 0; i < length; i += 0x10) {
+                tileCache.onVideoRamWrite(videoRam == videoRam0 ? 0 : 1, address + i);
+            }
+            tileCache.onVideoRamWrite(videoRam == videoRam0 ? 0 : 1, address + length - 1);
+        } else {
+            AddressSpace.super.writeBlock(address, buffer, offset, length);
+        }
+    }
+
+    private static boolean isVideoRamRange(int address, int length) {
+        return address >= 0x8000 && address + length <= 0xa000;
+    }
+
     public Mode tick() {
         if (!lcdEnabled) {
             if (lcdEnabledDelay != -1) {
@@ -184,7 +253,7 @@ public class Gpu implements AddressSpace {
             switch (oldMode) {
                 case OamSearch:
                     mode = Mode.PixelTransfer;
-                    phase = pixelTransferPhase.start(oamSearchPhase.getSprites());
+                    phase = pixelTransferPhase.start(oamSearchPhase.getSprites(), renderingFrame);
                     break;
 
                 case PixelTransfer:
@@ -213,6 +282,7 @@ public class Gpu implements AddressSpace {
                     if (r.preIncrement(LY) == 1) {
                         mode = Mode.OamSearch;
                         r.put(LY, 0);
+                        startFrame();
                         phase = oamSearchPhase.start();
                         requestLcdcInterrupt(5);
                     } else {
@@ -229,6 +299,44 @@ public class Gpu implements AddressSpace {
         }
     }
 
+    // number of the following ticks that only advance the counters
+    public int getIdleTicks() {
+        if (!lcdEnabled) {
+            return lcdEnabledDelay == -1 ? Integer.MAX_VALUE : lcdEnabledDelay - 1;
+        }
+        switch (mode) {
+            case HBlank:
+                return hBlankPhase.getIdleTicks();
+
+            case VBlank:
+                if (r.get(LY) == 153 && ticksInLine < 4) {
+                    return Math.min(3 - ticksInLine, vBlankPhase.getIdleTicks());
+                } else {
+                    return vBlankPhase.getIdleTicks();
+                }
+
+            default:
+                return 0;
+        }
+    }
+
+    public void skip(int ticks) {
+        if (!lcdEnabled) {
+            if (lcdEnabledDelay != -1) {
+                lcdEnabledDelay -= ticks;
+            }
+            return;
+        }
+        ticksInLine += ticks;
+        if (mode == Mode.HBlank) {
+            hBlankPhase.skip(ticks);
+        } else if (mode == Mode.VBlank) {
+            vBlankPhase.skip(ticks);
+        } else {
+            throw new IllegalStateException("Can't skip ticks in " + mode);
+        }
+    }
+
     public int getTicksInLine() {
         return ticksInLine;
     }
@@ -262,6 +370,13 @@ public class Gpu implements AddressSpace {
         }
     }
 
+    private void startFrame() {
+        if (frameSkip != 0) {
+            frameCounter = (frameCounter + 1) % frameSkip;
+            renderingFrame = frameCounter == 0;
+        }
+    }
+
     private void disableLcd() {
         r.put(LY, 0);
         this.ticksInLine = 0;
@@ -276,6 +391,83 @@ public class Gpu implements AddressSpace {
         lcdEnabledDelay = 244;
     }
 
+    // the current phase is the one matching the mode, so all of them are saved
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        videoRam0.saveState(buffer);
+        if (gbc) {
+            videoRam1.saveState(buffer);
+        }
+        oamRam.saveState(buffer);
+        buffer.put((byte) lcdc.get());
+        r.saveState(buffer);
+        bgPalette.saveState(buffer);
+        oamPalette.saveState(buffer);
+        frameBuffer.saveState(buffer);
+        buffer.putInt(frameCounter);
+        Snapshotable.putBoolean(buffer, renderingFrame);
+        Snapshotable.putBoolean(buffer, lcdEnabled);
+        buffer.putInt(lcdEnabledDelay);
+        buffer.putInt(ticksInLine);
+        buffer.put((byte) mode.ordinal());
+        oamSearchPhase.saveState(buffer);
+        pixelTransferPhase.saveState(buffer);
+        hBlankPhase.saveState(buffer);
+        vBlankPhase.saveState(buffer);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        videoRam0.loadState(buffer);
+        if (gbc) {
+            videoRam1.loadState(buffer);
+        }
+        oamRam.loadState(buffer);
+        lcdc.set(buffer.get() & 0xff);
+        r.loadState(buffer);
+        bgPalette.loadState(buffer);
+        oamPalette.loadState(buffer);
+        frameBuffer.loadState(buffer);
+        frameCounter = buffer.getInt();
+        renderingFrame = Snapshotable.getBoolean(buffer);
+        lcdEnabled = Snapshotable.getBoolean(buffer);
+        lcdEnabledDelay = buffer.getInt();
+        ticksInLine = buffer.getInt();
+        mode = MODES[buffer.get()];
+        oamSearchPhase.loadState(buffer);
+        pixelTransferPhase.loadState(buffer);
+        hBlankPhase.loadState(buffer);
+        vBlankPhase.loadState(buffer);
+        switch (mode) {
+            case OamSearch:
+                phase = oamSearchPhase;
+                break;
+
+            case PixelTransfer:
+                phase = pixelTransferPhase;
+                break;
+
+            case HBlank:
+                phase = hBlankPhase;
+                break;
+
+            case VBlank:
+                phase = vBlankPhase;
+                break;
+        }
+        tileCache.invalidateAll();
+        if (lcdEnabled) {
+            display.enableLcd();
+        } else {
+            display.disableLcd();
+        }
+    }
+
+    // whether the current (or the just finished, during VBlank) frame is rendered into the frame buffer
+    public boolean isRenderingFrame() {
+        return renderingFrame;
+    }
+
     public boolean isLcdEnabled() {
         return lcdEnabled;
     }
@@ -1,8 +1,11 @@
 package eu.rekawek.coffeegb.gpu;
 
+import eu.rekawek.coffeegb.Snapshotable;
+
+import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
 
-public class IntQueue {
+public class IntQueue implements Snapshotable {
 
     private final int[] array;
 
@@ -58,4 +61,18 @@ public class IntQueue {
         size = 0;
         offset = 0;
     }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        Snapshotable.putInts(buffer, array);
+        buffer.putInt(size);
+        buffer.putInt(offset);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        Snapshotable.getInts(buffer, array);
+        size = buffer.getInt();
+        offset = buffer.getInt();
+    }
 }
@@ -0,0 +1,49 @@
+package eu.rekawek.coffeegb.gpu;
+
+import java.nio.ByteBuffer;
+
+// FIFO which only counts the pixels and ignores their values. It's used when the pixel transfer has to take the same
+// time, but the pixels are rendered in some other way or not needed at all.
+public class PixelCounter implements PixelFifo {
+
+    private int length;
+
+    @Override
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public void putPixelToScreen() {
+        length--;
+    }
+
+    @Override
+    public void dropPixel() {
+        length--;
+    }
+
+    @Override
+    public void enqueue8Pixels(int[] pixels, TileAttributes tileAttributes) {
+        length += 8;
+    }
+
+    @Override
+    public void setOverlay(int[] pixelLine, int offset, TileAttributes flags, int oamIndex) {
+    }
+
+    @Override
+    public void clear() {
+        length = 0;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.putInt(length);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        length = buffer.getInt();
+    }
+}
@@ -0,0 +1,18 @@
+package eu.rekawek.coffeegb.gpu;
+
+// display receiving the frame pixel by pixel, see PixelDisplayAdapter
+public interface PixelDisplay {
+
+    void putDmgPixel(int color);
+
+    void putColorPixel(int gbcRgb);
+
+    void requestRefresh();
+
+    void waitForRefresh();
+
+    void enableLcd();
+
+    void disableLcd();
+
+}
@@ -0,0 +1,40 @@
+package eu.rekawek.coffeegb.gpu;
+
+public class PixelDisplayAdapter implements Display {
+
+    private final PixelDisplay display;
+
+    public PixelDisplayAdapter(PixelDisplay display) {
+        this.display = display;
+    }
+
+    @Override
+    public void requestRefresh(FrameBuffer frameBuffer) {
+        int[] pixels = frameBuffer.getPixels();
+        if (frameBuffer.isGbc()) {
+            for (int p : pixels) {
+                display.putColorPixel(p);
+            }
+        } else {
+            for (int p : pixels) {
+                display.putDmgPixel(p);
+            }
+        }
+        display.requestRefresh();
+    }
+
+    @Override
+    public void waitForRefresh() {
+        display.waitForRefresh();
+    }
+
+    @Override
+    public void enableLcd() {
+        display.enableLcd();
+    }
+
+    @Override
+    public void disableLcd() {
+        display.disableLcd();
+    }
+}
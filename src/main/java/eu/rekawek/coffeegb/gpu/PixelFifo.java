@@ -1,6 +1,8 @@
 package eu.rekawek.coffeegb.gpu;
 
-public interface PixelFifo {
+import eu.rekawek.coffeegb.Snapshotable;
+
+public interface PixelFifo extends Snapshotable {
 
     int getLength();
 
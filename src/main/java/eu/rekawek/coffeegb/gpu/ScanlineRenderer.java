@@ -0,0 +1,222 @@
+package eu.rekawek.coffeegb.gpu;
+
+import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.gpu.phase.OamSearch.SpritePosition;
+import eu.rekawek.coffeegb.memory.MemoryRegisters;
+
+import static eu.rekawek.coffeegb.cpu.BitUtils.toSigned;
+import static eu.rekawek.coffeegb.gpu.GpuRegister.BGP;
+import static eu.rekawek.coffeegb.gpu.GpuRegister.LY;
+import static eu.rekawek.coffeegb.gpu.GpuRegister.SCX;
+import static eu.rekawek.coffeegb.gpu.GpuRegister.SCY;
+import static eu.rekawek.coffeegb.gpu.GpuRegister.WX;
+import static eu.rekawek.coffeegb.gpu.GpuRegister.WY;
+
+// renders the whole line at once, when the pixel transfer starts. As the pixel transfer still has to take the same
+// time, the renderer acts as a FIFO which only counts the pixels and ignores their values.
+public class ScanlineRenderer extends PixelCounter {
+
+    private static final int WIDTH = 160;
+
+    private static final int BG = -1;
+
+    private static final int BG_PRIORITY = 100;
+
+    private final AddressSpace videoRam0;
+
+    private final AddressSpace videoRam1;
+
+    private final AddressSpace oemRam;
+
+    private final FrameBuffer frameBuffer;
+
+    private final Lcdc lcdc;
+
+    private final MemoryRegisters r;
+
+    private final boolean gbc;
+
+    private final ColorPalette bgPalette;
+
+    private final ColorPalette oamPalette;
+
+    private final TileCache tileCache;
+
+    private final int[] pixels = new int[WIDTH];
+
+    private final int[] colors = new int[WIDTH];
+
+    // DMG: palette register, CGB: palette index
+    private final int[] palettes = new int[WIDTH];
+
+    // BG, BG_PRIORITY or the index of the sprite
+    private final int[] priorities = new int[WIDTH];
+
+    private final SpritePosition[] sprites = new SpritePosition[10];
+
+    private final int[] spriteIndices = new int[10];
+
+    public ScanlineRenderer(AddressSpace videoRam0, AddressSpace videoRam1, AddressSpace oemRam, FrameBuffer frameBuffer, Lcdc lcdc, MemoryRegisters r, boolean gbc, ColorPalette bgPalette, ColorPalette oamPalette, TileCache tileCache) {
+        this.videoRam0 = videoRam0;
+        this.videoRam1 = videoRam1;
+        this.oemRam = oemRam;
+        this.frameBuffer = frameBuffer;
+        this.lcdc = lcdc;
+        this.r = r;
+        this.gbc = gbc;
+        this.bgPalette = bgPalette;
+        this.oamPalette = oamPalette;
+        this.tileCache = tileCache;
+    }
+
+    public void renderLine(SpritePosition[] lineSprites) {
+        int ly = r.get(LY);
+        int windowX = WIDTH;
+        if (gbc || lcdc.isBgAndWindowDisplay()) {
+            if (lcdc.isWindowDisplay() && ly >= r.get(WY) && r.get(WX) >= 7 && r.get(WX) - 7 < WIDTH) {
+                windowX = r.get(WX) - 7;
+            }
+            int bgY = (r.get(SCY) + ly) % 0x100;
+            renderTiles(0, windowX, lcdc.getBgTileMapDisplay() + (bgY / 0x08) * 0x20, r.get(SCX), bgY % 0x08);
+            if (windowX < WIDTH) {
+                int winY = ly - r.get(WY);
+                renderTiles(windowX, WIDTH, lcdc.getWindowTileMapDisplay() + (winY / 0x08) * 0x20, 0, winY % 0x08);
+            }
+        } else {
+            for (int x = 0; x < WIDTH; x++) {
+                pixels[x] = 0;
+                palettes[x] = r.get(BGP);
+                priorities[x] = BG;
+            }
+        }
+        if (lcdc.isObjDisplay()) {
+            renderSprites(lineSprites, ly, windowX);
+        }
+
+        for (int x = 0; x < WIDTH; x++) {
+            if (gbc) {
+                ColorPalette palette = priorities[x] == BG || priorities[x] == BG_PRIORITY ? bgPalette : oamPalette;
+                colors[x] = palette.getPalette(palettes[x])[pixels[x]];
+            } else {
+                colors[x] = 0b11 & (palettes[x] >> (pixels[x] * 2));
+            }
+        }
+        frameBuffer.putLine(colors);
+    }
+
+    // renders the [from, to) range, starting with the pixel scrollX of the given tile map line
+    private void renderTiles(int from, int to, int mapAddress, int scrollX, int line) {
+        int tileDataAddress = lcdc.getBgWindowTileData();
+        boolean signed = lcdc.isBgWindowTileDataSigned();
+        int bgp = r.get(BGP);
+        int[] tileLine = null;
+        TileAttributes attributes = TileAttributes.EMPTY;
+        for (int x = from; x < to; x++) {
+            int mapX = scrollX + x - from;
+            int column = mapX % 0x08;
+            if (x == from || column == 0) {
+                int tileAddress = mapAddress + (mapX / 0x08) % 0x20;
+                int tileId = videoRam0.getByte(tileAddress);
+                attributes = gbc ? TileAttributes.valueOf(videoRam1.getByte(tileAddress)) : TileAttributes.EMPTY;
+                tileLine = getTileLine(signed ? toSigned(tileId) : tileId, line, tileDataAddress, attributes, 8);
+            }
+            pixels[x] = tileLine[column];
+            palettes[x] = gbc ? attributes.getColorPaletteIndex() : bgp;
+            priorities[x] = attributes.isPriority() && gbc ? BG_PRIORITY : BG;
+        }
+    }
+
+    // the sprites are applied in the same order as the FIFO overlays them: from left to right, and then by the OAM
+    // index. The window start clears the FIFO, so the sprites started before it are cut there.
+    private void renderSprites(SpritePosition[] lineSprites, int ly, int windowX) {
+        int count = 0;
+        for (int i = 0; i < lineSprites.length; i++) {
+            SpritePosition s = lineSprites[i];
+            if (s == null || s.getX() - 8 >= WIDTH) {
+                continue;
+            }
+            int j = count++;
+            while (j > 0 && startX(sprites[j - 1]) > startX(s)) {
+                sprites[j] = sprites[j - 1];
+                spriteIndices[j] = spriteIndices[j - 1];
+                j--;
+            }
+            sprites[j] = s;
+            spriteIndices[j] = i;
+        }
+
+        int height = lcdc.getSpriteHeight();
+        for (int i = 0; i < count; i++) {
+            SpritePosition s = sprites[i];
+            int oamIndex = spriteIndices[i];
+            int tileId = oemRam.getByte(s.getAddress() + 2);
+            TileAttributes attributes = TileAttributes.valueOf(oemRam.getByte(s.getAddress() + 3));
+            if (height == 16) {
+                tileId &= 0xfe;
+            }
+            int[] tileLine = getTileLine(tileId, ly + 16 - s.getY(), 0x8000, attributes, height);
+            int limit = startX(s) < windowX ? windowX : WIDTH;
+            int overlayPalette = r.get(attributes.getDmgPalette());
+            for (int column = Math.max(0, 8 - s.getX()); column < 8; column++) {
+                int x = s.getX() - 8 + column;
+                if (x >= limit) {
+                    break;
+                }
+                int p = tileLine[column];
+                if (gbc) {
+                    overlayColor(x, p, attributes, oamIndex);
+                } else {
+                    overlayDmg(x, p, attributes, overlayPalette);
+                }
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            sprites[i] = null;
+        }
+    }
+
+    private void overlayDmg(int x, int p, TileAttributes attributes, int overlayPalette) {
+        if (priorities[x] != BG) {
+            return;
+        }
+        boolean priority = attributes.isPriority();
+        if ((priority && pixels[x] == 0) || !priority && p != 0) {
+            pixels[x] = p;
+            palettes[x] = overlayPalette;
+            priorities[x] = 0;
+        }
+    }
+
+    // see ColorPixelFifo.setOverlay()
+    private void overlayColor(int x, int p, TileAttributes attributes, int oamIndex) {
+        if (p == 0) {
+            return;
+        }
+        int oldPriority = priorities[x];
+        boolean put = false;
+        if ((oldPriority == BG || oldPriority == BG_PRIORITY) && !lcdc.isBgAndWindowDisplay()) {
+            put = true;
+        } else if (oldPriority == BG_PRIORITY) {
+            put = pixels[x] == 0;
+        } else if (oldPriority == BG) {
+            put = !attributes.isPriority() || pixels[x] == 0;
+        } else {
+            put = oldPriority > oamIndex;
+        }
+        if (put) {
+            pixels[x] = p;
+            palettes[x] = attributes.getColorPaletteIndex();
+            priorities[x] = oamIndex;
+        }
+    }
+
+    private int[] getTileLine(int tileId, int line, int tileDataAddress, TileAttributes attributes, int tileHeight) {
+        int effectiveLine = attributes.isYflip() ? tileHeight - 1 - line : line;
+        int bank = (attributes.getBank() == 0 || !gbc) ? 0 : 1;
+        return tileCache.getLine(bank, tileDataAddress + tileId * 0x10 + effectiveLine * 2, attributes.isXflip());
+    }
+
+    private static int startX(SpritePosition sprite) {
+        return Math.max(0, sprite.getX() - 8);
+    }
+}
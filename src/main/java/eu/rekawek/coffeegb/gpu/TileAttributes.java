@@ -47,4 +47,8 @@ public class TileAttributes {
     public int getColorPaletteIndex() {
         return value & 0x07;
     }
+
+    public int getValue() {
+        return value;
+    }
 }
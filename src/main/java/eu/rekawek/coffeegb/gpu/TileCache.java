@@ -0,0 +1,62 @@
+package eu.rekawek.coffeegb.gpu;
+
+import eu.rekawek.coffeegb.AddressSpace;
+
+import java.util.Arrays;
+
+// decoded lines of the 0x8000-0x97ff tiles, together with their horizontally flipped variants. The tiles are decoded
+// when they're used for the first time after the last VRAM write.
+public class TileCache {
+
+    private static final int TILES = 384;
+
+    private final AddressSpace videoRam0;
+
+    private final AddressSpace videoRam1;
+
+    // bank, tile, line, xflip
+    private final int[][] lines = new int[2 * TILES * 8 * 2][];
+
+    private final boolean[] valid = new boolean[2 * TILES];
+
+    public TileCache(AddressSpace videoRam0, AddressSpace videoRam1) {
+        this.videoRam0 = videoRam0;
+        this.videoRam1 = videoRam1;
+    }
+
+    // returns the color indices of the tile line at the given address, the array shouldn't be modified
+    public int[] getLine(int bank, int address, boolean xflip) {
+        int tile = bank * TILES + ((address - 0x8000) >> 4);
+        if (!valid[tile]) {
+            decode(bank, tile);
+        }
+        return lines[(tile * 8 + ((address >> 1) & 0x07)) * 2 + (xflip ? 1 : 0)];
+    }
+
+    public void onVideoRamWrite(int bank, int address) {
+        if (address >= 0x8000 && address < 0x9800) {
+            valid[bank * TILES + ((address - 0x8000) >> 4)] = false;
+        }
+    }
+
+    public void invalidateAll() {
+        Arrays.fill(valid, false);
+    }
+
+    private void decode(int bank, int tile) {
+        AddressSpace videoRam = bank == 0 ? videoRam0 : videoRam1;
+        int address = 0x8000 + (tile - bank * TILES) * 0x10;
+        for (int line = 0; line < 8; line++) {
+            int data1 = videoRam.getByte(address + line * 2);
+            int data2 = videoRam.getByte(address + line * 2 + 1);
+            int i = (tile * 8 + line) * 2;
+            if (lines[i] == null) {
+                lines[i] = new int[8];
+                lines[i + 1] = new int[8];
+            }
+            Fetcher.zip(data1, data2, false, lines[i]);
+            Fetcher.zip(data1, data2, true, lines[i + 1]);
+        }
+        valid[tile] = true;
+    }
+}
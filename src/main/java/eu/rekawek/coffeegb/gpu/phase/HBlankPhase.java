@@ -1,6 +1,10 @@
 package eu.rekawek.coffeegb.gpu.phase;
 
-public class HBlankPhase implements GpuPhase {
+import eu.rekawek.coffeegb.Snapshotable;
+
+import java.nio.ByteBuffer;
+
+public class HBlankPhase implements GpuPhase, Snapshotable {
 
     private int ticks;
 
@@ -15,4 +19,21 @@ public class HBlankPhase implements GpuPhase {
         return ticks < 456;
     }
 
+    public int getIdleTicks() {
+        return 455 - ticks;
+    }
+
+    public void skip(int ticks) {
+        this.ticks += ticks;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.putInt(ticks);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        ticks = buffer.getInt();
+    }
 }
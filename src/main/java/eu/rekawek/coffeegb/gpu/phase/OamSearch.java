@@ -1,28 +1,39 @@
 package eu.rekawek.coffeegb.gpu.phase;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.gpu.GpuRegister;
 import eu.rekawek.coffeegb.gpu.Lcdc;
 import eu.rekawek.coffeegb.memory.MemoryRegisters;
 
-public class OamSearch implements GpuPhase {
+import java.nio.ByteBuffer;
+
+public class OamSearch implements GpuPhase, Snapshotable {
 
     private enum State {
         READING_Y, READING_X;
     }
 
+    private static final State[] STATES = State.values();
+
+    // the positions are reused in the following lines, so they shouldn't be kept after the pixel transfer
     public static class SpritePosition {
 
-        private final int x;
+        private int x;
 
-        private final int y;
+        private int y;
 
-        private final int address;
+        private int address;
 
         public SpritePosition(int x, int y, int address) {
+            set(x, y, address);
+        }
+
+        SpritePosition set(int x, int y, int address) {
             this.x = x;
             this.y = y;
             this.address = address;
+            return this;
         }
 
         public int getX() {
@@ -44,6 +55,8 @@ public class OamSearch implements GpuPhase {
 
     private final SpritePosition[] sprites;
 
+    private final SpritePosition[] positions;
+
     private final Lcdc lcdc;
 
     private int spritePosIndex;
@@ -61,6 +74,7 @@ public class OamSearch implements GpuPhase {
         this.registers = registers;
         this.lcdc = lcdc;
         this.sprites = new SpritePosition[10];
+        this.positions = createPositions(sprites.length);
     }
 
     public OamSearch start() {
@@ -87,7 +101,8 @@ public class OamSearch implements GpuPhase {
             case READING_X:
                 spriteX = oemRam.getByte(spriteAddress + 1);
                 if (spritePosIndex < sprites.length && between(spriteY, registers.get(GpuRegister.LY) + 16, spriteY + lcdc.getSpriteHeight())) {
-                    sprites[spritePosIndex++] = new SpritePosition(spriteX, spriteY, spriteAddress);
+                    sprites[spritePosIndex] = positions[spritePosIndex].set(spriteX, spriteY, spriteAddress);
+                    spritePosIndex++;
                 }
                 i++;
                 state = State.READING_Y;
@@ -104,4 +119,55 @@ public class OamSearch implements GpuPhase {
         return from <= x && x < to;
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        saveSprites(buffer, sprites);
+        buffer.put((byte) spritePosIndex);
+        buffer.put((byte) state.ordinal());
+        buffer.put((byte) spriteY);
+        buffer.put((byte) spriteX);
+        buffer.put((byte) i);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        loadSprites(buffer, sprites, positions);
+        spritePosIndex = buffer.get();
+        state = STATES[buffer.get()];
+        spriteY = buffer.get() & 0xff;
+        spriteX = buffer.get() & 0xff;
+        i = buffer.get();
+    }
+
+    static SpritePosition[] createPositions(int count) {
+        SpritePosition[] positions = new SpritePosition[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = new SpritePosition(0, 0, 0);
+        }
+        return positions;
+    }
+
+    static void saveSprites(ByteBuffer buffer, SpritePosition[] sprites) {
+        for (SpritePosition s : sprites) {
+            if (s == null) {
+                buffer.putShort((short) -1);
+                buffer.putShort((short) 0);
+            } else {
+                buffer.putShort((short) s.address);
+                buffer.put((byte) s.x);
+                buffer.put((byte) s.y);
+            }
+        }
+    }
+
+    // the restored positions are taken from the given pool, which should be as long as the sprites array
+    static void loadSprites(ByteBuffer buffer, SpritePosition[] sprites, SpritePosition[] positions) {
+        for (int i = 0; i < sprites.length; i++) {
+            short address = buffer.getShort();
+            int x = buffer.get() & 0xff;
+            int y = buffer.get() & 0xff;
+            sprites[i] = address == -1 ? null : positions[i].set(x, y, address & 0xffff);
+        }
+    }
+
 }
@@ -1,29 +1,46 @@
 package eu.rekawek.coffeegb.gpu.phase;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.gpu.ColorPalette;
 import eu.rekawek.coffeegb.gpu.ColorPixelFifo;
-import eu.rekawek.coffeegb.gpu.Display;
+import eu.rekawek.coffeegb.gpu.FrameBuffer;
 import eu.rekawek.coffeegb.gpu.Fetcher;
 import eu.rekawek.coffeegb.gpu.Lcdc;
 import eu.rekawek.coffeegb.gpu.DmgPixelFifo;
+import eu.rekawek.coffeegb.gpu.PixelCounter;
 import eu.rekawek.coffeegb.gpu.PixelFifo;
+import eu.rekawek.coffeegb.gpu.ScanlineRenderer;
+import eu.rekawek.coffeegb.gpu.TileCache;
 import eu.rekawek.coffeegb.gpu.phase.OamSearch.SpritePosition;
 import eu.rekawek.coffeegb.memory.MemoryRegisters;
 
+import java.nio.ByteBuffer;
+
 import static eu.rekawek.coffeegb.gpu.GpuRegister.LY;
 import static eu.rekawek.coffeegb.gpu.GpuRegister.SCX;
 import static eu.rekawek.coffeegb.gpu.GpuRegister.SCY;
 import static eu.rekawek.coffeegb.gpu.GpuRegister.WX;
 import static eu.rekawek.coffeegb.gpu.GpuRegister.WY;
 
-public class PixelTransfer implements GpuPhase {
+public class PixelTransfer implements GpuPhase, Snapshotable {
+
+    private final PixelFifo renderingFifo;
+
+    private final Fetcher renderingFetcher;
+
+    // used for the frames which are skipped: keeps the timing, but doesn't produce any pixels
+    private final PixelFifo countingFifo;
+
+    private final Fetcher countingFetcher;
+
+    private final ScanlineRenderer scanlineRenderer;
 
-    private final PixelFifo fifo;
+    private PixelFifo fifo;
 
-    private final Fetcher fetcher;
+    private Fetcher fetcher;
 
-    private final Display display;
+    private final FrameBuffer frameBuffer;
 
     private final MemoryRegisters r;
 
@@ -31,7 +48,12 @@ public class PixelTransfer implements GpuPhase {
 
     private final boolean gbc;
 
-    private SpritePosition[] sprites;
+    // the line sprites are restored into these, as the array passed to start() belongs to the OAM search
+    private final SpritePosition[] restoredSprites = new SpritePosition[10];
+
+    private final SpritePosition[] restoredPositions = OamSearch.createPositions(restoredSprites.length);
+
+    private SpritePosition[] sprites = restoredSprites;
 
     private int droppedPixels;
 
@@ -39,21 +61,42 @@ public class PixelTransfer implements GpuPhase {
 
     private boolean window;
 
-    public PixelTransfer(AddressSpace videoRam0, AddressSpace videoRam1, AddressSpace oemRam, Display display, Lcdc lcdc, MemoryRegisters r, boolean gbc, ColorPalette bgPalette, ColorPalette oamPalette) {
+    public PixelTransfer(AddressSpace videoRam0, AddressSpace videoRam1, AddressSpace oemRam, FrameBuffer frameBuffer, Lcdc lcdc, MemoryRegisters r, boolean gbc, ColorPalette bgPalette, ColorPalette oamPalette, TileCache tileCache, boolean scanline) {
         this.r = r;
         this.lcdc = lcdc;
         this.gbc = gbc;
-        if (gbc) {
-            this.fifo = new ColorPixelFifo(lcdc, display, bgPalette, oamPalette);
+        if (scanline) {
+            this.scanlineRenderer = new ScanlineRenderer(videoRam0, videoRam1, oemRam, frameBuffer, lcdc, r, gbc, bgPalette, oamPalette, tileCache);
+            this.countingFifo = scanlineRenderer;
+            this.countingFetcher = new Fetcher(countingFifo, videoRam0, videoRam1, oemRam, lcdc, r, gbc, tileCache, false);
+            this.renderingFifo = countingFifo;
+            this.renderingFetcher = countingFetcher;
         } else {
-            this.fifo = new DmgPixelFifo(display, lcdc, r);
+            this.scanlineRenderer = null;
+            this.countingFifo = new PixelCounter();
+            this.countingFetcher = new Fetcher(countingFifo, videoRam0, videoRam1, oemRam, lcdc, r, gbc, tileCache, false);
+            if (gbc) {
+                this.renderingFifo = new ColorPixelFifo(lcdc, frameBuffer, bgPalette, oamPalette);
+            } else {
+                this.renderingFifo = new DmgPixelFifo(frameBuffer, lcdc, r);
+            }
+            this.renderingFetcher = new Fetcher(renderingFifo, videoRam0, videoRam1, oemRam, lcdc, r, gbc, tileCache, true);
         }
-        this.fetcher = new Fetcher(fifo, videoRam0, videoRam1, oemRam, lcdc, r, gbc);
-        this.display = display;
-
+        this.frameBuffer = frameBuffer;
     }
 
-    public PixelTransfer start(SpritePosition[] sprites) {
+    public PixelTransfer start(SpritePosition[] sprites, boolean render) {
+        if (render) {
+            fifo = renderingFifo;
+            fetcher = renderingFetcher;
+            frameBuffer.startLine(r.get(LY));
+            if (scanlineRenderer != null) {
+                scanlineRenderer.renderLine(sprites);
+            }
+        } else {
+            fifo = countingFifo;
+            fetcher = countingFetcher;
+        }
         this.sprites = sprites;
         droppedPixels = 0;
         x = 0;
@@ -123,6 +166,39 @@ public class PixelTransfer implements GpuPhase {
         return true;
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        Snapshotable.putBoolean(buffer, fifo == renderingFifo);
+        renderingFifo.saveState(buffer);
+        renderingFetcher.saveState(buffer);
+        if (countingFifo != renderingFifo) {
+            countingFifo.saveState(buffer);
+            countingFetcher.saveState(buffer);
+        }
+        OamSearch.saveSprites(buffer, sprites);
+        buffer.put((byte) droppedPixels);
+        buffer.put((byte) x);
+        Snapshotable.putBoolean(buffer, window);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        boolean render = Snapshotable.getBoolean(buffer);
+        fifo = render ? renderingFifo : countingFifo;
+        fetcher = render ? renderingFetcher : countingFetcher;
+        renderingFifo.loadState(buffer);
+        renderingFetcher.loadState(buffer);
+        if (countingFifo != renderingFifo) {
+            countingFifo.loadState(buffer);
+            countingFetcher.loadState(buffer);
+        }
+        OamSearch.loadSprites(buffer, restoredSprites, restoredPositions);
+        sprites = restoredSprites;
+        droppedPixels = buffer.get();
+        x = buffer.get() & 0xff;
+        window = Snapshotable.getBoolean(buffer);
+    }
+
     private void startFetchingBackground() {
         int bgX = r.get(SCX) / 0x08;
         int bgY = (r.get(SCY) + r.get(LY)) % 0x100;
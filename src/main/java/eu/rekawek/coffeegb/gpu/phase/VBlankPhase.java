@@ -1,6 +1,10 @@
 package eu.rekawek.coffeegb.gpu.phase;
 
-public class VBlankPhase implements GpuPhase {
+import eu.rekawek.coffeegb.Snapshotable;
+
+import java.nio.ByteBuffer;
+
+public class VBlankPhase implements GpuPhase, Snapshotable {
 
     private int ticks;
 
@@ -13,4 +17,22 @@ public class VBlankPhase implements GpuPhase {
     public boolean tick() {
         return ++ticks < 456;
     }
+
+    public int getIdleTicks() {
+        return 455 - ticks;
+    }
+
+    public void skip(int ticks) {
+        this.ticks += ticks;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.putInt(ticks);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        ticks = buffer.getInt();
+    }
 }
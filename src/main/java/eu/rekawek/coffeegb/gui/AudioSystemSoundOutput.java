@@ -1,7 +1,6 @@
 package eu.rekawek.coffeegb.gui;
 
-import com.google.common.base.Preconditions;
-import eu.rekawek.coffeegb.Gameboy;
+import eu.rekawek.coffeegb.sound.SampleRingBuffer;
 import eu.rekawek.coffeegb.sound.SoundOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,26 +9,31 @@ import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.LineUnavailableException;
 import javax.sound.sampled.SourceDataLine;
+import java.util.concurrent.locks.LockSupport;
 
-public class AudioSystemSoundOutput implements SoundOutput {
+public class AudioSystemSoundOutput implements SoundOutput, Runnable {
 
     private static final Logger LOG = LoggerFactory.getLogger(AudioSystemSoundOutput.class);
 
-    private static final int SAMPLE_RATE = 22050;
+    private static final int SAMPLE_RATE = 44100;
 
-    private static final int BUFFER_SIZE = 1024;
+    // bytes
+    private static final int BUFFER_SIZE = 4096;
 
-    private static final AudioFormat FORMAT = new AudioFormat(AudioFormat.Encoding.PCM_UNSIGNED, SAMPLE_RATE, 8, 2, 2, SAMPLE_RATE, false);
+    // 16-bit samples, about 46 ms of stereo sound
+    private static final int RING_SIZE = 4096;
 
-    private SourceDataLine line;
+    private static final long IDLE_NANOS = 1_000_000;
+
+    private static final AudioFormat FORMAT = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, SAMPLE_RATE, 16, 2, 4, SAMPLE_RATE, false);
 
-    private byte[] buffer;
+    private SourceDataLine line;
 
-    private int i;
+    private SampleRingBuffer ring;
 
-    private int tick;
+    private Thread thread;
 
-    private int divider;
+    private volatile boolean doStop;
 
     @Override
     public void start() {
@@ -45,38 +49,60 @@ public class AudioSystemSoundOutput implements SoundOutput {
             throw new RuntimeException(e);
         }
         line.start();
-        buffer = new byte[line.getBufferSize()];
-        divider = (int) (Gameboy.TICKS_PER_SEC / FORMAT.getSampleRate());
+        ring = new SampleRingBuffer(RING_SIZE);
+        doStop = false;
+        thread = new Thread(this, "audio");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     @Override
     public void stop() {
         if (line == null) {
             LOG.debug("Can't stop - sound wasn't started");
+            return;
         }
         LOG.debug("Stop sound");
+        doStop = true;
+        ring.close();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
         line.drain();
         line.stop();
         line = null;
     }
 
     @Override
-    public void play(int left, int right) {
-        if (tick++ != 0) {
-            tick %= divider;
-            return;
-        }
+    public int getSampleRate() {
+        return SAMPLE_RATE;
+    }
 
-        Preconditions.checkArgument(left >= 0);
-        Preconditions.checkArgument(left < 256);
-        Preconditions.checkArgument(right >= 0);
-        Preconditions.checkArgument(right < 256);
+    @Override
+    public void play(short[] samples, int length) {
+        ring.write(samples, length);
+    }
 
-        buffer[i++] = (byte) (left);
-        buffer[i++] = (byte) (right);
-        if (i > BUFFER_SIZE / 2) {
-            line.write(buffer, 0, i);
-            i = 0;
+    @Override
+    public void run() {
+        short[] samples = new short[BUFFER_SIZE / 4];
+        byte[] bytes = new byte[samples.length * 2];
+        while (true) {
+            int count = ring.read(samples, samples.length);
+            if (count == 0) {
+                if (doStop) {
+                    break;
+                }
+                LockSupport.parkNanos(IDLE_NANOS);
+                continue;
+            }
+            for (int i = 0; i < count; i++) {
+                bytes[i * 2] = (byte) samples[i];
+                bytes[i * 2 + 1] = (byte) (samples[i] >> 8);
+            }
+            line.write(bytes, 0, count * 2);
         }
     }
 }
@@ -61,6 +61,7 @@ public class Emulator {
             display = new SwingDisplay(SCALE);
             controller = new SwingController(properties);
             gameboy = new Gameboy(options, rom, display, controller, sound, serialEndpoint, console);
+            gameboy.getRewind().ifPresent(controller::setRewind);
         }
         console.ifPresent(c -> c.init(gameboy));
     }
@@ -3,6 +3,7 @@ package eu.rekawek.coffeegb.gui;
 import eu.rekawek.coffeegb.controller.ButtonListener;
 import eu.rekawek.coffeegb.controller.ButtonListener.Button;
 import eu.rekawek.coffeegb.controller.Controller;
+import eu.rekawek.coffeegb.rewind.Rewind;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +25,10 @@ public class SwingController implements Controller, KeyListener {
 
     private Map<Integer, Button> mapping;
 
+    private int rewindKey = KeyEvent.VK_R;
+
+    private Rewind rewind;
+
     public SwingController(Properties properties) {
         EnumMap<Button, Integer> buttonToKey = new EnumMap<>(Button.class);
 
@@ -52,6 +57,13 @@ public class SwingController implements Controller, KeyListener {
                 }
             }
         }
+        if (properties.containsKey("key_rewind")) {
+            try {
+                rewindKey = KeyEvent.class.getField(properties.getProperty("key_rewind")).getInt(null);
+            } catch (IllegalArgumentException | NoSuchFieldException | IllegalAccessException e) {
+                LOG.error("Can't parse rewind key configuration", e);
+            }
+        }
 
         mapping = buttonToKey.entrySet()
                 .stream()
@@ -63,12 +75,20 @@ public class SwingController implements Controller, KeyListener {
         this.listener = listener;
     }
 
+    public void setRewind(Rewind rewind) {
+        this.rewind = rewind;
+    }
+
     @Override
     public void keyTyped(KeyEvent e) {
     }
 
     @Override
     public void keyPressed(KeyEvent e) {
+        if (rewind != null && e.getKeyCode() == rewindKey) {
+            rewind.setRewinding(true);
+            return;
+        }
         if (listener == null) {
             return;
         }
@@ -80,6 +100,10 @@ public class SwingController implements Controller, KeyListener {
 
     @Override
     public void keyReleased(KeyEvent e) {
+        if (rewind != null && e.getKeyCode() == rewindKey) {
+            rewind.setRewinding(false);
+            return;
+        }
         if (listener == null) {
             return;
         }
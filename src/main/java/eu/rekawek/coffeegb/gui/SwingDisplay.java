@@ -1,11 +1,14 @@
 package eu.rekawek.coffeegb.gui;
 
 import eu.rekawek.coffeegb.gpu.Display;
+import eu.rekawek.coffeegb.gpu.FrameBuffer;
+import eu.rekawek.coffeegb.gpu.FrameExchange;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 public class SwingDisplay extends JPanel implements Display, Runnable {
 
@@ -15,19 +18,20 @@ public class SwingDisplay extends JPanel implements Display, Runnable {
 
     private final BufferedImage img;
 
+    // 70224 ticks of the 4.19 MHz clock
+    private static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(70224) / 4194304;
+
     public static final int[] COLORS = new int[]{0xe6f8da, 0x99c886, 0x437969, 0x051f2a};
 
     private final int[] rgb;
 
-    private boolean enabled;
+    private volatile boolean enabled;
 
     private int scale;
 
-    private boolean doStop;
-
-    private boolean doRefresh;
+    private volatile boolean doStop;
 
-    private int i;
+    private volatile FrameExchange frameExchange;
 
     public SwingDisplay(int scale) {
         super();
@@ -39,42 +43,29 @@ public class SwingDisplay extends JPanel implements Display, Runnable {
         this.scale = scale;
     }
 
-    @Override
-    public void putDmgPixel(int color) {
-        rgb[i++] = COLORS[color];
-        i = i % rgb.length;
+    public static int translateGbcRgb(int gbcRgb) {
+        return FrameBuffer.translateGbcRgb(gbcRgb);
     }
 
     @Override
-    public void putColorPixel(int gbcRgb) {
-        rgb[i++] = translateGbcRgb(gbcRgb);
+    public void requestRefresh(FrameBuffer frameBuffer) {
+        if (frameExchange == null) {
+            frameExchange = new FrameExchange(frameBuffer.isGbc());
+        }
+        frameExchange.publish(frameBuffer);
     }
 
-    public static int translateGbcRgb(int gbcRgb) {
-        int r = (gbcRgb >> 0) & 0x1f;
-        int g = (gbcRgb >> 5) & 0x1f;
-        int b = (gbcRgb >> 10) & 0x1f;
-        int result = (r * 8) << 16;
-        result |= (g * 8) << 8;
-        result |= (b * 8) << 0;
-        return result;
+    @Override
+    public void waitForRefresh() {
+        // the frame has been already copied in requestRefresh()
     }
 
-    @Override
-    public synchronized void requestRefresh() {
-        doRefresh = true;
-        notifyAll();
+    public long getDroppedFrames() {
+        return frameExchange == null ? 0 : frameExchange.getDroppedFrames();
     }
 
-    @Override
-    public synchronized void waitForRefresh() {
-        while (doRefresh) {
-            try {
-                wait(1);
-            } catch (InterruptedException e) {
-                break;
-            }
-        }
+    public long getDuplicatedFrames() {
+        return frameExchange == null ? 0 : frameExchange.getDuplicatedFrames();
     }
 
     @Override
@@ -104,27 +95,24 @@ public class SwingDisplay extends JPanel implements Display, Runnable {
     @Override
     public void run() {
         doStop = false;
-        doRefresh = false;
         enabled = true;
-        while (!doStop) {
-            synchronized (this) {
-                try {
-                    wait(1);
-                } catch (InterruptedException e) {
-                    break;
-                }
+        long nextRefresh = System.nanoTime();
+        while (!doStop && !Thread.currentThread().isInterrupted()) {
+            nextRefresh += FRAME_NANOS;
+            long now = System.nanoTime();
+            if (nextRefresh < now) {
+                nextRefresh = now;
+            } else {
+                LockSupport.parkNanos(nextRefresh - now);
             }
 
-            if (doRefresh) {
+            FrameExchange exchange = frameExchange;
+            FrameBuffer frame = exchange == null ? null : exchange.take();
+            if (frame != null) {
+                frame.toRgb(rgb, COLORS);
                 img.setRGB(0, 0, DISPLAY_WIDTH, DISPLAY_HEIGHT, rgb, 0, DISPLAY_WIDTH);
                 validate();
                 repaint();
-
-                synchronized (this) {
-                    i = 0;
-                    doRefresh = false;
-                    notifyAll();
-                }
             }
         }
     }
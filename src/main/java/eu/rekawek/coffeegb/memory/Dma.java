@@ -1,9 +1,13 @@
 package eu.rekawek.coffeegb.memory;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Scheduler;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.cpu.SpeedMode;
 
-public class Dma implements AddressSpace {
+import java.nio.ByteBuffer;
+
+public class Dma implements AddressSpace, Snapshotable {
 
     private final AddressSpace addressSpace;
 
@@ -11,20 +15,29 @@ public class Dma implements AddressSpace {
 
     private final SpeedMode speedMode;
 
+    private final Scheduler scheduler;
+
+    private final Scheduler.Event transferEvent;
+
+    private final byte[] buffer = new byte[0xa0];
+
     private boolean transferInProgress;
 
     private boolean restarted;
 
     private int from;
 
-    private int ticks;
+    private long transferStart;
 
     private int regValue = 0xff;
 
-    public Dma(AddressSpace addressSpace, AddressSpace oam, SpeedMode speedMode) {
+    public Dma(AddressSpace addressSpace, AddressSpace oam, SpeedMode speedMode, Scheduler scheduler) {
         this.addressSpace = new DmaAddressSpace(addressSpace);
         this.speedMode = speedMode;
         this.oam = oam;
+        this.scheduler = scheduler;
+        this.transferEvent = scheduler.createEvent(this::finishTransfer);
+        speedMode.registerSwitchListener(this::onSpeedSwitch);
     }
 
     @Override
@@ -32,26 +45,32 @@ public class Dma implements AddressSpace {
         return address == 0xff46;
     }
 
-    public void tick() {
+    private void finishTransfer() {
+        transferInProgress = false;
+        restarted = false;
+        addressSpace.readBlock(from, buffer, 0, buffer.length);
+        oam.writeBlock(0xfe00, buffer, 0, buffer.length);
+    }
+
+    private void onSpeedSwitch() {
         if (transferInProgress) {
-            if (++ticks >= 648 / speedMode.getSpeedMode()) {
-                transferInProgress = false;
-                restarted = false;
-                ticks = 0;
-                for (int i = 0; i < 0xa0; i++) {
-                    oam.setByte(0xfe00 + i, addressSpace.getByte(from + i));
-                }
-            }
+            scheduleTransfer();
         }
     }
 
+    private void scheduleTransfer() {
+        long end = transferStart + 648 / speedMode.getSpeedMode();
+        transferEvent.schedule(Math.max(1, end - scheduler.getTick()));
+    }
+
     @Override
     public void setByte(int address, int value) {
         from = value * 0x100;
         restarted = isOamBlocked();
-        ticks = 0;
+        transferStart = scheduler.getTick();
         transferInProgress = true;
         regValue = value;
+        scheduleTransfer();
     }
 
     @Override
@@ -59,7 +78,26 @@ public class Dma implements AddressSpace {
         return regValue;
     }
 
+    // the transfer event deadline is a part of the scheduler state
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        Snapshotable.putBoolean(buffer, transferInProgress);
+        Snapshotable.putBoolean(buffer, restarted);
+        buffer.putShort((short) from);
+        buffer.putLong(transferStart);
+        buffer.put((byte) regValue);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        transferInProgress = Snapshotable.getBoolean(buffer);
+        restarted = Snapshotable.getBoolean(buffer);
+        from = buffer.getShort() & 0xffff;
+        transferStart = buffer.getLong();
+        regValue = buffer.get() & 0xff;
+    }
+
     public boolean isOamBlocked() {
-        return restarted || (transferInProgress && ticks >= 5);
+        return restarted || (transferInProgress && scheduler.getTick() - transferStart >= 5);
     }
 }
\ No newline at end of file
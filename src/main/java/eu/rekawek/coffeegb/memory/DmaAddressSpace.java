@@ -28,4 +28,15 @@ public class DmaAddressSpace implements AddressSpace {
             return addressSpace.getByte(address - 0x2000);
         }
     }
+
+    @Override
+    public void readBlock(int address, byte[] buffer, int offset, int length) {
+        if (address + length <= 0xe000) {
+            addressSpace.readBlock(address, buffer, offset, length);
+        } else if (address >= 0xe000) {
+            addressSpace.readBlock(address - 0x2000, buffer, offset, length);
+        } else {
+            AddressSpace.super.readBlock(address, buffer, offset, length);
+        }
+    }
 }
@@ -1,10 +1,13 @@
 package eu.rekawek.coffeegb.memory;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 
-public class GbcRam implements AddressSpace {
+import java.nio.ByteBuffer;
 
-    private int[] ram = new int[7 * 0x1000];
+public class GbcRam implements AddressSpace, Snapshotable {
+
+    private byte[] ram = new byte[7 * 0x1000];
 
     private int svbk;
 
@@ -18,7 +21,7 @@ public class GbcRam implements AddressSpace {
         if (address == 0xff70) {
             this.svbk = value;
         } else {
-            ram[translate(address)] = value;
+            ram[translate(address)] = (byte) value;
         }
     }
 
@@ -27,10 +30,44 @@ public class GbcRam implements AddressSpace {
         if (address == 0xff70) {
             return svbk;
         } else {
-            return ram[translate(address)];
+            return ram[translate(address)] & 0xff;
+        }
+    }
+
+    @Override
+    public void readBlock(int address, byte[] buffer, int offset, int length) {
+        if (isBankRange(address, length)) {
+            System.arraycopy(ram, translate(address), buffer, offset, length);
+        } else {
+            AddressSpace.super.readBlock(address, buffer, offset, length);
         }
     }
 
+    @Override
+    public void writeBlock(int address, byte[] buffer, int offset, int length) {
+        if (isBankRange(address, length)) {
+            System.arraycopy(buffer, offset, ram, translate(address), length);
+        } else {
+            AddressSpace.super.writeBlock(address, buffer, offset, length);
+        }
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put(ram);
+        buffer.put((byte) svbk);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        buffer.get(ram);
+        svbk = buffer.get() & 0xff;
+    }
+
+    private static boolean isBankRange(int address, int length) {
+        return address >= 0xd000 && address + length <= 0xe000;
+    }
+
     private int translate(int address) {
         int ramBank = svbk & 0x7;
         if (ramBank == 0) {
@@ -1,9 +1,12 @@
 package eu.rekawek.coffeegb.memory;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.gpu.Gpu;
 
-public class Hdma implements AddressSpace {
+import java.nio.ByteBuffer;
+
+public class Hdma implements AddressSpace, Snapshotable {
 
     private static final int HDMA1 = 0xff51;
 
@@ -15,10 +18,14 @@ public class Hdma implements AddressSpace {
 
     private static final int HDMA5 = 0xff55;
 
+    private static final Gpu.Mode[] GPU_MODES = Gpu.Mode.values();
+
     private final AddressSpace addressSpace;
 
     private final Ram hdma1234 = new Ram(HDMA1, 4);
 
+    private final byte[] buffer = new byte[0x10];
+
     private Gpu.Mode gpuMode;
 
     private boolean transferInProgress;
@@ -51,9 +58,8 @@ public class Hdma implements AddressSpace {
         if (++tick < 0x20) {
             return;
         }
-        for (int j = 0; j < 0x10; j++) {
-            addressSpace.setByte(dst + j, addressSpace.getByte(src + j));
-        }
+        addressSpace.readBlock(src, buffer, 0, buffer.length);
+        addressSpace.writeBlock(dst, buffer, 0, buffer.length);
         src += 0x10;
         dst += 0x10;
         if (length-- == 0) {
@@ -108,6 +114,33 @@ public class Hdma implements AddressSpace {
         }
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        hdma1234.saveState(buffer);
+        buffer.put((byte) (gpuMode == null ? -1 : gpuMode.ordinal()));
+        Snapshotable.putBoolean(buffer, transferInProgress);
+        Snapshotable.putBoolean(buffer, hblankTransfer);
+        Snapshotable.putBoolean(buffer, lcdEnabled);
+        buffer.put((byte) length);
+        buffer.putShort((short) src);
+        buffer.putShort((short) dst);
+        buffer.putInt(tick);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        hdma1234.loadState(buffer);
+        int mode = buffer.get();
+        gpuMode = mode == -1 ? null : GPU_MODES[mode];
+        transferInProgress = Snapshotable.getBoolean(buffer);
+        hblankTransfer = Snapshotable.getBoolean(buffer);
+        lcdEnabled = Snapshotable.getBoolean(buffer);
+        length = buffer.get() & 0xff;
+        src = buffer.getShort() & 0xffff;
+        dst = buffer.getShort() & 0xffff;
+        tick = buffer.getInt();
+    }
+
     private void startTransfer(int reg) {
         hblankTransfer = (reg & (1 << 7)) != 0;
         length = reg & 0x7f;
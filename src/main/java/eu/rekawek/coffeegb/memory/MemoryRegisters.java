@@ -1,12 +1,11 @@
 package eu.rekawek.coffeegb.memory;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.ByteBuffer;
 
-public class MemoryRegisters implements AddressSpace {
+public class MemoryRegisters implements AddressSpace, Snapshotable {
 
     public interface Register {
         int getAddress();
@@ -27,41 +26,56 @@ public class MemoryRegisters implements AddressSpace {
         }
     }
 
-    private Map<Integer, Register> registers;
+    private static final int VALID = 1;
 
-    private Map<Integer, Integer> values = new HashMap<>();
+    private static final int READ = 1 << 1;
+
+    private static final int WRITE = 1 << 2;
+
+    private final int base;
+
+    // VALID, READ and WRITE bits for each address
+    private final byte[] permissions;
+
+    private final int[] values;
+
+    private final boolean frozen;
 
     public MemoryRegisters(Register... registers) {
-        Map<Integer, Register> map = new HashMap<>();
+        int min = 0xffff;
+        int max = 0;
+        for (Register r : registers) {
+            min = Math.min(min, r.getAddress());
+            max = Math.max(max, r.getAddress());
+        }
+        this.base = registers.length == 0 ? 0 : min;
+        this.permissions = new byte[registers.length == 0 ? 0 : max - min + 1];
         for (Register r : registers) {
-            if (map.containsKey(r.getAddress())) {
+            int index = r.getAddress() - base;
+            if (permissions[index] != 0) {
                 throw new IllegalArgumentException("Two registers with the same address: " + r.getAddress());
             }
-            map.put(r.getAddress(), r);
-            values.put(r.getAddress(), 0);
+            permissions[index] = (byte) (VALID | (r.getType().allowsRead ? READ : 0) | (r.getType().allowsWrite ? WRITE : 0));
         }
-        this.registers = Collections.unmodifiableMap(map);
+        this.values = new int[permissions.length];
+        this.frozen = false;
     }
 
     private MemoryRegisters(MemoryRegisters original) {
-        this.registers = original.registers;
-        this.values = Collections.unmodifiableMap(new HashMap<>(original.values));
+        this.base = original.base;
+        this.permissions = original.permissions;
+        this.values = original.values.clone();
+        this.frozen = true;
     }
 
     public int get(Register reg) {
-        if (registers.containsKey(reg.getAddress())) {
-            return values.get(reg.getAddress());
-        } else {
-            throw new IllegalArgumentException("Not valid register: " + reg);
-        }
+        return values[index(reg)];
     }
 
     public void put(Register reg, int value) {
-        if (registers.containsKey(reg.getAddress())) {
-            values.put(reg.getAddress(), value);
-        } else {
-            throw new IllegalArgumentException("Not valid register: " + reg);
-        }
+        int index = index(reg);
+        checkNotFrozen();
+        values[index] = value;
     }
 
     public MemoryRegisters freeze() {
@@ -69,33 +83,58 @@ public class MemoryRegisters implements AddressSpace {
     }
 
     public int preIncrement(Register reg) {
-        if (registers.containsKey(reg.getAddress())) {
-            int value = values.get(reg.getAddress()) + 1;
-            values.put(reg.getAddress(), value);
-            return value;
-        } else {
+        int index = index(reg);
+        checkNotFrozen();
+        return ++values[index];
+    }
+
+    private int index(Register reg) {
+        int index = reg.getAddress() - base;
+        if (index < 0 || index >= permissions.length || permissions[index] == 0) {
             throw new IllegalArgumentException("Not valid register: " + reg);
         }
+        return index;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("The registers are frozen");
+        }
     }
 
     @Override
     public boolean accepts(int address) {
-        return registers.containsKey(address);
+        int index = address - base;
+        return index >= 0 && index < permissions.length && permissions[index] != 0;
     }
 
     @Override
     public void setByte(int address, int value) {
-        if (registers.get(address).getType().allowsWrite) {
-            values.put(address, value);
+        int index = address - base;
+        if ((permissions[index] & WRITE) != 0) {
+            checkNotFrozen();
+            values[index] = value;
         }
     }
 
     @Override
     public int getByte(int address) {
-        if (registers.get(address).getType().allowsRead) {
-            return values.get(address);
+        int index = address - base;
+        if ((permissions[index] & READ) != 0) {
+            return values[index];
         } else {
             return 0xff;
         }
     }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        Snapshotable.putInts(buffer, values);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        checkNotFrozen();
+        Snapshotable.getInts(buffer, values);
+    }
 }
@@ -1,16 +1,20 @@
 package eu.rekawek.coffeegb.memory;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntConsumer;
 
 import static eu.rekawek.coffeegb.cpu.BitUtils.checkByteArgument;
 import static eu.rekawek.coffeegb.cpu.BitUtils.checkWordArgument;
 
-public class Mmu implements AddressSpace {
+public class Mmu implements AddressSpace, Snapshotable {
 
     private static final Logger LOG = LoggerFactory.getLogger(Mmu.class);
 
@@ -40,8 +44,77 @@ public class Mmu implements AddressSpace {
 
     private final List<AddressSpace> spaces = new ArrayList<>();
 
+    private AddressSpace[] pages;
+
+    private AddressSpace[][] pageBytes;
+
+    private IntConsumer[] writeListeners = new IntConsumer[0];
+
     public void addAddressSpace(AddressSpace space) {
         spaces.add(space);
+        pages = null;
+        pageBytes = null;
+    }
+
+    // spaces are resolved once per address, so their accepts() should not depend on the state
+    public void indexSpaces() {
+        AddressSpace[] newPages = new AddressSpace[0x100];
+        AddressSpace[][] newPageBytes = new AddressSpace[0x100][];
+        for (int page = 0; page < 0x100; page++) {
+            AddressSpace[] bytes = new AddressSpace[0x100];
+            boolean uniform = true;
+            for (int i = 0; i < 0x100; i++) {
+                bytes[i] = findSpace((page << 8) | i);
+                uniform &= bytes[i] == bytes[0];
+            }
+            if (uniform) {
+                newPages[page] = bytes[0];
+            } else {
+                newPageBytes[page] = bytes;
+            }
+        }
+        pages = newPages;
+        pageBytes = newPageBytes;
+    }
+
+    // takes the index of the other MMU, which has the same spaces added in the same order. It's much faster than
+    // resolving all the addresses again.
+    public void indexSpaces(Mmu template) {
+        if (template.pages == null || template.spaces.size() != spaces.size()) {
+            throw new IllegalArgumentException("The template MMU doesn't match");
+        }
+        AddressSpace[] newPages = new AddressSpace[0x100];
+        AddressSpace[][] newPageBytes = new AddressSpace[0x100][];
+        for (int page = 0; page < 0x100; page++) {
+            if (template.pages[page] != null) {
+                newPages[page] = translate(template, template.pages[page]);
+            } else {
+                AddressSpace[] bytes = new AddressSpace[0x100];
+                for (int i = 0; i < 0x100; i++) {
+                    bytes[i] = translate(template, template.pageBytes[page][i]);
+                }
+                newPageBytes[page] = bytes;
+            }
+        }
+        pages = newPages;
+        pageBytes = newPageBytes;
+    }
+
+    private AddressSpace translate(Mmu template, AddressSpace templateSpace) {
+        if (templateSpace == VOID) {
+            return VOID;
+        }
+        for (int i = 0; i < spaces.size(); i++) {
+            if (template.spaces.get(i) == templateSpace) {
+                return spaces.get(i);
+            }
+        }
+        throw new IllegalArgumentException("The template MMU doesn't match");
+    }
+
+    public void addWriteListener(IntConsumer writeListener) {
+        writeListeners = Arrays.copyOf(writeListeners, writeListeners.length + 1);
+        writeListeners[writeListeners.length - 1] = writeListener;
     }
 
     @Override
@@ -54,6 +127,9 @@ public class Mmu implements AddressSpace {
         checkByteArgument("value", value);
         checkWordArgument("address", address);
         getSpace(address).setByte(address, value);
+        for (IntConsumer listener : writeListeners) {
+            listener.accept(address);
+        }
     }
 
     @Override
@@ -62,7 +138,84 @@ public class Mmu implements AddressSpace {
         return getSpace(address).getByte(address);
     }
 
+    @Override
+    public void readBlock(int address, byte[] buffer, int offset, int length) {
+        checkBlockArguments(address, length);
+        int i = 0;
+        while (i < length) {
+            AddressSpace space = getSpace(address + i);
+            int run = getRunLength(space, address + i, length - i);
+            space.readBlock(address + i, buffer, offset + i, run);
+            i += run;
+        }
+    }
+
+    @Override
+    public void writeBlock(int address, byte[] buffer, int offset, int length) {
+        checkBlockArguments(address, length);
+        int i = 0;
+        while (i < length) {
+            AddressSpace space = getSpace(address + i);
+            int run = getRunLength(space, address + i, length - i);
+            space.writeBlock(address + i, buffer, offset + i, run);
+            i += run;
+        }
+        for (IntConsumer listener : writeListeners) {
+            for (i = 0; i < length; i++) {
+                listener.accept(address + i);
+            }
+        }
+    }
+
+    // saves the spaces in the order they were added, the write listeners aren't notified
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        for (int i = 0; i < spaces.size(); i++) {
+            AddressSpace space = spaces.get(i);
+            if (space instanceof Snapshotable) {
+                ((Snapshotable) space).saveState(buffer);
+            }
+        }
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        for (int i = 0; i < spaces.size(); i++) {
+            AddressSpace space = spaces.get(i);
+            if (space instanceof Snapshotable) {
+                ((Snapshotable) space).loadState(buffer);
+            }
+        }
+    }
+
+    private static void checkBlockArguments(int address, int length) {
+        checkWordArgument("address", address);
+        if (length < 0 || address + length > 0x10000) {
+            throw new IllegalArgumentException("Invalid block: " + Integer.toHexString(address) + ", length " + length);
+        }
+    }
+
+    // number of the subsequent addresses handled by the same space
+    private int getRunLength(AddressSpace space, int address, int maxLength) {
+        int run = 1;
+        while (run < maxLength && getSpace(address + run) == space) {
+            run++;
+        }
+        return run;
+    }
+
     private AddressSpace getSpace(int address) {
+        if (pages == null) {
+            return findSpace(address);
+        }
+        AddressSpace space = pages[address >> 8];
+        if (space == null) {
+            space = pageBytes[address >> 8][address & 0xff];
+        }
+        return space;
+    }
+
+    private AddressSpace findSpace(int address) {
         for (AddressSpace s : spaces) {
             if (s.accepts(address)) {
                 return s;
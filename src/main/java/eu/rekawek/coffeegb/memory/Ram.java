@@ -1,17 +1,20 @@
 package eu.rekawek.coffeegb.memory;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 
-public class Ram implements AddressSpace {
+import java.nio.ByteBuffer;
 
-    private int[] space;
+public class Ram implements AddressSpace, Snapshotable {
+
+    private byte[] space;
 
     private int length;
 
     private int offset;
 
     public Ram(int offset, int length) {
-        this.space = new int[length];
+        this.space = new byte[length];
         this.length = length;
         this.offset = offset;
     }
@@ -33,7 +36,7 @@ public class Ram implements AddressSpace {
 
     @Override
     public void setByte(int address, int value) {
-        space[address - offset] = value;
+        space[address - offset] = (byte) value;
     }
 
     @Override
@@ -42,6 +45,26 @@ public class Ram implements AddressSpace {
         if (index < 0 || index >= space.length) {
             throw new IndexOutOfBoundsException("Address: " + address);
         }
-        return space[index];
+        return space[index] & 0xff;
+    }
+
+    @Override
+    public void readBlock(int address, byte[] buffer, int offset, int length) {
+        System.arraycopy(space, address - this.offset, buffer, offset, length);
+    }
+
+    @Override
+    public void writeBlock(int address, byte[] buffer, int offset, int length) {
+        System.arraycopy(buffer, offset, space, address - this.offset, length);
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put(space);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        buffer.get(space);
     }
 }
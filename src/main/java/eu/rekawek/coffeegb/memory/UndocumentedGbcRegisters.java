@@ -1,8 +1,11 @@
 package eu.rekawek.coffeegb.memory;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 
-public class UndocumentedGbcRegisters implements AddressSpace {
+import java.nio.ByteBuffer;
+
+public class UndocumentedGbcRegisters implements AddressSpace, Snapshotable {
 
     private Ram ram = new Ram(0xff72, 6);
 
@@ -47,4 +50,16 @@ public class UndocumentedGbcRegisters implements AddressSpace {
             throw new IllegalArgumentException();
         }
     }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        ram.saveState(buffer);
+        buffer.put((byte) xff6c);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        ram.loadState(buffer);
+        xff6c = buffer.get() & 0xff;
+    }
 }
@@ -2,6 +2,7 @@ package eu.rekawek.coffeegb.memory.cart;
 
 import eu.rekawek.coffeegb.AddressSpace;
 import eu.rekawek.coffeegb.GameboyOptions;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.memory.BootRom;
 import eu.rekawek.coffeegb.memory.cart.battery.Battery;
 import eu.rekawek.coffeegb.memory.cart.battery.FileBattery;
@@ -9,21 +10,17 @@ import eu.rekawek.coffeegb.memory.cart.type.Mbc1;
 import eu.rekawek.coffeegb.memory.cart.type.Mbc2;
 import eu.rekawek.coffeegb.memory.cart.type.Mbc3;
 import eu.rekawek.coffeegb.memory.cart.type.Mbc5;
+import eu.rekawek.coffeegb.memory.cart.type.MemoryBankController;
 import eu.rekawek.coffeegb.memory.cart.type.Rom;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.nio.ByteBuffer;
 
-public class Cartridge implements AddressSpace {
+public class Cartridge implements AddressSpace, Snapshotable {
 
     public enum GameboyTypeFlag {
         UNIVERSAL, CGB, NON_CGB;
@@ -41,7 +38,15 @@ public class Cartridge implements AddressSpace {
 
     private static final Logger LOG = LoggerFactory.getLogger(Cartridge.class);
 
-    private final AddressSpace addressSpace;
+    private final ByteBuffer rom;
+
+    private final CartridgeType type;
+
+    private final int romBanks;
+
+    private final int ramBanks;
+
+    private final MemoryBankController addressSpace;
 
     private final GameboyTypeFlag gameboyType;
 
@@ -53,35 +58,25 @@ public class Cartridge implements AddressSpace {
 
     public Cartridge(GameboyOptions options) throws IOException {
         File file = options.getRomFile();
-        int[] rom = loadFile(file);
-        CartridgeType type = CartridgeType.getById(rom[0x0147]);
+        rom = RomImageCache.load(file);
+        type = CartridgeType.getById(rom.get(0x0147) & 0xff);
         title = getTitle(rom);
         LOG.debug("Cartridge {}, type: {}", title, type);
-        gameboyType = GameboyTypeFlag.getFlag(rom[0x0143]);
-        int romBanks = getRomBanks(rom[0x0148]);
-        int ramBanks = getRamBanks(rom[0x0149]);
+        gameboyType = GameboyTypeFlag.getFlag(rom.get(0x0143) & 0xff);
+        romBanks = getRomBanks(rom.get(0x0148) & 0xff);
+        int ramBanks = getRamBanks(rom.get(0x0149) & 0xff);
         if (ramBanks == 0 && type.isRam()) {
             LOG.warn("RAM bank is defined to 0. Overriding to 1.");
             ramBanks = 1;
         }
+        this.ramBanks = ramBanks;
         LOG.debug("ROM banks: {}, RAM banks: {}", romBanks, ramBanks);
 
         Battery battery = Battery.NULL_BATTERY;
         if (type.isBattery() && options.isSupportBatterySaves()) {
             battery = new FileBattery(file.getParentFile(), FilenameUtils.removeExtension(file.getName()));
         }
-
-        if (type.isMbc1()) {
-            addressSpace = new Mbc1(rom, type, battery, romBanks, ramBanks);
-        } else if (type.isMbc2()) {
-            addressSpace = new Mbc2(rom, type, battery, romBanks);
-        } else if (type.isMbc3()) {
-            addressSpace = new Mbc3(rom, type, battery, romBanks, ramBanks);
-        } else if (type.isMbc5()) {
-            addressSpace = new Mbc5(rom, type, battery, romBanks, ramBanks);
-        } else {
-            addressSpace = new Rom(rom, type, romBanks, ramBanks);
-        }
+        addressSpace = createController(battery);
 
         dmgBoostrap = options.isUsingBootstrap() ? 0 : 1;
         if (options.isForceCgb()) {
@@ -95,10 +90,38 @@ public class Cartridge implements AddressSpace {
         }
     }
 
-    private String getTitle(int[] rom) {
+    // copy sharing the ROM image, with the RAM not backed by the battery. The RAM and the registers are copied with
+    // saveState() and loadState().
+    public Cartridge(Cartridge cartridge) {
+        rom = cartridge.rom;
+        type = cartridge.type;
+        romBanks = cartridge.romBanks;
+        ramBanks = cartridge.ramBanks;
+        title = cartridge.title;
+        gameboyType = cartridge.gameboyType;
+        gbc = cartridge.gbc;
+        dmgBoostrap = cartridge.dmgBoostrap;
+        addressSpace = createController(Battery.NULL_BATTERY);
+    }
+
+    private MemoryBankController createController(Battery battery) {
+        if (type.isMbc1()) {
+            return new Mbc1(rom, type, battery, romBanks, ramBanks);
+        } else if (type.isMbc2()) {
+            return new Mbc2(rom, type, battery, romBanks);
+        } else if (type.isMbc3()) {
+            return new Mbc3(rom, type, battery, romBanks, ramBanks);
+        } else if (type.isMbc5()) {
+            return new Mbc5(rom, type, battery, romBanks, ramBanks);
+        } else {
+            return new Rom(rom, type, romBanks, ramBanks);
+        }
+    }
+
+    private String getTitle(ByteBuffer rom) {
         StringBuilder t = new StringBuilder();
         for (int i = 0x0134; i < 0x0143; i++) {
-            char c = (char) rom[i];
+            char c = (char) (rom.get(i) & 0xff);
             if (c == 0) {
                 break;
             }
@@ -144,35 +167,33 @@ public class Cartridge implements AddressSpace {
         }
     }
 
-    private static int[] loadFile(File file) throws IOException {
-        String ext = FilenameUtils.getExtension(file.getName());
-        try (InputStream is = new FileInputStream(file)) {
-            if ("zip".equalsIgnoreCase(ext)) {
-                try (ZipInputStream zis = new ZipInputStream(is)) {
-                    ZipEntry entry;
-                    while ((entry = zis.getNextEntry()) != null) {
-                        String name = entry.getName();
-                        String entryExt = FilenameUtils.getExtension(name);
-                        if (Stream.of("gb", "gbc", "rom").anyMatch(e -> e.equalsIgnoreCase(entryExt))) {
-                            return load(zis, (int) entry.getSize());
-                        }
-                        zis.closeEntry();
-                    }
-                }
-                throw new IllegalArgumentException("Can't find ROM file inside the zip.");
-            } else {
-                return load(is, (int) file.length());
-            }
+    @Override
+    public void readBlock(int address, byte[] buffer, int offset, int length) {
+        if ((dmgBoostrap == 0 && address < 0x0900) || (address <= 0xff50 && address + length > 0xff50)) {
+            AddressSpace.super.readBlock(address, buffer, offset, length);
+        } else {
+            addressSpace.readBlock(address, buffer, offset, length);
         }
     }
 
-    private static int[] load(InputStream is, int length) throws IOException {
-        byte[] byteArray = IOUtils.toByteArray(is, length);
-        int[] intArray = new int[byteArray.length];
-        for (int i = 0; i < byteArray.length; i++) {
-            intArray[i] = byteArray[i] & 0xff;
+    // returns -1 if the boot ROM is mapped to the address
+    public int getRomBank(int address) {
+        if (dmgBoostrap == 0 && (address < 0x0100 || (gbc && address >= 0x200 && address < 0x0900))) {
+            return -1;
         }
-        return intArray;
+        return addressSpace.getRomBank(address);
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put((byte) dmgBoostrap);
+        addressSpace.saveState(buffer);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        dmgBoostrap = buffer.get();
+        addressSpace.loadState(buffer);
     }
 
     private static int getRomBanks(int id) {
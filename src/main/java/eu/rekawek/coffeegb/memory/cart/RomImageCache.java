@@ -0,0 +1,86 @@
+package eu.rekawek.coffeegb.memory.cart;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+// ROM images shared by all the cartridges in the process. The plain files are memory-mapped and the zipped ones are
+// inflated once, then the identical images are deduplicated by the content hash. The returned buffers are read-only
+// and shared, so they should be accessed only with the absolute get methods.
+class RomImageCache {
+
+    private static final Cache<String, ByteBuffer> FILES = CacheBuilder.newBuilder().weakValues().build();
+
+    private static final Cache<HashCode, ByteBuffer> IMAGES = CacheBuilder.newBuilder().weakValues().build();
+
+    private RomImageCache() {
+    }
+
+    static ByteBuffer load(File file) throws IOException {
+        String key = file.getCanonicalPath() + ":" + file.length() + ":" + file.lastModified();
+        try {
+            return FILES.get(key, () -> deduplicate(read(file)));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private static ByteBuffer read(File file) throws IOException {
+        String ext = FilenameUtils.getExtension(file.getName());
+        if ("zip".equalsIgnoreCase(ext)) {
+            try (ZipInputStream zis = new ZipInputStream(new FileInputStream(file))) {
+                ZipEntry entry;
+                while ((entry = zis.getNextEntry()) != null) {
+                    String name = entry.getName();
+                    String entryExt = FilenameUtils.getExtension(name);
+                    if (Stream.of("gb", "gbc", "rom").anyMatch(e -> e.equalsIgnoreCase(entryExt))) {
+                        return ByteBuffer.wrap(IOUtils.toByteArray(zis)).asReadOnlyBuffer();
+                    }
+                    zis.closeEntry();
+                }
+            }
+            throw new IllegalArgumentException("Can't find ROM file inside the zip.");
+        } else {
+            // the mapping stays valid after the channel is closed
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+    }
+
+    private static ByteBuffer deduplicate(ByteBuffer image) throws ExecutionException {
+        return IMAGES.get(hash(image), () -> image);
+    }
+
+    private static HashCode hash(ByteBuffer image) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(image.duplicate());
+            return HashCode.fromBytes(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,29 +2,29 @@ package eu.rekawek.coffeegb.memory.cart.battery;
 
 public interface Battery {
 
-    void loadRam(int[] ram);
+    void loadRam(byte[] ram);
 
-    void saveRam(int[] ram);
+    void saveRam(byte[] ram);
 
-    void loadRamWithClock(int[] ram, long[] clockData);
+    void loadRamWithClock(byte[] ram, long[] clockData);
 
-    void saveRamWithClock(int[] ram, long[] clockData);
+    void saveRamWithClock(byte[] ram, long[] clockData);
 
     Battery NULL_BATTERY = new Battery() {
         @Override
-        public void loadRam(int[] ram) {
+        public void loadRam(byte[] ram) {
         }
 
         @Override
-        public void saveRam(int[] ram) {
+        public void saveRam(byte[] ram) {
         }
 
         @Override
-        public void loadRamWithClock(int[] ram, long[] clockData) {
+        public void loadRamWithClock(byte[] ram, long[] clockData) {
         }
 
         @Override
-        public void saveRamWithClock(int[] ram, long[] clockData) {
+        public void saveRamWithClock(byte[] ram, long[] clockData) {
         }
     };
 }
@@ -12,6 +12,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 
 public class FileBattery implements Battery {
 
@@ -24,17 +25,17 @@ public class FileBattery implements Battery {
     }
 
     @Override
-    public void loadRam(int[] ram) {
+    public void loadRam(byte[] ram) {
         loadRamWithClock(ram, null);
     }
 
     @Override
-    public void saveRam(int[] ram) {
+    public void saveRam(byte[] ram) {
         saveRamWithClock(ram, null);
     }
 
     @Override
-    public void loadRamWithClock(int[] ram, long[] clockData) {
+    public void loadRamWithClock(byte[] ram, long[] clockData) {
         if (!saveFile.exists()) {
             return;
         }
@@ -51,7 +52,7 @@ public class FileBattery implements Battery {
     }
 
     @Override
-    public void saveRamWithClock(int[] ram, long[] clockData) {
+    public void saveRamWithClock(byte[] ram, long[] clockData) {
         try (OutputStream os = new FileOutputStream(saveFile)) {
             saveRam(ram, os);
             if (clockData != null) {
@@ -83,19 +84,12 @@ public class FileBattery implements Battery {
         IOUtils.write(byteBuff, os);
     }
 
-    private void loadRam(int[] ram, InputStream is, long length) throws IOException {
-        byte[] buffer = new byte[ram.length];
-        IOUtils.read(is, buffer, 0, Math.min((int) length, ram.length));
-        for (int i = 0; i < ram.length; i++) {
-            ram[i] = buffer[i] & 0xff;
-        }
+    private void loadRam(byte[] ram, InputStream is, long length) throws IOException {
+        Arrays.fill(ram, (byte) 0);
+        IOUtils.read(is, ram, 0, Math.min((int) length, ram.length));
     }
 
-    private void saveRam(int[] ram, OutputStream os) throws IOException {
-        byte[] buffer = new byte[ram.length];
-        for (int i = 0; i < ram.length; i++) {
-            buffer[i] = (byte) (ram[i]);
-        }
-        IOUtils.write(buffer, os);
+    private void saveRam(byte[] ram, OutputStream os) throws IOException {
+        IOUtils.write(ram, os);
     }
 }
@@ -1,6 +1,10 @@
 package eu.rekawek.coffeegb.memory.cart.rtc;
 
-public class RealTimeClock {
+import eu.rekawek.coffeegb.Snapshotable;
+
+import java.nio.ByteBuffer;
+
+public class RealTimeClock implements Snapshotable {
 
     private final Clock clock;
 
@@ -116,6 +120,31 @@ public class RealTimeClock {
         return (now - clockStart) / 1000 + offsetSec;
     }
 
+    // the clock follows the wall time, so the restored clock keeps running from the saved moment
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.putLong(offsetSec);
+        buffer.putLong(clockStart);
+        Snapshotable.putBoolean(buffer, halt);
+        buffer.putLong(latchStart);
+        buffer.put((byte) haltSeconds);
+        buffer.put((byte) haltMinutes);
+        buffer.put((byte) haltHours);
+        buffer.putShort((short) haltDays);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        offsetSec = buffer.getLong();
+        clockStart = buffer.getLong();
+        halt = Snapshotable.getBoolean(buffer);
+        latchStart = buffer.getLong();
+        haltSeconds = buffer.get() & 0xff;
+        haltMinutes = buffer.get() & 0xff;
+        haltHours = buffer.get() & 0xff;
+        haltDays = buffer.getShort();
+    }
+
     public void deserialize(long[] clockData) {
         long seconds = clockData[0];
         long minutes = clockData[1];
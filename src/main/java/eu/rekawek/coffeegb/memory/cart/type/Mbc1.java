@@ -1,12 +1,15 @@
 package eu.rekawek.coffeegb.memory.cart.type;
 
-import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.memory.cart.battery.Battery;
 import eu.rekawek.coffeegb.memory.cart.CartridgeType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class Mbc1 implements AddressSpace {
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class Mbc1 implements MemoryBankController {
 
     private static final Logger LOG = LoggerFactory.getLogger(Mbc1.class);
 
@@ -22,9 +25,9 @@ public class Mbc1 implements AddressSpace {
 
     private final int ramBanks;
 
-    private final int[] cartridge;
+    private final ByteBuffer cartridge;
 
-    private final int[] ram;
+    private final byte[] ram;
 
     private final Battery battery;
 
@@ -42,15 +45,13 @@ public class Mbc1 implements AddressSpace {
 
     private int cachedRomBankFor0x4000 = -1;
 
-    public Mbc1(int[] cartridge, CartridgeType type, Battery battery, int romBanks, int ramBanks) {
+    public Mbc1(ByteBuffer cartridge, CartridgeType type, Battery battery, int romBanks, int ramBanks) {
         this.multicart = romBanks == 64 && isMulticart(cartridge);
         this.cartridge = cartridge;
         this.ramBanks = ramBanks;
         this.romBanks = romBanks;
-        this.ram = new int[0x2000 * this.ramBanks];
-        for (int i = 0; i < ram.length; i++) {
-            ram[i] = 0xff;
-        }
+        this.ram = new byte[0x2000 * this.ramBanks];
+        Arrays.fill(ram, (byte) 0xff);
         this.type = type;
         this.battery = battery;
         battery.loadRam(ram);
@@ -94,7 +95,7 @@ public class Mbc1 implements AddressSpace {
         } else if (address >= 0xa000 && address < 0xc000 && ramWriteEnabled) {
             int ramAddress = getRamAddress(address);
             if (ramAddress < ram.length) {
-                ram[ramAddress] = value;
+                ram[ramAddress] = (byte) value;
             }
         }
     }
@@ -104,6 +105,20 @@ public class Mbc1 implements AddressSpace {
         LOG.trace("Selected ROM bank: {}", selectedRomBank);
     }
 
+    @Override
+    public ByteBuffer getRomImage() {
+        return cartridge;
+    }
+
+    @Override
+    public int getRomBank(int address) {
+        if (address < 0x4000) {
+            return getRomBankFor0x0000();
+        } else {
+            return getRomBankFor0x4000();
+        }
+    }
+
     @Override
     public int getByte(int address) {
         if (address >= 0x0000 && address < 0x4000) {
@@ -114,7 +129,7 @@ public class Mbc1 implements AddressSpace {
             if (ramWriteEnabled) {
                 int ramAddress = getRamAddress(address);
                 if (ramAddress < ram.length) {
-                    return ram[ramAddress];
+                    return ram[ramAddress] & 0xff;
                 } else {
                     return 0xff;
                 }
@@ -126,6 +141,25 @@ public class Mbc1 implements AddressSpace {
         }
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put(ram);
+        buffer.put((byte) selectedRamBank);
+        buffer.put((byte) selectedRomBank);
+        buffer.put((byte) memoryModel);
+        Snapshotable.putBoolean(buffer, ramWriteEnabled);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        buffer.get(ram);
+        selectedRamBank = buffer.get();
+        selectedRomBank = buffer.get();
+        memoryModel = buffer.get();
+        ramWriteEnabled = Snapshotable.getBoolean(buffer);
+        cachedRomBankFor0x0000 = cachedRomBankFor0x4000 = -1;
+    }
+
     private int getRomBankFor0x0000() {
         if (cachedRomBankFor0x0000 == -1) {
             if (memoryModel == 0) {
@@ -163,8 +197,8 @@ public class Mbc1 implements AddressSpace {
 
     private int getRomByte(int bank, int address) {
         int cartOffset = bank * 0x4000 + address;
-        if (cartOffset < cartridge.length) {
-            return cartridge[cartOffset];
+        if (cartOffset < cartridge.capacity()) {
+            return cartridge.get(cartOffset) & 0xff;
         } else {
             return 0xff;
         }
@@ -178,12 +212,12 @@ public class Mbc1 implements AddressSpace {
         }
     }
 
-    private static boolean isMulticart(int[] rom) {
+    private static boolean isMulticart(ByteBuffer rom) {
         int logoCount = 0;
-        for (int i = 0; i < rom.length; i += 0x4000) {
+        for (int i = 0; i < rom.capacity(); i += 0x4000) {
             boolean logoMatches = true;
             for (int j = 0; j < NINTENDO_LOGO.length; j++) {
-                if (rom[i + 0x104 + j] != NINTENDO_LOGO[j]) {
+                if ((rom.get(i + 0x104 + j) & 0xff) != NINTENDO_LOGO[j]) {
                     logoMatches = false;
                     break;
                 }
@@ -1,18 +1,21 @@
 package eu.rekawek.coffeegb.memory.cart.type;
 
-import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.memory.cart.battery.Battery;
 import eu.rekawek.coffeegb.memory.cart.CartridgeType;
 
-public class Mbc2 implements AddressSpace {
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class Mbc2 implements MemoryBankController {
 
     private final CartridgeType type;
 
     private final int romBanks;
 
-    private final int[] cartridge;
+    private final ByteBuffer cartridge;
 
-    private final int[] ram;
+    private final byte[] ram;
 
     private final Battery battery;
 
@@ -20,13 +23,11 @@ public class Mbc2 implements AddressSpace {
 
     private boolean ramWriteEnabled;
 
-    public Mbc2(int[] cartridge, CartridgeType type, Battery battery, int romBanks) {
+    public Mbc2(ByteBuffer cartridge, CartridgeType type, Battery battery, int romBanks) {
         this.cartridge = cartridge;
         this.romBanks = romBanks;
-        this.ram = new int[0x0200];
-        for (int i = 0; i < ram.length; i++) {
-            ram[i] = 0xff;
-        }
+        this.ram = new byte[0x0200];
+        Arrays.fill(ram, (byte) 0xff);
         this.type = type;
         this.battery = battery;
         battery.loadRam(ram);
@@ -54,11 +55,21 @@ public class Mbc2 implements AddressSpace {
         } else if (address >= 0xa000 && address < 0xc000 && ramWriteEnabled) {
             int ramAddress = getRamAddress(address);
             if (ramAddress < ram.length) {
-                ram[ramAddress] = value & 0x0f;
+                ram[ramAddress] = (byte) (value & 0x0f);
             }
         }
     }
 
+    @Override
+    public ByteBuffer getRomImage() {
+        return cartridge;
+    }
+
+    @Override
+    public int getRomBank(int address) {
+        return address < 0x4000 ? 0 : selectedRomBank;
+    }
+
     @Override
     public int getByte(int address) {
         if (address >= 0x0000 && address < 0x4000) {
@@ -68,7 +79,7 @@ public class Mbc2 implements AddressSpace {
         } else if (address >= 0xa000 && address < 0xb000) {
             int ramAddress = getRamAddress(address);
             if (ramAddress < ram.length) {
-                return ram[ramAddress];
+                return ram[ramAddress] & 0xff;
             } else {
                 return 0xff;
             }
@@ -77,10 +88,24 @@ public class Mbc2 implements AddressSpace {
         }
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put(ram);
+        buffer.put((byte) selectedRomBank);
+        Snapshotable.putBoolean(buffer, ramWriteEnabled);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        buffer.get(ram);
+        selectedRomBank = buffer.get();
+        ramWriteEnabled = Snapshotable.getBoolean(buffer);
+    }
+
     private int getRomByte(int bank, int address) {
         int cartOffset = bank * 0x4000 + address;
-        if (cartOffset < cartridge.length) {
-            return cartridge[cartOffset];
+        if (cartOffset < cartridge.capacity()) {
+            return cartridge.get(cartOffset) & 0xff;
         } else {
             return 0xff;
         }
@@ -1,20 +1,23 @@
 package eu.rekawek.coffeegb.memory.cart.type;
 
-import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.memory.cart.battery.Battery;
 import eu.rekawek.coffeegb.memory.cart.CartridgeType;
 import eu.rekawek.coffeegb.memory.cart.rtc.Clock;
 import eu.rekawek.coffeegb.memory.cart.rtc.RealTimeClock;
 
-public class Mbc3 implements AddressSpace {
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class Mbc3 implements MemoryBankController {
 
     private final CartridgeType type;
 
     private final int ramBanks;
 
-    private final int[] cartridge;
+    private final ByteBuffer cartridge;
 
-    private final int[] ram;
+    private final byte[] ram;
 
     private final RealTimeClock clock;
 
@@ -30,13 +33,11 @@ public class Mbc3 implements AddressSpace {
 
     private boolean clockLatched;
 
-    public Mbc3(int[] cartridge, CartridgeType type, Battery battery, int romBanks, int ramBanks) {
+    public Mbc3(ByteBuffer cartridge, CartridgeType type, Battery battery, int romBanks, int ramBanks) {
         this.cartridge = cartridge;
         this.ramBanks = ramBanks;
-        this.ram = new int[0x2000 * Math.max(this.ramBanks, 1)];
-        for (int i = 0; i < ram.length; i++) {
-            ram[i] = 0xff;
-        }
+        this.ram = new byte[0x2000 * Math.max(this.ramBanks, 1)];
+        Arrays.fill(ram, (byte) 0xff);
         this.type = type;
         this.clock = new RealTimeClock(Clock.SYSTEM_CLOCK);
         this.battery = battery;
@@ -78,7 +79,7 @@ public class Mbc3 implements AddressSpace {
         } else if (address >= 0xa000 && address < 0xc000 && ramWriteEnabled && selectedRamBank < 4) {
             int ramAddress = getRamAddress(address);
             if (ramAddress < ram.length) {
-                ram[ramAddress] = value;
+                ram[ramAddress] = (byte) value;
             }
         } else if (address >= 0xa000 && address < 0xc000 && ramWriteEnabled && selectedRamBank >= 4) {
             setTimer(value);
@@ -92,6 +93,16 @@ public class Mbc3 implements AddressSpace {
         selectedRomBank = bank;
     }
 
+    @Override
+    public ByteBuffer getRomImage() {
+        return cartridge;
+    }
+
+    @Override
+    public int getRomBank(int address) {
+        return address < 0x4000 ? 0 : selectedRomBank;
+    }
+
     @Override
     public int getByte(int address) {
         if (address >= 0x0000 && address < 0x4000) {
@@ -101,7 +112,7 @@ public class Mbc3 implements AddressSpace {
         } else if (address >= 0xa000 && address < 0xc000 && selectedRamBank < 4) {
             int ramAddress = getRamAddress(address);
             if (ramAddress < ram.length) {
-                return ram[ramAddress];
+                return ram[ramAddress] & 0xff;
             } else {
                 return 0xff;
             }
@@ -112,10 +123,32 @@ public class Mbc3 implements AddressSpace {
         }
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put(ram);
+        buffer.put((byte) selectedRamBank);
+        buffer.put((byte) selectedRomBank);
+        Snapshotable.putBoolean(buffer, ramWriteEnabled);
+        buffer.put((byte) latchClockReg);
+        Snapshotable.putBoolean(buffer, clockLatched);
+        clock.saveState(buffer);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        buffer.get(ram);
+        selectedRamBank = buffer.get() & 0xff;
+        selectedRomBank = buffer.get() & 0xff;
+        ramWriteEnabled = Snapshotable.getBoolean(buffer);
+        latchClockReg = buffer.get() & 0xff;
+        clockLatched = Snapshotable.getBoolean(buffer);
+        clock.loadState(buffer);
+    }
+
     private int getRomByte(int bank, int address) {
         int cartOffset = bank * 0x4000 + address;
-        if (cartOffset < cartridge.length) {
-            return cartridge[cartOffset];
+        if (cartOffset < cartridge.capacity()) {
+            return cartridge.get(cartOffset) & 0xff;
         } else {
             return 0xff;
         }
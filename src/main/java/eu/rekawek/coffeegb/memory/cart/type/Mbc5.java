@@ -1,10 +1,13 @@
 package eu.rekawek.coffeegb.memory.cart.type;
 
-import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.memory.cart.battery.Battery;
 import eu.rekawek.coffeegb.memory.cart.CartridgeType;
 
-public class Mbc5 implements AddressSpace {
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class Mbc5 implements MemoryBankController {
 
     private final CartridgeType type;
 
@@ -12,9 +15,9 @@ public class Mbc5 implements AddressSpace {
 
     private final int ramBanks;
 
-    private final int[] cartridge;
+    private final ByteBuffer cartridge;
 
-    private final int[] ram;
+    private final byte[] ram;
 
     private final Battery battery;
 
@@ -24,14 +27,12 @@ public class Mbc5 implements AddressSpace {
 
     private boolean ramWriteEnabled;
 
-    public Mbc5(int[] cartridge, CartridgeType type, Battery battery, int romBanks, int ramBanks) {
+    public Mbc5(ByteBuffer cartridge, CartridgeType type, Battery battery, int romBanks, int ramBanks) {
         this.cartridge = cartridge;
         this.ramBanks = ramBanks;
         this.romBanks = romBanks;
-        this.ram = new int[0x2000 * Math.max(this.ramBanks, 1)];
-        for (int i = 0; i < ram.length; i++) {
-            ram[i] = 0xff;
-        }
+        this.ram = new byte[0x2000 * Math.max(this.ramBanks, 1)];
+        Arrays.fill(ram, (byte) 0xff);
         this.type = type;
         this.battery = battery;
         battery.loadRam(ram);
@@ -62,11 +63,21 @@ public class Mbc5 implements AddressSpace {
         } else if (address >= 0xa000 && address < 0xc000 && ramWriteEnabled) {
             int ramAddress = getRamAddress(address);
             if (ramAddress < ram.length) {
-                ram[ramAddress] = value;
+                ram[ramAddress] = (byte) value;
             }
         }
     }
 
+    @Override
+    public ByteBuffer getRomImage() {
+        return cartridge;
+    }
+
+    @Override
+    public int getRomBank(int address) {
+        return address < 0x4000 ? 0 : selectedRomBank;
+    }
+
     @Override
     public int getByte(int address) {
         if (address >= 0x0000 && address < 0x4000) {
@@ -76,7 +87,7 @@ public class Mbc5 implements AddressSpace {
         } else if (address >= 0xa000 && address < 0xc000) {
             int ramAddress = getRamAddress(address);
             if (ramAddress < ram.length) {
-                return ram[ramAddress];
+                return ram[ramAddress] & 0xff;
             } else {
                 return 0xff;
             }
@@ -85,10 +96,26 @@ public class Mbc5 implements AddressSpace {
         }
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put(ram);
+        buffer.put((byte) selectedRamBank);
+        buffer.putShort((short) selectedRomBank);
+        Snapshotable.putBoolean(buffer, ramWriteEnabled);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        buffer.get(ram);
+        selectedRamBank = buffer.get();
+        selectedRomBank = buffer.getShort();
+        ramWriteEnabled = Snapshotable.getBoolean(buffer);
+    }
+
     private int getRomByte(int bank, int address) {
         int cartOffset = bank * 0x4000 + address;
-        if (cartOffset < cartridge.length) {
-            return cartridge[cartOffset];
+        if (cartOffset < cartridge.capacity()) {
+            return cartridge.get(cartOffset) & 0xff;
         } else {
             return 0xff;
         }
@@ -0,0 +1,30 @@
+package eu.rekawek.coffeegb.memory.cart.type;
+
+import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
+
+import java.nio.ByteBuffer;
+
+public interface MemoryBankController extends AddressSpace, Snapshotable {
+
+    // the ROM bank currently mapped to the given address in the 0x0000-0x7fff range
+    int getRomBank(int address);
+
+    ByteBuffer getRomImage();
+
+    @Override
+    default void readBlock(int address, byte[] buffer, int offset, int length) {
+        int end = address + length;
+        if ((address >= 0x0000 && end <= 0x4000) || (address >= 0x4000 && end <= 0x8000)) {
+            int romOffset = getRomBank(address) * 0x4000 + (address & 0x3fff);
+            ByteBuffer rom = getRomImage().duplicate();
+            if (romOffset + length <= rom.capacity()) {
+                rom.position(romOffset);
+                rom.get(buffer, offset, length);
+                return;
+            }
+        }
+        AddressSpace.super.readBlock(address, buffer, offset, length);
+    }
+
+}
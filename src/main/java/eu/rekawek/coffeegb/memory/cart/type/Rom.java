@@ -1,13 +1,14 @@
 package eu.rekawek.coffeegb.memory.cart.type;
 
-import eu.rekawek.coffeegb.AddressSpace;
 import eu.rekawek.coffeegb.memory.cart.CartridgeType;
 
-public class Rom implements AddressSpace {
+import java.nio.ByteBuffer;
 
-    private final int[] rom;
+public class Rom implements MemoryBankController {
 
-    public Rom(int[] rom, CartridgeType type, int romBanks, int ramBanks) {
+    private final ByteBuffer rom;
+
+    public Rom(ByteBuffer rom, CartridgeType type, int romBanks, int ramBanks) {
         this.rom = rom;
     }
 
@@ -21,10 +22,28 @@ public class Rom implements AddressSpace {
     public void setByte(int address, int value) {
     }
 
+    @Override
+    public ByteBuffer getRomImage() {
+        return rom;
+    }
+
+    @Override
+    public int getRomBank(int address) {
+        return address < 0x4000 ? 0 : 1;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+    }
+
     @Override
     public int getByte(int address) {
         if (address >= 0x0000 && address < 0x8000) {
-            return rom[address];
+            return rom.get(address) & 0xff;
         } else {
             return 0;
         }
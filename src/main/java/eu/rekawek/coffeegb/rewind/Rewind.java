@@ -0,0 +1,153 @@
+package eu.rekawek.coffeegb.rewind;
+
+import eu.rekawek.coffeegb.Gameboy;
+import eu.rekawek.coffeegb.gpu.Display;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+
+// keeps the states of the last frames, so the emulation can be taken back. The states are saved by the emulation
+// thread and compressed on a separate one. If the compression falls behind, the frames are skipped rather than
+// stalling the emulation.
+public class Rewind implements Runnable {
+
+    public static final int FRAMES_PER_SECOND = 60;
+
+    private static final int KEYFRAME_INTERVAL = FRAMES_PER_SECOND;
+
+    // the limit of the memory used for a second of the history
+    private static final int BYTES_PER_SECOND = 1 << 20;
+
+    private static final int QUEUE_SIZE = 4;
+
+    private static final long WAIT_NANOS = 100_000;
+
+    private final Gameboy gameboy;
+
+    private final Display display;
+
+    private final RewindBuffer buffer;
+
+    private final BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<>(QUEUE_SIZE);
+
+    private final BlockingQueue<ByteBuffer> pending = new ArrayBlockingQueue<>(QUEUE_SIZE);
+
+    private final ByteBuffer restored;
+
+    // written only by the emulation thread
+    private volatile long captured;
+
+    // written only by the compression thread
+    private volatile long compressed;
+
+    private volatile boolean rewinding;
+
+    private long droppedFrames;
+
+    private Thread thread;
+
+    public Rewind(Gameboy gameboy, Display display, int seconds) {
+        this.gameboy = gameboy;
+        this.display = display;
+        int stateSize = gameboy.getStateSize();
+        this.buffer = new RewindBuffer(stateSize, seconds * FRAMES_PER_SECOND, KEYFRAME_INTERVAL,
+                Math.max(seconds * BYTES_PER_SECOND, 2 * RewindBuffer.getMaxEncodedSize(stateSize)));
+        for (int i = 0; i < QUEUE_SIZE; i++) {
+            free.add(gameboy.createStateBuffer());
+        }
+        this.restored = gameboy.createStateBuffer();
+    }
+
+    // called by the emulation thread between the instructions, when a frame is finished
+    public void onFrame() {
+        if (rewinding) {
+            stepBack(1);
+            return;
+        }
+        if (thread == null) {
+            thread = new Thread(this, "rewind");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        ByteBuffer state = free.poll();
+        if (state == null) {
+            droppedFrames++;
+            return;
+        }
+        state.clear();
+        gameboy.saveState(state);
+        captured++;
+        pending.add(state);
+    }
+
+    // drops the given number of the newest frames and restores the one preceding them. The oldest frame is never
+    // dropped, so the rewinding stops there. Returns false if no frame has been dropped. Should be called by the
+    // emulation thread, between the instructions.
+    public boolean stepBack(int frames) {
+        waitForCompression();
+        boolean dropped = false;
+        synchronized (buffer) {
+            for (int i = 0; i < frames && buffer.getFrames() > 1; i++) {
+                dropped = buffer.removeLast();
+            }
+            if (!buffer.getLast(restored.array())) {
+                return false;
+            }
+        }
+        restored.clear();
+        gameboy.loadState(restored);
+        display.requestRefresh(gameboy.getGpu().getFrameBuffer());
+        return dropped;
+    }
+
+    // while set, every frame steps back instead of being saved
+    public void setRewinding(boolean rewinding) {
+        this.rewinding = rewinding;
+    }
+
+    public boolean isRewinding() {
+        return rewinding;
+    }
+
+    public int getFrames() {
+        waitForCompression();
+        synchronized (buffer) {
+            return buffer.getFrames();
+        }
+    }
+
+    public int getUsedBytes() {
+        waitForCompression();
+        synchronized (buffer) {
+            return buffer.getUsedBytes();
+        }
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    private void waitForCompression() {
+        while (compressed != captured) {
+            LockSupport.parkNanos(WAIT_NANOS);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                ByteBuffer state = pending.take();
+                synchronized (buffer) {
+                    buffer.add(state.array());
+                }
+                compressed++;
+                free.add(state);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
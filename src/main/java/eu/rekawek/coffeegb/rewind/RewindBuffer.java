@@ -0,0 +1,235 @@
+package eu.rekawek.coffeegb.rewind;
+
+// ring buffer of the saved states. Every keyframeInterval-th state is a keyframe, the following ones are stored as
+// XOR deltas against it, so any state can be decoded in two steps. A new keyframe is also started when a delta gets
+// larger than half of the keyframe, eg. after the screen has been turned on. Both are run-length encoded: the state
+// is split into the runs of the bytes equal to the reference and the literal runs of XORed bytes. When the buffer is
+// full, the oldest keyframe is evicted together with its deltas.
+public class RewindBuffer {
+
+    // shorter runs of the equal bytes are kept in the literal, as they'd take more space than they save
+    private static final int MIN_RUN = 4;
+
+    private final int stateSize;
+
+    private final int keyframeInterval;
+
+    private final byte[] data;
+
+    private final int[] offsets;
+
+    private final int[] lengths;
+
+    private final boolean[] keyframes;
+
+    private final byte[] empty;
+
+    // the keyframe of the newest state
+    private final byte[] keyframe;
+
+    private final byte[] encoded;
+
+    private int first;
+
+    private int count;
+
+    private int sinceKeyframe;
+
+    private int keyframeLength;
+
+    public RewindBuffer(int stateSize, int maxFrames, int keyframeInterval, int capacity) {
+        this.stateSize = stateSize;
+        this.keyframeInterval = keyframeInterval;
+        this.encoded = new byte[getMaxEncodedSize(stateSize)];
+        if (capacity < encoded.length) {
+            throw new IllegalArgumentException("The capacity is too small for the state size " + stateSize);
+        }
+        this.data = new byte[capacity];
+        this.offsets = new int[maxFrames];
+        this.lengths = new int[maxFrames];
+        this.keyframes = new boolean[maxFrames];
+        this.empty = new byte[stateSize];
+        this.keyframe = new byte[stateSize];
+    }
+
+    public void add(byte[] state) {
+        boolean isKeyframe = count == 0 || sinceKeyframe >= keyframeInterval;
+        int length = encode(isKeyframe ? empty : keyframe, state, stateSize, encoded);
+        if (!isKeyframe && length > keyframeLength / 2) {
+            isKeyframe = true;
+            length = encode(empty, state, stateSize, encoded);
+        }
+        int offset;
+        while (count == offsets.length || (offset = findSpace(length)) == -1) {
+            evictOldest();
+            if (count == 0 && !isKeyframe) {
+                isKeyframe = true;
+                length = encode(empty, state, stateSize, encoded);
+            }
+        }
+        System.arraycopy(encoded, 0, data, offset, length);
+        int i = index(count++);
+        offsets[i] = offset;
+        lengths[i] = length;
+        keyframes[i] = isKeyframe;
+        if (isKeyframe) {
+            System.arraycopy(state, 0, keyframe, 0, stateSize);
+            keyframeLength = length;
+            sinceKeyframe = 1;
+        } else {
+            sinceKeyframe++;
+        }
+    }
+
+    // decodes the newest state, returns false if the buffer is empty
+    public boolean getLast(byte[] state) {
+        if (count == 0) {
+            return false;
+        }
+        int i = index(count - 1);
+        if (keyframes[i]) {
+            System.arraycopy(keyframe, 0, state, 0, stateSize);
+        } else {
+            decode(keyframe, data, offsets[i], state, stateSize);
+        }
+        return true;
+    }
+
+    public boolean removeLast() {
+        if (count == 0) {
+            return false;
+        }
+        count--;
+        if (--sinceKeyframe == 0 && count > 0) {
+            int k = count - 1;
+            while (!keyframes[index(k)]) {
+                k--;
+            }
+            decode(empty, data, offsets[index(k)], keyframe, stateSize);
+            keyframeLength = lengths[index(k)];
+            sinceKeyframe = count - k;
+        }
+        return true;
+    }
+
+    public int getFrames() {
+        return count;
+    }
+
+    // bytes taken by the stored states, including the space wasted at the end of the ring
+    public int getUsedBytes() {
+        if (count == 0) {
+            return 0;
+        }
+        int last = index(count - 1);
+        int head = offsets[last] + lengths[last];
+        int tail = offsets[first];
+        return head > tail ? head - tail : data.length - tail + head;
+    }
+
+    private void evictOldest() {
+        do {
+            first = (first + 1) % offsets.length;
+            count--;
+        } while (count > 0 && !keyframes[first]);
+        if (count == 0) {
+            first = 0;
+            sinceKeyframe = 0;
+        }
+    }
+
+    // the states are stored continuously, wrapping to the beginning of the ring if one doesn't fit at the end
+    private int findSpace(int length) {
+        if (count == 0) {
+            return 0;
+        }
+        int tail = offsets[first];
+        int last = index(count - 1);
+        int head = offsets[last] + lengths[last];
+        if (offsets[last] >= tail) {
+            if (data.length - head >= length) {
+                return head;
+            }
+            return tail >= length ? 0 : -1;
+        } else {
+            return tail - head >= length ? head : -1;
+        }
+    }
+
+    private int index(int i) {
+        return (first + i) % offsets.length;
+    }
+
+    // the encoded state is a sequence of [equal run length, literal length, literal bytes], with both lengths as
+    // varints. Each literal but the last is followed by at least MIN_RUN equal bytes.
+    static int encode(byte[] reference, byte[] state, int length, byte[] out) {
+        int o = 0;
+        int i = 0;
+        while (i < length) {
+            int start = i;
+            while (i < length && state[i] == reference[i]) {
+                i++;
+            }
+            int equalRun = i - start;
+            int literalStart = i;
+            int equal = 0;
+            while (i < length && equal < MIN_RUN) {
+                if (state[i] == reference[i]) {
+                    equal++;
+                } else {
+                    equal = 0;
+                }
+                i++;
+            }
+            i -= equal;
+            o = putVarint(out, o, equalRun);
+            o = putVarint(out, o, i - literalStart);
+            for (int j = literalStart; j < i; j++) {
+                out[o++] = (byte) (state[j] ^ reference[j]);
+            }
+        }
+        return o;
+    }
+
+    static void decode(byte[] reference, byte[] in, int offset, byte[] state, int length) {
+        int o = offset;
+        int i = 0;
+        while (i < length) {
+            int equalRun = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = in[o++];
+                equalRun |= (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    break;
+                }
+            }
+            int literal = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = in[o++];
+                literal |= (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    break;
+                }
+            }
+            System.arraycopy(reference, i, state, i, equalRun);
+            i += equalRun;
+            for (int j = 0; j < literal; j++, i++) {
+                state[i] = (byte) (in[o++] ^ reference[i]);
+            }
+        }
+    }
+
+    private static int putVarint(byte[] out, int offset, int value) {
+        while ((value & ~0x7f) != 0) {
+            out[offset++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out[offset++] = (byte) value;
+        return offset;
+    }
+
+    // every token but the first takes at least MIN_RUN + 1 bytes of the state and adds up to 2 varints of 5 bytes
+    static int getMaxEncodedSize(int stateSize) {
+        return stateSize + (stateSize / (MIN_RUN + 1) + 2) * 10;
+    }
+}
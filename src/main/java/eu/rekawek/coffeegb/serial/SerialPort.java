@@ -2,14 +2,17 @@ package eu.rekawek.coffeegb.serial;
 
 import eu.rekawek.coffeegb.AddressSpace;
 import eu.rekawek.coffeegb.Gameboy;
+import eu.rekawek.coffeegb.Scheduler;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.cpu.InterruptManager;
 import eu.rekawek.coffeegb.cpu.SpeedMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
-public class SerialPort implements AddressSpace {
+public class SerialPort implements AddressSpace, Snapshotable {
 
     private static final Logger LOG = LoggerFactory.getLogger(SerialPort.class);
 
@@ -19,33 +22,41 @@ public class SerialPort implements AddressSpace {
 
     private final SpeedMode speedMode;
 
+    private final Scheduler scheduler;
+
+    private final Scheduler.Event transferEvent;
+
     private int sb;
 
     private int sc;
 
     private boolean transferInProgress;
 
-    private int divider;
+    private long transferStart;
 
-    public SerialPort(InterruptManager interruptManager, SerialEndpoint serialEndpoint, SpeedMode speedMode) {
+    public SerialPort(InterruptManager interruptManager, SerialEndpoint serialEndpoint, SpeedMode speedMode, Scheduler scheduler) {
         this.interruptManager = interruptManager;
         this.serialEndpoint = serialEndpoint;
         this.speedMode = speedMode;
+        this.scheduler = scheduler;
+        this.transferEvent = scheduler.createEvent(this::finishTransfer);
+        speedMode.registerSwitchListener(this::onSpeedSwitch);
     }
 
-    public void tick() {
-        if (!transferInProgress) {
-            return;
+    private void finishTransfer() {
+        transferInProgress = false;
+        try {
+            sb = serialEndpoint.transfer(sb);
+        } catch (IOException e) {
+            LOG.error("Can't transfer byte", e);
+            sb = 0;
         }
-        if (++divider >= Gameboy.TICKS_PER_SEC / 8192 / speedMode.getSpeedMode()) {
-            transferInProgress = false;
-            try {
-                sb = serialEndpoint.transfer(sb);
-            } catch (IOException e) {
-                LOG.error("Can't transfer byte", e);
-                sb = 0;
-            }
-            interruptManager.requestInterrupt(InterruptManager.InterruptType.Serial);
+        interruptManager.requestInterrupt(InterruptManager.InterruptType.Serial);
+    }
+
+    private void onSpeedSwitch() {
+        if (transferInProgress) {
+            scheduleTransfer();
         }
     }
 
@@ -77,8 +88,31 @@ public class SerialPort implements AddressSpace {
         }
     }
 
+    // the transfer event deadline is a part of the scheduler state
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put((byte) sb);
+        buffer.put((byte) sc);
+        Snapshotable.putBoolean(buffer, transferInProgress);
+        buffer.putLong(transferStart);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        sb = buffer.get() & 0xff;
+        sc = buffer.get() & 0xff;
+        transferInProgress = Snapshotable.getBoolean(buffer);
+        transferStart = buffer.getLong();
+    }
+
     private void startTransfer() {
         transferInProgress = true;
-        divider = 0;
+        transferStart = scheduler.getTick();
+        scheduleTransfer();
+    }
+
+    private void scheduleTransfer() {
+        long end = transferStart + Gameboy.TICKS_PER_SEC / 8192 / speedMode.getSpeedMode();
+        transferEvent.schedule(Math.max(1, end - scheduler.getTick()));
     }
 }
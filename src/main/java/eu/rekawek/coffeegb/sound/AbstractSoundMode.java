@@ -1,8 +1,11 @@
 package eu.rekawek.coffeegb.sound;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Snapshotable;
 
-public abstract class AbstractSoundMode implements AddressSpace {
+import java.nio.ByteBuffer;
+
+public abstract class AbstractSoundMode implements AddressSpace, Snapshotable {
 
     protected final int offset;
 
@@ -24,6 +27,12 @@ public abstract class AbstractSoundMode implements AddressSpace {
 
     public abstract int tick();
 
+    // number of the following ticks that only advance the counters and return the same value as the last tick(). If
+    // the output isn't needed, the ticks which only change the returned value are idle as well.
+    public abstract int getIdleTicks(boolean output);
+
+    public abstract void skip(int ticks);
+
     protected abstract void trigger();
 
     public boolean isEnabled() {
@@ -139,6 +148,41 @@ public abstract class AbstractSoundMode implements AddressSpace {
 
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        Snapshotable.putBoolean(buffer, channelEnabled);
+        Snapshotable.putBoolean(buffer, dacEnabled);
+        buffer.put((byte) nr0);
+        buffer.put((byte) nr1);
+        buffer.put((byte) nr2);
+        buffer.put((byte) nr3);
+        buffer.put((byte) nr4);
+        length.saveState(buffer);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        channelEnabled = Snapshotable.getBoolean(buffer);
+        dacEnabled = Snapshotable.getBoolean(buffer);
+        nr0 = buffer.get() & 0xff;
+        nr1 = buffer.get() & 0xff;
+        nr2 = buffer.get() & 0xff;
+        nr3 = buffer.get() & 0xff;
+        nr4 = buffer.get() & 0xff;
+        length.loadState(buffer);
+    }
+
+    protected int getLengthIdleTicks() {
+        if (length.isEnabled() && channelEnabled && length.getValue() == 0) {
+            return 0;
+        }
+        return length.getIdleTicks();
+    }
+
+    protected static int getDividerIdleTicks(int divider) {
+        return divider > 0 ? divider - 1 : Integer.MAX_VALUE;
+    }
+
     protected boolean updateLength() {
         length.tick();
         if (!length.isEnabled()) {
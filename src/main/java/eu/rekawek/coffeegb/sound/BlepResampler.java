@@ -0,0 +1,143 @@
+package eu.rekawek.coffeegb.sound;
+
+// band-limited step synthesis. Every change of the input amplitude is added to the output as a step filtered with a
+// windowed sinc kernel, so the signal resampled to the output rate doesn't alias. The kernel is centered WIDTH / 2
+// samples after the change, which is the latency of the resampler.
+public class BlepResampler {
+
+    private static final int WIDTH = 16;
+
+    private static final int PHASE_BITS = 5;
+
+    private static final int PHASES = 1 << PHASE_BITS;
+
+    private static final int KERNEL_BITS = 15;
+
+    // the position is kept in output samples, with FRAC_BITS fractional bits
+    private static final int FRAC_BITS = 32;
+
+    // high-pass filter removing the DC offset of the unsigned mix
+    private static final int BASS_SHIFT = 9;
+
+    // kernel[phase][tap], every phase sums to 1 << KERNEL_BITS
+    private static final int[][] KERNEL = createKernel();
+
+    private final long factor;
+
+    private final int[] left;
+
+    private final int[] right;
+
+    private long position;
+
+    private int lastLeft;
+
+    private int lastRight;
+
+    private int sumLeft;
+
+    private int sumRight;
+
+    public BlepResampler(int clockRate, int sampleRate, int capacity) {
+        this.factor = ((long) sampleRate << FRAC_BITS) / clockRate;
+        this.left = new int[capacity + WIDTH + 1];
+        this.right = new int[capacity + WIDTH + 1];
+    }
+
+    // advances the input by one clock with the given amplitudes
+    public void tick(int leftAmplitude, int rightAmplitude) {
+        if (leftAmplitude != lastLeft || rightAmplitude != lastRight) {
+            int index = (int) (position >>> FRAC_BITS);
+            int[] kernel = KERNEL[(int) (position >>> (FRAC_BITS - PHASE_BITS)) & (PHASES - 1)];
+            if (leftAmplitude != lastLeft) {
+                addStep(left, index, kernel, leftAmplitude - lastLeft);
+                lastLeft = leftAmplitude;
+            }
+            if (rightAmplitude != lastRight) {
+                addStep(right, index, kernel, rightAmplitude - lastRight);
+                lastRight = rightAmplitude;
+            }
+        }
+        position += factor;
+    }
+
+    // advances the input by the given number of clocks, without changing the amplitudes
+    public void skip(int ticks) {
+        position += factor * ticks;
+    }
+
+    // number of the clocks after which the given number of the output samples will be available
+    public int getTicksUntilAvailable(int samples) {
+        long distance = ((long) samples << FRAC_BITS) - position;
+        return distance <= 0 ? 0 : (int) ((distance + factor - 1) / factor);
+    }
+
+    private static void addStep(int[] buffer, int index, int[] kernel, int delta) {
+        for (int i = 0; i < WIDTH; i++) {
+            buffer[index + i] += kernel[i] * delta;
+        }
+    }
+
+    // number of the output samples which won't be affected by the following ticks
+    public int getAvailable() {
+        return (int) (position >>> FRAC_BITS);
+    }
+
+    // reads up to maxSamples interleaved stereo samples and returns their number
+    public int read(short[] samples, int maxSamples) {
+        int count = Math.min(getAvailable(), maxSamples);
+        for (int i = 0; i < count; i++) {
+            sumLeft += left[i];
+            sumRight += right[i];
+            int l = sumLeft >> KERNEL_BITS;
+            int r = sumRight >> KERNEL_BITS;
+            samples[i * 2] = clamp(l);
+            samples[i * 2 + 1] = clamp(r);
+            sumLeft -= l << (KERNEL_BITS - BASS_SHIFT);
+            sumRight -= r << (KERNEL_BITS - BASS_SHIFT);
+        }
+        int remaining = getAvailable() - count + WIDTH + 1;
+        System.arraycopy(left, count, left, 0, remaining);
+        System.arraycopy(right, count, right, 0, remaining);
+        for (int i = remaining; i < remaining + count && i < left.length; i++) {
+            left[i] = 0;
+            right[i] = 0;
+        }
+        position -= (long) count << FRAC_BITS;
+        return count;
+    }
+
+    private static short clamp(int value) {
+        if (value > Short.MAX_VALUE) {
+            return Short.MAX_VALUE;
+        } else if (value < Short.MIN_VALUE) {
+            return Short.MIN_VALUE;
+        } else {
+            return (short) value;
+        }
+    }
+
+    private static int[][] createKernel() {
+        // the cutoff is a bit below the output Nyquist frequency, to leave some room for the transition band
+        double cutoff = 0.9;
+        int[][] kernel = new int[PHASES][WIDTH];
+        for (int phase = 0; phase < PHASES; phase++) {
+            double[] taps = new double[WIDTH];
+            double sum = 0;
+            for (int i = 0; i < WIDTH; i++) {
+                double x = i - WIDTH / 2 - (double) phase / PHASES;
+                double sinc = x == 0 ? 1 : Math.sin(Math.PI * cutoff * x) / (Math.PI * cutoff * x);
+                double window = 0.42 + 0.5 * Math.cos(2 * Math.PI * x / WIDTH) + 0.08 * Math.cos(4 * Math.PI * x / WIDTH);
+                taps[i] = Math.abs(x) >= WIDTH / 2 ? 0 : sinc * window;
+                sum += taps[i];
+            }
+            int total = 0;
+            for (int i = 0; i < WIDTH; i++) {
+                kernel[phase][i] = (int) Math.round(taps[i] / sum * (1 << KERNEL_BITS));
+                total += kernel[phase][i];
+            }
+            kernel[phase][WIDTH / 2] += (1 << KERNEL_BITS) - total;
+        }
+        return kernel;
+    }
+}
@@ -1,8 +1,11 @@
 package eu.rekawek.coffeegb.sound;
 
 import eu.rekawek.coffeegb.Gameboy;
+import eu.rekawek.coffeegb.Snapshotable;
 
-public class FrequencySweep {
+import java.nio.ByteBuffer;
+
+public class FrequencySweep implements Snapshotable {
 
     private static final int DIVIDER = Gameboy.TICKS_PER_SEC / 128;
 
@@ -95,6 +98,46 @@ public class FrequencySweep {
         }
     }
 
+    // number of the following ticks that only advance the counter
+    public int getIdleTicks() {
+        int ticksToChange = DIVIDER - i;
+        return ticksToChange > 0 ? ticksToChange - 1 : Integer.MAX_VALUE;
+    }
+
+    public void skip(int ticks) {
+        i += ticks;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put((byte) period);
+        Snapshotable.putBoolean(buffer, negate);
+        buffer.put((byte) shift);
+        buffer.put((byte) timer);
+        buffer.putShort((short) shadowFreq);
+        buffer.put((byte) nr13);
+        buffer.put((byte) nr14);
+        buffer.putInt(i);
+        Snapshotable.putBoolean(buffer, overflow);
+        Snapshotable.putBoolean(buffer, counterEnabled);
+        Snapshotable.putBoolean(buffer, negging);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        period = buffer.get();
+        negate = Snapshotable.getBoolean(buffer);
+        shift = buffer.get();
+        timer = buffer.get();
+        shadowFreq = buffer.getShort();
+        nr13 = buffer.get() & 0xff;
+        nr14 = buffer.get() & 0xff;
+        i = buffer.getInt();
+        overflow = Snapshotable.getBoolean(buffer);
+        counterEnabled = Snapshotable.getBoolean(buffer);
+        negging = Snapshotable.getBoolean(buffer);
+    }
+
     private int calculate() {
         int freq = shadowFreq >> shift;
         if (negate) {
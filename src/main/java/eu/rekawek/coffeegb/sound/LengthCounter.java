@@ -1,8 +1,12 @@
 package eu.rekawek.coffeegb.sound;
 
+import eu.rekawek.coffeegb.Snapshotable;
+
+import java.nio.ByteBuffer;
+
 import static eu.rekawek.coffeegb.Gameboy.TICKS_PER_SEC;
 
-public class LengthCounter {
+public class LengthCounter implements Snapshotable {
 
     private final int DIVIDER = TICKS_PER_SEC / 256;
 
@@ -31,6 +35,16 @@ public class LengthCounter {
         }
     }
 
+    // number of the following ticks that only advance the counter
+    public int getIdleTicks() {
+        long ticksToChange = DIVIDER - i;
+        return ticksToChange > 0 ? (int) (ticksToChange - 1) : Integer.MAX_VALUE;
+    }
+
+    public void skip(int ticks) {
+        i += ticks;
+    }
+
     public void setLength(int length) {
         if (length == 0) {
             this.length = fullLength;
@@ -74,6 +88,20 @@ public class LengthCounter {
         return enabled;
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.putShort((short) length);
+        buffer.putLong(i);
+        Snapshotable.putBoolean(buffer, enabled);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        length = buffer.getShort();
+        i = buffer.getLong();
+        enabled = Snapshotable.getBoolean(buffer);
+    }
+
     @Override
     public String toString() {
         return String.format("LengthCounter[l=%d,f=%d,c=%d,%s]", length, fullLength, i, enabled ? "enabled" : "disabled");
@@ -1,6 +1,10 @@
 package eu.rekawek.coffeegb.sound;
 
-public class Lfsr {
+import eu.rekawek.coffeegb.Snapshotable;
+
+import java.nio.ByteBuffer;
+
+public class Lfsr implements Snapshotable {
 
     private int lfsr;
 
@@ -26,6 +30,16 @@ public class Lfsr {
         return 1 & ~lfsr;
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.putShort((short) lfsr);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        lfsr = buffer.getShort();
+    }
+
     int getValue() {
         return lfsr;
     }
@@ -1,6 +1,10 @@
 package eu.rekawek.coffeegb.sound;
 
-public class PolynomialCounter {
+import eu.rekawek.coffeegb.Snapshotable;
+
+import java.nio.ByteBuffer;
+
+public class PolynomialCounter implements Snapshotable {
 
     private int shiftedDivisor;
 
@@ -49,6 +53,27 @@ public class PolynomialCounter {
         i = 1;
     }
 
+    // number of the following ticks that return false
+    public int getIdleTicks() {
+        return i > 0 ? i - 1 : Integer.MAX_VALUE;
+    }
+
+    public void skip(int ticks) {
+        i -= ticks;
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.putInt(shiftedDivisor);
+        buffer.putInt(i);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        shiftedDivisor = buffer.getInt();
+        i = buffer.getInt();
+    }
+
     public boolean tick() {
         if (--i == 0) {
             i = shiftedDivisor;
@@ -0,0 +1,69 @@
+package eu.rekawek.coffeegb.sound;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// lock-free buffer for a single producer (the emulator) and a single consumer (the audio thread). The producer waits
+// if the buffer is full, so the emulation can't get ahead of the audio output by more than the buffer size.
+public class SampleRingBuffer {
+
+    private static final long WAIT_NANOS = 100_000;
+
+    private final short[] buffer;
+
+    private final int mask;
+
+    // total number of the samples written
+    private final AtomicLong head = new AtomicLong();
+
+    // total number of the samples read
+    private final AtomicLong tail = new AtomicLong();
+
+    private volatile boolean closed;
+
+    public SampleRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity should be a power of 2: " + capacity);
+        }
+        this.buffer = new short[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public void write(short[] samples, int length) {
+        int offset = 0;
+        while (offset < length && !closed) {
+            long h = head.get();
+            int free = buffer.length - (int) (h - tail.get());
+            if (free == 0) {
+                LockSupport.parkNanos(WAIT_NANOS);
+                continue;
+            }
+            int count = Math.min(free, length - offset);
+            for (int i = 0; i < count; i++) {
+                buffer[(int) (h + i) & mask] = samples[offset + i];
+            }
+            head.lazySet(h + count);
+            offset += count;
+        }
+    }
+
+    // reads up to maxLength samples without waiting, returns the number of the samples read
+    public int read(short[] samples, int maxLength) {
+        long t = tail.get();
+        int count = (int) Math.min(head.get() - t, maxLength);
+        for (int i = 0; i < count; i++) {
+            samples[i] = buffer[(int) (t + i) & mask];
+        }
+        tail.lazySet(t + count);
+        return count;
+    }
+
+    public int available() {
+        return (int) (head.get() - tail.get());
+    }
+
+    // releases the waiting producer, following writes are ignored
+    public void close() {
+        closed = true;
+    }
+}
@@ -1,10 +1,14 @@
 package eu.rekawek.coffeegb.sound;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Gameboy;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.debug.command.apu.Channel;
 import eu.rekawek.coffeegb.memory.Ram;
 
-public class Sound implements AddressSpace {
+import java.nio.ByteBuffer;
+
+public class Sound implements AddressSpace, Snapshotable {
 
     private static final int[] MASKS = new int[] {
             0x80, 0x3f, 0x00, 0xff, 0xbf,
@@ -17,12 +21,29 @@ public class Sound implements AddressSpace {
             0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00
     };
 
+    // stereo samples passed to the output at once
+    private static final int BLOCK_SIZE = 512;
+
+    // the mix is 0-420 (4 channels * 15 * volume 7), scaled to the 16-bit range
+    private static final int AMPLITUDE = 64;
+
     private final AbstractSoundMode[] allModes = new AbstractSoundMode[4];
 
     private final Ram r = new Ram(0xff24, 0x03);
 
     private final SoundOutput output;
 
+    // null if the output doesn't need the samples
+    private final BlepResampler resampler;
+
+    private final short[] samples = new short[BLOCK_SIZE * 2];
+
+    // ticks which haven't been synthesized yet
+    private int pendingTicks;
+
+    // synthesize at least once per this number of ticks, so the output gets the samples regularly
+    private final int catchUpTicks;
+
     private int[] channels = new int[4];
 
     private boolean enabled;
@@ -35,16 +56,70 @@ public class Sound implements AddressSpace {
         allModes[2] = new SoundMode3(gbc);
         allModes[3] = new SoundMode4(gbc);
         this.output = output;
+        if (output.getSampleRate() == 0) {
+            this.resampler = null;
+            this.catchUpTicks = Gameboy.TICKS_PER_SEC;
+        } else {
+            this.resampler = new BlepResampler(Gameboy.TICKS_PER_SEC, output.getSampleRate(), BLOCK_SIZE);
+            this.catchUpTicks = resampler.getTicksUntilAvailable(BLOCK_SIZE);
+        }
     }
 
     public void tick() {
-        if (!enabled) {
-            return;
+        if (enabled && ++pendingTicks >= catchUpTicks) {
+            catchUp();
+        }
+    }
+
+    public void skip(int ticks) {
+        if (enabled) {
+            pendingTicks += ticks;
+            if (pendingTicks >= catchUpTicks) {
+                catchUp();
+            }
+        }
+    }
+
+    // synthesizes the pending ticks. The channels are ticked one by one only when something changes, the ticks which
+    // only advance the counters are skipped in bulk. Without the resampler, only the state visible through the
+    // registers is updated.
+    private void catchUp() {
+        boolean synthesize = resampler != null;
+        while (pendingTicks > 0) {
+            if (synthesize) {
+                synthesize();
+            } else {
+                tickChannels();
+            }
+            pendingTicks--;
+
+            int idle = synthesize ? Math.min(pendingTicks, resampler.getTicksUntilAvailable(BLOCK_SIZE)) : pendingTicks;
+            for (int i = 0; i < allModes.length && idle > 0; i++) {
+                idle = Math.min(idle, allModes[i].getIdleTicks(synthesize));
+            }
+            if (idle > 0) {
+                for (AbstractSoundMode m : allModes) {
+                    m.skip(idle);
+                }
+                pendingTicks -= idle;
+                if (synthesize) {
+                    resampler.skip(idle);
+                    if (resampler.getAvailable() >= BLOCK_SIZE) {
+                        flush();
+                    }
+                }
+            }
         }
+    }
+
+    private void tickChannels() {
         for (int i = 0; i < allModes.length; i++) {
-            AbstractSoundMode m = allModes[i];
-            channels[i] = m.tick();
+            channels[i] = allModes[i].tick();
         }
+    }
+
+    private void synthesize() {
+        tickChannels();
 
         int selection = r.getByte(0xff25);
         int left = 0;
@@ -60,14 +135,24 @@ public class Sound implements AddressSpace {
                 right += channels[i];
             }
         }
-        left /= 4;
-        right /= 4;
-
         int volumes = r.getByte(0xff24);
-        left *= ((volumes >> 4) & 0b111);
-        right *= (volumes & 0b111);
+        left *= ((volumes >> 4) & 0b111) * AMPLITUDE;
+        right *= (volumes & 0b111) * AMPLITUDE;
 
-        output.play((byte) left, (byte) right);
+        resampler.tick(left, right);
+        if (resampler.getAvailable() >= BLOCK_SIZE) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (resampler == null) {
+            return;
+        }
+        int count = resampler.read(samples, BLOCK_SIZE);
+        if (count > 0) {
+            output.play(samples, count * 2);
+        }
     }
 
     private AddressSpace getAddressSpace(int address) {
@@ -89,6 +174,7 @@ public class Sound implements AddressSpace {
 
     @Override
     public void setByte(int address, int value) {
+        catchUp();
         if (address == 0xff26) {
             if ((value & (1 << 7)) == 0) {
                 if (enabled) {
@@ -113,6 +199,7 @@ public class Sound implements AddressSpace {
 
     @Override
     public int getByte(int address) {
+        catchUp();
         int result;
         if (address == 0xff26) {
             result = 0;
@@ -152,12 +239,42 @@ public class Sound implements AddressSpace {
     }
 
     private void stop() {
+        flush();
         output.stop();
         for (AbstractSoundMode s : allModes) {
             s.stop();
         }
     }
 
+    // the pending ticks are synthesized before saving. The resampler belongs to the output, so it isn't a part of the
+    // state: the restored sound continues from the last output level.
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        catchUp();
+        Snapshotable.putBoolean(buffer, enabled);
+        r.saveState(buffer);
+        for (AbstractSoundMode m : allModes) {
+            m.saveState(buffer);
+        }
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        catchUp();
+        boolean wasEnabled = enabled;
+        enabled = Snapshotable.getBoolean(buffer);
+        r.loadState(buffer);
+        for (AbstractSoundMode m : allModes) {
+            m.loadState(buffer);
+        }
+        if (enabled && !wasEnabled) {
+            output.start();
+        } else if (!enabled && wasEnabled) {
+            flush();
+            output.stop();
+        }
+    }
+
     public void enableChannel(int i, boolean enabled) {
         overridenEnabled[i] = enabled;
     }
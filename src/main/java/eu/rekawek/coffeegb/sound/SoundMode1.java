@@ -1,5 +1,7 @@
 package eu.rekawek.coffeegb.sound;
 
+import java.nio.ByteBuffer;
+
 public class SoundMode1 extends AbstractSoundMode {
 
     private int freqDivider;
@@ -56,6 +58,29 @@ public class SoundMode1 extends AbstractSoundMode {
         return lastOutput * volumeEnvelope.getVolume();
     }
 
+    @Override
+    public int getIdleTicks(boolean output) {
+        if (channelEnabled && !frequencySweep.isEnabled()) {
+            return 0;
+        }
+        int idle = Math.min(volumeEnvelope.getIdleTicks(), getLengthIdleTicks());
+        idle = Math.min(idle, frequencySweep.getIdleTicks());
+        if (output && channelEnabled && dacEnabled) {
+            idle = Math.min(idle, getDividerIdleTicks(freqDivider));
+        }
+        return idle;
+    }
+
+    @Override
+    public void skip(int ticks) {
+        volumeEnvelope.skip(ticks);
+        length.skip(ticks);
+        frequencySweep.skip(ticks);
+        if (channelEnabled && dacEnabled) {
+            freqDivider -= ticks;
+        }
+    }
+
     @Override
     protected void setNr0(int value) {
         super.setNr0(value);
@@ -98,6 +123,26 @@ public class SoundMode1 extends AbstractSoundMode {
         return (super.getNr4() & 0b11111000) | (frequencySweep.getNr14() & 0b00000111);
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        super.saveState(buffer);
+        buffer.putInt(freqDivider);
+        buffer.put((byte) lastOutput);
+        buffer.put((byte) i);
+        frequencySweep.saveState(buffer);
+        volumeEnvelope.saveState(buffer);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        super.loadState(buffer);
+        freqDivider = buffer.getInt();
+        lastOutput = buffer.get();
+        i = buffer.get();
+        frequencySweep.loadState(buffer);
+        volumeEnvelope.loadState(buffer);
+    }
+
     private int getDuty() {
         switch (getNr1() >> 6) {
             case 0:
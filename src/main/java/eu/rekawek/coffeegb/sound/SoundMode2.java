@@ -1,5 +1,7 @@
 package eu.rekawek.coffeegb.sound;
 
+import java.nio.ByteBuffer;
+
 public class SoundMode2 extends AbstractSoundMode {
 
     private int freqDivider;
@@ -51,6 +53,24 @@ public class SoundMode2 extends AbstractSoundMode {
         return lastOutput * volumeEnvelope.getVolume();
     }
 
+    @Override
+    public int getIdleTicks(boolean output) {
+        int idle = Math.min(volumeEnvelope.getIdleTicks(), getLengthIdleTicks());
+        if (output && channelEnabled && dacEnabled) {
+            idle = Math.min(idle, getDividerIdleTicks(freqDivider));
+        }
+        return idle;
+    }
+
+    @Override
+    public void skip(int ticks) {
+        volumeEnvelope.skip(ticks);
+        length.skip(ticks);
+        if (channelEnabled && dacEnabled) {
+            freqDivider -= ticks;
+        }
+    }
+
     @Override
     protected void setNr0(int value) {
         super.setNr0(value);
@@ -70,6 +90,24 @@ public class SoundMode2 extends AbstractSoundMode {
         channelEnabled &= dacEnabled;
     }
 
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        super.saveState(buffer);
+        buffer.putInt(freqDivider);
+        buffer.put((byte) lastOutput);
+        buffer.put((byte) i);
+        volumeEnvelope.saveState(buffer);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        super.loadState(buffer);
+        freqDivider = buffer.getInt();
+        lastOutput = buffer.get();
+        i = buffer.get();
+        volumeEnvelope.loadState(buffer);
+    }
+
     private int getDuty() {
         switch (getNr1() >> 6) {
             case 0:
@@ -1,7 +1,10 @@
 package eu.rekawek.coffeegb.sound;
 
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.memory.Ram;
 
+import java.nio.ByteBuffer;
+
 public class SoundMode3 extends AbstractSoundMode {
 
     private static final int[] DMG_WAVE = new int[] {
@@ -152,6 +155,51 @@ public class SoundMode3 extends AbstractSoundMode {
         return lastOutput;
     }
 
+    // the wave position affects the wave RAM access, so it's updated even if the output isn't needed
+    @Override
+    public int getIdleTicks(boolean output) {
+        int idle = getLengthIdleTicks();
+        if (channelEnabled && dacEnabled && (getNr0() & (1 << 7)) != 0) {
+            idle = Math.min(idle, getDividerIdleTicks(freqDivider));
+        }
+        return idle;
+    }
+
+    @Override
+    public void skip(int ticks) {
+        ticksSinceRead += ticks;
+        length.skip(ticks);
+        if (channelEnabled && dacEnabled && (getNr0() & (1 << 7)) != 0) {
+            freqDivider -= ticks;
+        }
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        super.saveState(buffer);
+        waveRam.saveState(buffer);
+        buffer.putInt(freqDivider);
+        buffer.put((byte) lastOutput);
+        buffer.put((byte) i);
+        buffer.putInt(ticksSinceRead);
+        buffer.putShort((short) lastReadAddr);
+        buffer.put((byte) this.buffer);
+        Snapshotable.putBoolean(buffer, triggered);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        super.loadState(buffer);
+        waveRam.loadState(buffer);
+        freqDivider = buffer.getInt();
+        lastOutput = buffer.get();
+        i = buffer.get();
+        ticksSinceRead = buffer.getInt();
+        lastReadAddr = buffer.getShort() & 0xffff;
+        this.buffer = buffer.get() & 0xff;
+        triggered = Snapshotable.getBoolean(buffer);
+    }
+
     private int getVolume() {
         return (getNr2() >> 5) & 0b11;
     }
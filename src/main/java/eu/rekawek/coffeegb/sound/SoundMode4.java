@@ -1,5 +1,7 @@
 package eu.rekawek.coffeegb.sound;
 
+import java.nio.ByteBuffer;
+
 public class SoundMode4 extends AbstractSoundMode {
 
     private VolumeEnvelope volumeEnvelope;
@@ -49,6 +51,42 @@ public class SoundMode4 extends AbstractSoundMode {
         return lastResult * volumeEnvelope.getVolume();
     }
 
+    @Override
+    public int getIdleTicks(boolean output) {
+        int idle = Math.min(volumeEnvelope.getIdleTicks(), getLengthIdleTicks());
+        if (output && channelEnabled && dacEnabled) {
+            idle = Math.min(idle, polynomialCounter.getIdleTicks());
+        }
+        return idle;
+    }
+
+    @Override
+    public void skip(int ticks) {
+        volumeEnvelope.skip(ticks);
+        length.skip(ticks);
+        if (channelEnabled && dacEnabled) {
+            polynomialCounter.skip(ticks);
+        }
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        super.saveState(buffer);
+        volumeEnvelope.saveState(buffer);
+        polynomialCounter.saveState(buffer);
+        buffer.put((byte) lastResult);
+        lfsr.saveState(buffer);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        super.loadState(buffer);
+        volumeEnvelope.loadState(buffer);
+        polynomialCounter.loadState(buffer);
+        lastResult = buffer.get();
+        lfsr.loadState(buffer);
+    }
+
     @Override
     protected void setNr1(int value) {
         super.setNr1(value);
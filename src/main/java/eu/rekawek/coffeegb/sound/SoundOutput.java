@@ -6,7 +6,12 @@ public interface SoundOutput {
 
     void stop();
 
-    void play(int left, int right);
+    // rate of the samples passed to play(). If it's 0, the sound isn't synthesized at all and only the state visible
+    // through the registers is emulated.
+    int getSampleRate();
+
+    // interleaved left and right 16-bit signed samples. The buffer is reused after the method returns.
+    void play(short[] samples, int length);
 
     SoundOutput NULL_OUTPUT = new SoundOutput() {
         @Override
@@ -18,7 +23,12 @@ public interface SoundOutput {
         }
 
         @Override
-        public void play(int left, int right) {
+        public int getSampleRate() {
+            return 0;
+        }
+
+        @Override
+        public void play(short[] samples, int length) {
         }
     };
 }
@@ -1,8 +1,11 @@
 package eu.rekawek.coffeegb.sound;
 
 import eu.rekawek.coffeegb.Gameboy;
+import eu.rekawek.coffeegb.Snapshotable;
 
-public class VolumeEnvelope {
+import java.nio.ByteBuffer;
+
+public class VolumeEnvelope implements Snapshotable {
 
     private int initialVolume;
 
@@ -51,6 +54,44 @@ public class VolumeEnvelope {
         }
     }
 
+    // number of the following ticks that only advance the counter
+    public int getIdleTicks() {
+        if (finished) {
+            return Integer.MAX_VALUE;
+        }
+        if ((volume == 0 && envelopeDirection == -1) || (volume == 15 && envelopeDirection == 1)) {
+            return 0;
+        }
+        int ticksToChange = sweep * Gameboy.TICKS_PER_SEC / 64 - i;
+        return ticksToChange > 0 ? ticksToChange - 1 : Integer.MAX_VALUE;
+    }
+
+    public void skip(int ticks) {
+        if (!finished) {
+            i += ticks;
+        }
+    }
+
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.put((byte) initialVolume);
+        buffer.put((byte) envelopeDirection);
+        buffer.put((byte) sweep);
+        buffer.put((byte) volume);
+        buffer.putInt(i);
+        Snapshotable.putBoolean(buffer, finished);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        initialVolume = buffer.get();
+        envelopeDirection = buffer.get();
+        sweep = buffer.get();
+        volume = buffer.get();
+        i = buffer.getInt();
+        finished = Snapshotable.getBoolean(buffer);
+    }
+
     public int getVolume() {
         if (isEnabled()) {
             return volume;
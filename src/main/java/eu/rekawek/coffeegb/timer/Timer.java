@@ -1,15 +1,23 @@
 package eu.rekawek.coffeegb.timer;
 
 import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.Scheduler;
+import eu.rekawek.coffeegb.Snapshotable;
 import eu.rekawek.coffeegb.cpu.InterruptManager;
 import eu.rekawek.coffeegb.cpu.SpeedMode;
 
-public class Timer implements AddressSpace {
+import java.nio.ByteBuffer;
+
+public class Timer implements AddressSpace, Snapshotable {
 
     private final SpeedMode speedMode;
 
     private final InterruptManager interruptManager;
 
+    private final Scheduler scheduler;
+
+    private final Scheduler.Event timerEvent;
+
     private static final int[] FREQ_TO_BIT = {9, 3, 5, 7};
 
     private int div, tac, tma, tima;
@@ -20,12 +28,82 @@ public class Timer implements AddressSpace {
 
     private int ticksSinceOverflow;
 
-    public Timer(InterruptManager interruptManager, SpeedMode speedMode) {
+    private long ticks;
+
+    private int speed;
+
+    public Timer(InterruptManager interruptManager, SpeedMode speedMode, Scheduler scheduler) {
         this.speedMode = speedMode;
         this.interruptManager = interruptManager;
+        this.scheduler = scheduler;
+        this.timerEvent = scheduler.createEvent(this::onTimerEvent);
+        this.speed = speedMode.getSpeedMode();
+        speedMode.registerSwitchListener(this::onSpeedSwitch);
+    }
+
+    // the timer ticks before the CPU, so the state visible between two scheduler ticks already includes the next one
+    private void sync() {
+        long target = scheduler.getTick() + 1;
+        while (ticks < target) {
+            if (overflow || previousBit != isBitSet(div)) {
+                tick();
+                continue;
+            }
+            long remaining = target - ticks;
+            int bitPos = getBitPos();
+            if (!isEnabled(bitPos)) {
+                div = (int) ((div + remaining) & 0xffff);
+                ticks = target;
+                continue;
+            }
+            int period = 1 << (bitPos + 1);
+            int toFallingEdge = period - (div & (period - 1));
+            if (toFallingEdge > remaining) {
+                div = (int) ((div + remaining) & 0xffff);
+                previousBit = isBitSet(div);
+                ticks = target;
+            } else {
+                div = (div + toFallingEdge - 1) & 0xffff;
+                ticks += toFallingEdge - 1;
+                previousBit = true;
+                tick();
+            }
+        }
+    }
+
+    public int getTicksToDivChange() {
+        sync();
+        return 0x100 - (div & 0xff);
+    }
+
+    private void scheduleEvent() {
+        if (overflow || previousBit != isBitSet(div)) {
+            timerEvent.schedule(1);
+            return;
+        }
+        int bitPos = getBitPos();
+        if (!isEnabled(bitPos)) {
+            timerEvent.cancel();
+            return;
+        }
+        int period = 1 << (bitPos + 1);
+        int toFallingEdge = period - (div & (period - 1));
+        timerEvent.schedule(toFallingEdge + (long) (0xff - tima) * period);
     }
 
-    public void tick() {
+    private void onTimerEvent() {
+        sync();
+        scheduleEvent();
+    }
+
+    private void onSpeedSwitch() {
+        sync();
+        speed = speedMode.getSpeedMode();
+        scheduleEvent();
+    }
+
+    private void tick() {
+        ticks++;
         updateDiv((div + 1) & 0xffff);
         if (overflow) {
             ticksSinceOverflow++;
@@ -54,16 +132,26 @@ public class Timer implements AddressSpace {
 
     private void updateDiv(int newDiv) {
         this.div = newDiv;
-        int bitPos = FREQ_TO_BIT[tac & 0b11];
-        bitPos <<= speedMode.getSpeedMode() - 1;
-        boolean bit = (div & (1 << bitPos)) != 0;
-        bit &= (tac & (1 << 2)) != 0;
+        boolean bit = isBitSet(div);
         if (!bit && previousBit) {
             incTima();
         }
         previousBit = bit;
     }
 
+    private int getBitPos() {
+        return FREQ_TO_BIT[tac & 0b11] << (speed - 1);
+    }
+
+    private boolean isEnabled(int bitPos) {
+        return (tac & (1 << 2)) != 0 && bitPos < 16;
+    }
+
+    private boolean isBitSet(int value) {
+        int bitPos = getBitPos();
+        return isEnabled(bitPos) && (value & (1 << bitPos)) != 0;
+    }
+
     @Override
     public boolean accepts(int address) {
         return address >= 0xff04 && address <= 0xff07;
@@ -71,6 +159,7 @@ public class Timer implements AddressSpace {
 
     @Override
     public void setByte(int address, int value) {
+        sync();
         switch (address) {
             case 0xff04:
                 updateDiv(0);
@@ -92,10 +181,12 @@ public class Timer implements AddressSpace {
                 tac = value;
                 break;
         }
+        scheduleEvent();
     }
 
     @Override
     public int getByte(int address) {
+        sync();
         switch (address) {
             case 0xff04:
                 return div >> 8;
@@ -111,4 +202,31 @@ public class Timer implements AddressSpace {
         }
         throw new IllegalArgumentException();
     }
+
+    // the timer event deadline is a part of the scheduler state
+    @Override
+    public void saveState(ByteBuffer buffer) {
+        buffer.putShort((short) div);
+        buffer.put((byte) tac);
+        buffer.put((byte) tma);
+        buffer.put((byte) tima);
+        Snapshotable.putBoolean(buffer, previousBit);
+        Snapshotable.putBoolean(buffer, overflow);
+        buffer.put((byte) ticksSinceOverflow);
+        buffer.putLong(ticks);
+        buffer.put((byte) speed);
+    }
+
+    @Override
+    public void loadState(ByteBuffer buffer) {
+        div = buffer.getShort() & 0xffff;
+        tac = buffer.get() & 0xff;
+        tma = buffer.get() & 0xff;
+        tima = buffer.get() & 0xff;
+        previousBit = Snapshotable.getBoolean(buffer);
+        overflow = Snapshotable.getBoolean(buffer);
+        ticksSinceOverflow = buffer.get();
+        ticks = buffer.getLong();
+        speed = buffer.get();
+    }
 }
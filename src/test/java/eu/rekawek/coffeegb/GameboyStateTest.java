@@ -0,0 +1,182 @@
+package eu.rekawek.coffeegb;
+
+import eu.rekawek.coffeegb.controller.Controller;
+import eu.rekawek.coffeegb.gpu.Display;
+import eu.rekawek.coffeegb.memory.cart.Cartridge;
+import eu.rekawek.coffeegb.serial.SerialEndpoint;
+import eu.rekawek.coffeegb.sound.SoundOutput;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class GameboyStateTest {
+
+    private static final File ROM = new File("src/test/resources/roms/blargg/cpu_instrs/01-special.gb");
+
+    private static final File SPRITE_ROM = new File("src/test/resources/roms/mooneye/manual-only/sprite_priority.gb");
+
+    private static final File GBC_ROM = new File("src/test/resources/roms/blargg/cgb_sound.gb");
+
+    @Test
+    public void testRestoredMachineFollowsTheOriginal() throws IOException {
+        assertRestoredMachineFollowsTheOriginal(ROM, emptyList());
+        assertRestoredMachineFollowsTheOriginal(SPRITE_ROM, emptyList());
+        assertRestoredMachineFollowsTheOriginal(GBC_ROM, emptyList());
+    }
+
+    @Test
+    public void testRestoredMachineFollowsTheOriginalWithJit() throws IOException {
+        assertRestoredMachineFollowsTheOriginal(ROM, singletonList("jit"));
+    }
+
+    @Test
+    public void testStateCanBeLoadedTwice() throws IOException {
+        Gameboy gb = createGameboy(ROM, emptyList());
+        tick(gb, 1_000_003);
+        ByteBuffer saved = gb.createStateBuffer();
+        gb.saveState(saved);
+
+        tick(gb, 500_000);
+        ByteBuffer expected = save(gb);
+
+        for (int i = 0; i < 2; i++) {
+            saved.rewind();
+            gb.loadState(saved);
+            tick(gb, 500_000);
+            assertArrayEquals(expected.array(), save(gb).array());
+        }
+    }
+
+    @Test
+    public void testStateSizeIsConstant() throws IOException {
+        Gameboy gb = createGameboy(GBC_ROM, emptyList());
+        int size = gb.getStateSize();
+        for (int i = 0; i < 10; i++) {
+            tick(gb, 123_457);
+            ByteBuffer buffer = ByteBuffer.allocate(size * 2);
+            gb.saveState(buffer);
+            assertEquals(size, buffer.position());
+        }
+    }
+
+    @Test
+    public void testInvalidStateIsRejected() throws IOException {
+        Gameboy dmg = createGameboy(ROM, emptyList());
+        Gameboy gbc = createGameboy(GBC_ROM, emptyList());
+
+        ByteBuffer state = save(dmg);
+        state.putInt(0, 0);
+        assertRejected(dmg, state);
+        assertRejected(dmg, ByteBuffer.allocate(10));
+        assertRejected(gbc, save(dmg));
+    }
+
+    @Test
+    public void testForkFollowsTheOriginal() throws IOException {
+        for (File rom : new File[]{ROM, GBC_ROM}) {
+            Gameboy original = createGameboy(rom, emptyList());
+            tick(original, 1_000_003);
+            Gameboy fork = original.fork();
+            assertArrayEquals(save(original).array(), save(fork).array());
+
+            tick(original, 500_000);
+            tick(fork, 500_000);
+            assertArrayEquals(save(original).array(), save(fork).array());
+        }
+    }
+
+    @Test
+    public void testForkIsIndependent() throws IOException {
+        Gameboy original = createGameboy(GBC_ROM, emptyList());
+        tick(original, 1_000_000);
+        Gameboy fork = original.fork();
+
+        int value = original.getAddressSpace().getByte(0xc000);
+        fork.getAddressSpace().setByte(0xc000, value ^ 0xff);
+        assertEquals(value, original.getAddressSpace().getByte(0xc000));
+
+        ByteBuffer forkState = save(fork);
+        tick(original, 100_000);
+        assertArrayEquals(forkState.array(), save(fork).array());
+    }
+
+    @Test
+    public void testForksRunInParallel() throws Exception {
+        Gameboy original = createGameboy(ROM, emptyList());
+        tick(original, 1_000_003);
+        Gameboy[] forks = new Gameboy[4];
+        Thread[] threads = new Thread[forks.length];
+        for (int i = 0; i < forks.length; i++) {
+            Gameboy fork = original.fork();
+            forks[i] = fork;
+            threads[i] = new Thread(() -> tick(fork, 1_000_000));
+            threads[i].start();
+        }
+        tick(original, 1_000_000);
+        for (int i = 0; i < forks.length; i++) {
+            threads[i].join();
+            assertArrayEquals(save(original).array(), save(forks[i]).array());
+        }
+    }
+
+    // the original machine is compared with a new one, restored from the state saved in the middle of an instruction
+    private static void assertRestoredMachineFollowsTheOriginal(File rom, Collection<String> params) throws IOException {
+        Gameboy original = createGameboy(rom, params);
+        tick(original, 2_000_003);
+        ByteBuffer state = save(original);
+
+        Gameboy restored = createGameboy(rom, params);
+        state.rewind();
+        restored.loadState(state);
+        assertArrayEquals(state.array(), save(restored).array());
+
+        for (int i = 0; i < 20; i++) {
+            tick(original, 50_001);
+            tick(restored, 50_001);
+            assertArrayEquals(save(original).array(), save(restored).array());
+        }
+        for (int i = 0; i < 10_000; i++) {
+            original.tickInstruction();
+            restored.tickInstruction();
+        }
+        assertEquals(original.getCpu().getRegisters().toString(), restored.getCpu().getRegisters().toString());
+        assertArrayEquals(original.getGpu().getFrameBuffer().getPixels(), restored.getGpu().getFrameBuffer().getPixels());
+        assertArrayEquals(save(original).array(), save(restored).array());
+    }
+
+    private static void assertRejected(Gameboy gb, ByteBuffer state) {
+        state.rewind();
+        try {
+            gb.loadState(state);
+            fail("The state should be rejected");
+        } catch (IllegalArgumentException e) {
+            assertEquals(0, state.position());
+        }
+    }
+
+    private static ByteBuffer save(Gameboy gb) {
+        ByteBuffer buffer = gb.createStateBuffer();
+        gb.saveState(buffer);
+        return buffer;
+    }
+
+    private static void tick(Gameboy gb, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            gb.tick();
+        }
+    }
+
+    private static Gameboy createGameboy(File rom, Collection<String> params) throws IOException {
+        GameboyOptions options = new GameboyOptions(rom, params, emptyList());
+        return new Gameboy(options, new Cartridge(options), Display.NULL_DISPLAY, Controller.NULL_CONTROLLER, SoundOutput.NULL_OUTPUT, SerialEndpoint.NULL_ENDPOINT);
+    }
+}
@@ -0,0 +1,108 @@
+package eu.rekawek.coffeegb;
+
+import eu.rekawek.coffeegb.controller.Controller;
+import eu.rekawek.coffeegb.cpu.Registers;
+import eu.rekawek.coffeegb.gpu.Display;
+import eu.rekawek.coffeegb.memory.cart.Cartridge;
+import eu.rekawek.coffeegb.serial.SerialEndpoint;
+import eu.rekawek.coffeegb.sound.SoundOutput;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GameboyTest {
+
+    private static final File ROM = new File("src/test/resources/roms/blargg/cpu_instrs/01-special.gb");
+
+    private static final File HALT_ROM = new File("src/test/resources/roms/mooneye/acceptance/halt_ime0_ei.gb");
+
+    private static final File POLLING_ROM = new File("src/test/resources/roms/mooneye/acceptance/ppu/vblank_stat_intr-GS.gb");
+
+    private static final File DIV_POLLING_ROM = new File("src/test/resources/roms/mooneye/acceptance/div_timing.gb");
+
+    @Test
+    public void testInstructionStepMatchesTickStep() throws IOException {
+        Gameboy byInstruction = createGameboy(ROM);
+        Gameboy byTick = createGameboy(ROM);
+
+        for (int i = 0; i < 20_000; i++) {
+            int ticks = byInstruction.tickInstruction();
+            for (int j = 0; j < ticks; j++) {
+                byTick.tick();
+            }
+            assertRegistersEqual(byTick.getCpu().getRegisters(), byInstruction.getCpu().getRegisters());
+        }
+    }
+
+    @Test
+    public void testIdleSkipMatchesTickStep() throws IOException {
+        assertTrue(compareWithTickStep(HALT_ROM, singletonList("disable-idle-loop-skipping"), 100_000) > 0);
+    }
+
+    @Test
+    public void testIdleLoopSkipMatchesTickStep() throws IOException {
+        assertTrue(compareWithTickStep(POLLING_ROM, emptyList(), 100_000) > 0);
+        assertTrue(compareWithTickStep(DIV_POLLING_ROM, emptyList(), 100_000) > 0);
+    }
+
+    @Test
+    public void testJitMatchesTickStep() throws IOException {
+        Gameboy gb = createGameboy(ROM, singletonList("jit"));
+        compareWithTickStep(gb, ROM, 200_000);
+        assertTrue(gb.getBlockCache().get().getCompiled() > 0);
+        assertTrue(gb.getBlockCache().get().getHits() > 0);
+    }
+
+    @Test
+    public void testInstructionTicks() throws IOException {
+        Gameboy gb = createGameboy(ROM);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, gb.tickInstruction() % 4);
+        }
+    }
+
+    // returns the number of steps longer than any instruction, including the interrupt dispatch
+    private static int compareWithTickStep(File rom, Collection<String> params, int instructions) throws IOException {
+        return compareWithTickStep(createGameboy(rom, params), rom, instructions);
+    }
+
+    private static int compareWithTickStep(Gameboy byInstruction, File rom, int instructions) throws IOException {
+        Gameboy byTick = createGameboy(rom, emptyList());
+
+        int skips = 0;
+        for (int i = 0; i < instructions; i++) {
+            int ticks = byInstruction.tickInstruction();
+            if (ticks > 44) {
+                skips++;
+            }
+            for (int j = 0; j < ticks; j++) {
+                byTick.tick();
+            }
+            assertRegistersEqual(byTick.getCpu().getRegisters(), byInstruction.getCpu().getRegisters());
+            for (int address : new int[]{0xff04, 0xff05, 0xff0f, 0xff41, 0xff44}) {
+                assertEquals(byTick.getAddressSpace().getByte(address), byInstruction.getAddressSpace().getByte(address));
+            }
+        }
+        return skips;
+    }
+
+    private static Gameboy createGameboy(File rom) throws IOException {
+        return createGameboy(rom, emptyList());
+    }
+
+    private static Gameboy createGameboy(File rom, Collection<String> params) throws IOException {
+        GameboyOptions options = new GameboyOptions(rom, params, emptyList());
+        return new Gameboy(options, new Cartridge(options), Display.NULL_DISPLAY, Controller.NULL_CONTROLLER, SoundOutput.NULL_OUTPUT, SerialEndpoint.NULL_ENDPOINT);
+    }
+
+    private static void assertRegistersEqual(Registers expected, Registers actual) {
+        assertEquals(expected.toString(), actual.toString());
+    }
+}
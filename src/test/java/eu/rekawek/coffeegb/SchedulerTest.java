@@ -0,0 +1,90 @@
+package eu.rekawek.coffeegb;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SchedulerTest {
+
+    private Scheduler scheduler;
+
+    private List<String> fired;
+
+    @Before
+    public void createScheduler() {
+        scheduler = new Scheduler();
+        fired = new ArrayList<>();
+    }
+
+    @Test
+    public void testEventFiresAtDeadline() {
+        Scheduler.Event event = scheduler.createEvent(() -> fired.add("a:" + scheduler.getTick()));
+        event.schedule(3);
+        assertTrue(event.isScheduled());
+        tick(5);
+        assertEquals(asList("a:3"), fired);
+        assertFalse(event.isScheduled());
+    }
+
+    @Test
+    public void testEventsFireInRegistrationOrder() {
+        Scheduler.Event a = scheduler.createEvent(() -> fired.add("a"));
+        Scheduler.Event b = scheduler.createEvent(() -> fired.add("b"));
+        b.schedule(2);
+        a.schedule(2);
+        tick(2);
+        assertEquals(asList("a", "b"), fired);
+    }
+
+    @Test
+    public void testCancelledEventDoesntFire() {
+        Scheduler.Event event = scheduler.createEvent(() -> fired.add("a"));
+        event.schedule(2);
+        event.cancel();
+        tick(10);
+        assertEquals(0, fired.size());
+    }
+
+    @Test
+    public void testEventCanReschedule() {
+        Scheduler.Event[] event = new Scheduler.Event[1];
+        event[0] = scheduler.createEvent(() -> {
+            fired.add("a:" + scheduler.getTick());
+            event[0].schedule(4);
+        });
+        event[0].schedule(1);
+        tick(10);
+        assertEquals(asList("a:1", "a:5", "a:9"), fired);
+    }
+
+    @Test
+    public void testTicksToNextEvent() {
+        Scheduler.Event a = scheduler.createEvent(() -> {});
+        Scheduler.Event b = scheduler.createEvent(() -> {});
+        assertEquals(Long.MAX_VALUE, scheduler.getTicksToNextEvent());
+        a.schedule(10);
+        b.schedule(4);
+        tick(1);
+        assertEquals(3, scheduler.getTicksToNextEvent());
+        b.cancel();
+        assertEquals(9, scheduler.getTicksToNextEvent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEventCantBeScheduledInThePast() {
+        scheduler.createEvent(() -> {}).schedule(0);
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            scheduler.tick();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package eu.rekawek.coffeegb.cpu;
+
+import eu.rekawek.coffeegb.cpu.op.DataType;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class FlagsTest {
+
+    private static final String[] UNARY = {"INC", "DEC", "DAA", "CPL", "SCF", "CCF", "RLC", "RRC", "RL", "RR", "SLA", "SRA", "SWAP", "SRL"};
+
+    private static final String[] BINARY = {"ADD", "ADC", "SUB", "SBC", "AND", "OR", "XOR", "CP"};
+
+    private final AluFunctions alu = new AluFunctions();
+
+    private final Random random = new Random(0);
+
+    @Test
+    public void testLazyFlagsMatchEager() {
+        Flags eager = new Flags(false);
+        Flags lazy = new Flags(true);
+        for (int i = 0; i < 100_000; i++) {
+            int arg1 = random.nextInt(0x100);
+            int arg2 = random.nextInt(0x100);
+            String label;
+            switch (random.nextInt(5)) {
+                case 0:
+                    label = UNARY[random.nextInt(UNARY.length)];
+                    AluFunctions.IntRegistryFunction f = alu.findAluFunction(label, DataType.D8);
+                    assertEquals(label, f.apply(eager, arg1), f.apply(lazy, arg1));
+                    break;
+
+                case 1:
+                    label = "ADD HL";
+                    arg1 = random.nextInt(0x10000);
+                    arg2 = random.nextInt(0x10000);
+                    AluFunctions.BiIntRegistryFunction addWord = alu.findAluFunction("ADD", DataType.D16, DataType.D16);
+                    assertEquals(label, addWord.apply(eager, arg1, arg2), addWord.apply(lazy, arg1, arg2));
+                    break;
+
+                case 2:
+                    label = "ADD SP";
+                    arg1 = random.nextInt(0x10000);
+                    arg2 = BitUtils.toSigned(arg2);
+                    AluFunctions.BiIntRegistryFunction addSp = alu.findAluFunction("ADD_SP", DataType.D16, DataType.R8);
+                    assertEquals(label, addSp.apply(eager, arg1, arg2), addSp.apply(lazy, arg1, arg2));
+                    break;
+
+                default:
+                    label = BINARY[random.nextInt(BINARY.length)];
+                    AluFunctions.BiIntRegistryFunction g = alu.findAluFunction(label, DataType.D8, DataType.D8);
+                    assertEquals(label, g.apply(eager, arg1, arg2), g.apply(lazy, arg1, arg2));
+                    break;
+            }
+            if (random.nextInt(4) == 0) {
+                assertEquals(label, eager.getFlagsByte(), lazy.getFlagsByte());
+            }
+        }
+        assertEquals(eager.getFlagsByte(), lazy.getFlagsByte());
+    }
+
+    @Test
+    public void testSetFlagsByteDropsPendingOperation() {
+        Flags flags = new Flags(true);
+        flags.setAddFlags(0xff, 0x01, 0);
+        flags.setFlagsByte(0x50);
+        assertEquals(0x50, flags.getFlagsByte());
+    }
+}
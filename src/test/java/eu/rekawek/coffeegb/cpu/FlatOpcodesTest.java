@@ -0,0 +1,136 @@
+package eu.rekawek.coffeegb.cpu;
+
+import eu.rekawek.coffeegb.AddressSpace;
+import eu.rekawek.coffeegb.cpu.opcode.Opcode;
+import eu.rekawek.coffeegb.gpu.Display;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class FlatOpcodesTest {
+
+    private static final int OFFSET = 0x100;
+
+    private static final int TRIALS = 5;
+
+    private final Random random = new Random(0);
+
+    private final int[] initialMemory = new int[0x10000];
+
+    @Test
+    public void testFlatInterpreterMatchesOps() {
+        for (Opcode o : Opcodes.COMMANDS) {
+            if (o != null && o.getOpcode() != 0x10 && o.getOpcode() != 0x76) {
+                for (int i = 0; i < TRIALS; i++) {
+                    compare(o.toString(), o.getOpcode(), random.nextInt(0x100), random.nextInt(0x100));
+                }
+            }
+        }
+        for (Opcode o : Opcodes.EXT_COMMANDS) {
+            if (o != null) {
+                for (int i = 0; i < TRIALS; i++) {
+                    compare(o.toString(), 0xcb, o.getOpcode(), random.nextInt(0x100));
+                }
+            }
+        }
+    }
+
+    private void compare(String label, int... opcode) {
+        for (int i = 0; i < initialMemory.length; i++) {
+            initialMemory[i] = random.nextInt(0x100);
+        }
+        System.arraycopy(opcode, 0, initialMemory, OFFSET, opcode.length);
+        int af = random.nextInt(0x10000) & 0xfff0;
+        int[] words = new int[4];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = randomAddress();
+        }
+        boolean ime = random.nextBoolean();
+
+        TestCpu expected = new TestCpu(false, af, words, ime);
+        TestCpu actual = new TestCpu(true, af, words, ime);
+        expected.runInstruction();
+        actual.runInstruction();
+
+        assertEquals(label, expected.memory.log, actual.memory.log);
+        assertEquals(label, expected.cpu.getRegisters().toString(), actual.cpu.getRegisters().toString());
+        assertEquals(label, expected.interruptManager.isIme(), actual.interruptManager.isIme());
+    }
+
+    // the addresses shouldn't point to the OAM as there's no GPU to handle the sprite bug
+    private int randomAddress() {
+        int address;
+        do {
+            address = random.nextInt(0x10000);
+        } while (address >= 0xfd00);
+        return address;
+    }
+
+    private class TestCpu {
+
+        private final LoggingMemory memory = new LoggingMemory(initialMemory);
+
+        private final InterruptManager interruptManager = new InterruptManager(false);
+
+        private final Cpu cpu;
+
+        private TestCpu(boolean flatInterpreter, int af, int[] words, boolean ime) {
+            cpu = new Cpu(memory, interruptManager, null, Display.NULL_DISPLAY, new SpeedMode(), flatInterpreter);
+            Registers r = cpu.getRegisters();
+            r.setAF(af);
+            r.setBC(words[0]);
+            r.setDE(words[1]);
+            r.setHL(words[2]);
+            r.setSP(words[3]);
+            r.setPC(OFFSET);
+            if (ime) {
+                interruptManager.enableInterrupts(false);
+            }
+        }
+
+        private void runInstruction() {
+            int ticks = 0;
+            do {
+                cpu.tick();
+                memory.tick = ++ticks;
+            } while (cpu.getState() != Cpu.State.OPCODE || ticks < 4);
+            interruptManager.onInstructionFinished();
+            interruptManager.onInstructionFinished();
+        }
+    }
+
+    private static class LoggingMemory implements AddressSpace {
+
+        private final int[] memory;
+
+        private final List<String> log = new ArrayList<>();
+
+        private int tick;
+
+        private LoggingMemory(int[] memory) {
+            this.memory = Arrays.copyOf(memory, memory.length);
+        }
+
+        @Override
+        public boolean accepts(int address) {
+            return true;
+        }
+
+        @Override
+        public void setByte(int address, int value) {
+            log.add(String.format("%d: %04x <- %02x", tick, address, value));
+            memory[address] = value;
+        }
+
+        @Override
+        public int getByte(int address) {
+            log.add(String.format("%d: %04x -> %02x", tick, address, memory[address]));
+            return memory[address];
+        }
+    }
+}
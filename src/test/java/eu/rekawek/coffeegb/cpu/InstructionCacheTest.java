@@ -0,0 +1,81 @@
+package eu.rekawek.coffeegb.cpu;
+
+import eu.rekawek.coffeegb.GameboyOptions;
+import eu.rekawek.coffeegb.memory.Mmu;
+import eu.rekawek.coffeegb.memory.Ram;
+import eu.rekawek.coffeegb.memory.cart.Cartridge;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class InstructionCacheTest {
+
+    private static final File ROM = new File("src/test/resources/roms/mooneye/emulator-only/mbc1/rom_1Mb.gb");
+
+    private Mmu mmu;
+
+    private InstructionCache cache;
+
+    @Before
+    public void createCache() throws IOException {
+        GameboyOptions options = new GameboyOptions(ROM, Collections.singletonList("disable-battery-saves"), Collections.emptyList());
+        Cartridge cartridge = new Cartridge(options);
+        mmu = new Mmu();
+        mmu.addAddressSpace(cartridge);
+        mmu.addAddressSpace(new Ram(0xc000, 0x2000));
+        mmu.indexSpaces();
+        cache = new InstructionCache(mmu, cartridge);
+        mmu.addWriteListener(cache::onMemoryWrite);
+    }
+
+    @Test
+    public void testRamWriteInvalidatesInstruction() {
+        mmu.setByte(0xc000, 0x3e); // LD A,d8
+        mmu.setByte(0xc001, 0x12);
+        assertInstruction(0x3e, 0x12, cache.get(0xc000));
+
+        mmu.setByte(0xc001, 0x34);
+        assertInstruction(0x3e, 0x34, cache.get(0xc000));
+
+        mmu.setByte(0xc000, 0xcb); // SWAP A
+        mmu.setByte(0xc001, 0x37);
+        DecodedInstruction swap = cache.get(0xc000);
+        assertEquals(0xcb, swap.getOpcode1());
+        assertEquals(0x37, swap.getOpcode2());
+        assertEquals(2, swap.getLength());
+    }
+
+    @Test
+    public void testInstructionsAreKeptPerBank() {
+        DecodedInstruction bank1 = cache.get(0x4000);
+        assertEquals(mmu.getByte(0x4000), bank1.getOpcode1());
+
+        for (int bank = 2; bank < 4; bank++) {
+            mmu.setByte(0x2000, bank);
+            assertEquals(mmu.getByte(0x4000), cache.get(0x4000).getOpcode1());
+        }
+
+        mmu.setByte(0x2000, 1);
+        assertEquals(bank1, cache.get(0x4000));
+    }
+
+    @Test
+    public void testUncachedRegions() {
+        assertNull(cache.get(0x8000));
+        assertNull(cache.get(0xff00));
+        mmu.setByte(0xcfff, 0xcb);
+        assertNull(cache.get(0xcfff));
+    }
+
+    private static void assertInstruction(int opcode, int operand, DecodedInstruction instruction) {
+        assertEquals(opcode, instruction.getOpcode1());
+        assertEquals(opcode, instruction.getOpcode().getOpcode());
+        assertEquals(operand, instruction.getOperand(0));
+    }
+}
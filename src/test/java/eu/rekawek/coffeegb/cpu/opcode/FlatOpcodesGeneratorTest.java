@@ -0,0 +1,18 @@
+package eu.rekawek.coffeegb.cpu.opcode;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+
+public class FlatOpcodesGeneratorTest {
+
+    @Test
+    public void testGeneratedCodeIsUpToDate() throws IOException {
+        String existing = new String(Files.readAllBytes(FlatOpcodesGenerator.OUTPUT.toPath()), StandardCharsets.UTF_8);
+        assertEquals("FlatOpcodes.java is outdated, run FlatOpcodesGenerator", FlatOpcodesGenerator.generate(), existing);
+    }
+}
@@ -0,0 +1,47 @@
+package eu.rekawek.coffeegb.gpu;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FrameExchangeTest {
+
+    private final FrameExchange exchange = new FrameExchange(false);
+
+    @Test
+    public void testTakesLatestFrame() {
+        exchange.publish(frame(1));
+        exchange.publish(frame(2));
+        assertEquals(2, exchange.take().getPixels()[0]);
+        assertEquals(1, exchange.getDroppedFrames());
+        assertEquals(0, exchange.getDuplicatedFrames());
+    }
+
+    @Test
+    public void testNoNewFrame() {
+        assertNull(exchange.take());
+        exchange.publish(frame(1));
+        assertEquals(1, exchange.take().getPixels()[0]);
+        assertNull(exchange.take());
+        assertEquals(2, exchange.getDuplicatedFrames());
+    }
+
+    @Test
+    public void testTakenFrameIsNotOverwritten() {
+        exchange.publish(frame(1));
+        FrameBuffer taken = exchange.take();
+        for (int i = 2; i < 10; i++) {
+            exchange.publish(frame(i));
+        }
+        assertEquals(1, taken.getPixels()[0]);
+        assertEquals(9, exchange.take().getPixels()[0]);
+        assertEquals(7, exchange.getDroppedFrames());
+    }
+
+    private static FrameBuffer frame(int pixel) {
+        FrameBuffer frameBuffer = new FrameBuffer(false);
+        frameBuffer.putPixel(pixel);
+        return frameBuffer;
+    }
+}
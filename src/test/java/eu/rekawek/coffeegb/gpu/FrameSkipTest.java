@@ -0,0 +1,79 @@
+package eu.rekawek.coffeegb.gpu;
+
+import eu.rekawek.coffeegb.Gameboy;
+import eu.rekawek.coffeegb.GameboyOptions;
+import eu.rekawek.coffeegb.controller.Controller;
+import eu.rekawek.coffeegb.memory.cart.Cartridge;
+import eu.rekawek.coffeegb.serial.SerialEndpoint;
+import eu.rekawek.coffeegb.sound.SoundOutput;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FrameSkipTest {
+
+    private static final File ROM = new File("src/test/resources/roms/mooneye/manual-only/sprite_priority.gb");
+
+    private static final int TICKS = 60 * 70224;
+
+    @Test
+    public void testSkippedFramesKeepTiming() throws IOException {
+        RecordingDisplay allFrames = new RecordingDisplay();
+        RecordingDisplay someFrames = new RecordingDisplay();
+        RecordingDisplay noFrames = new RecordingDisplay();
+        Gameboy all = run(allFrames, 1);
+        Gameboy some = run(someFrames, 3);
+        Gameboy none = run(noFrames, 0);
+
+        assertEquals(all.getCpu().getRegisters().toString(), some.getCpu().getRegisters().toString());
+        assertEquals(all.getCpu().getRegisters().toString(), none.getCpu().getRegisters().toString());
+
+        assertTrue(someFrames.frames.size() > 1);
+        assertTrue(someFrames.frames.size() * 2 < allFrames.frames.size());
+        for (int[] frame : someFrames.frames) {
+            assertTrue(allFrames.frames.stream().anyMatch(f -> Arrays.equals(f, frame)));
+        }
+        assertTrue(noFrames.frames.size() < someFrames.frames.size());
+    }
+
+    private static Gameboy run(Display display, int frameSkip) throws IOException {
+        GameboyOptions options = new GameboyOptions(ROM, singletonList("frame-skip=" + frameSkip), emptyList());
+        Gameboy gameboy = new Gameboy(options, new Cartridge(options), display, Controller.NULL_CONTROLLER, SoundOutput.NULL_OUTPUT, SerialEndpoint.NULL_ENDPOINT);
+        int ticks = 0;
+        while (ticks < TICKS) {
+            ticks += gameboy.tickInstruction();
+        }
+        return gameboy;
+    }
+
+    private static class RecordingDisplay implements Display {
+
+        private final List<int[]> frames = new ArrayList<>();
+
+        @Override
+        public void requestRefresh(FrameBuffer frameBuffer) {
+            frames.add(frameBuffer.getPixels().clone());
+        }
+
+        @Override
+        public void waitForRefresh() {
+        }
+
+        @Override
+        public void enableLcd() {
+        }
+
+        @Override
+        public void disableLcd() {
+        }
+    }
+}
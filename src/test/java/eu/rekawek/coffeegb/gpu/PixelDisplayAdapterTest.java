@@ -0,0 +1,61 @@
+package eu.rekawek.coffeegb.gpu;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class PixelDisplayAdapterTest {
+
+    @Test
+    public void testReplaysFrame() {
+        FrameBuffer frameBuffer = new FrameBuffer(false);
+        frameBuffer.startLine(1);
+        frameBuffer.putPixel(3);
+        frameBuffer.putPixel(2);
+
+        RecordingDisplay display = new RecordingDisplay();
+        new PixelDisplayAdapter(display).requestRefresh(frameBuffer);
+
+        assertEquals(FrameBuffer.WIDTH * FrameBuffer.HEIGHT, display.pixels.size());
+        assertEquals(3, (int) display.pixels.get(FrameBuffer.WIDTH));
+        assertEquals(2, (int) display.pixels.get(FrameBuffer.WIDTH + 1));
+        assertEquals(1, display.refreshes);
+    }
+
+    private static class RecordingDisplay implements PixelDisplay {
+
+        private final List<Integer> pixels = new ArrayList<>();
+
+        private int refreshes;
+
+        @Override
+        public void putDmgPixel(int color) {
+            pixels.add(color);
+        }
+
+        @Override
+        public void putColorPixel(int gbcRgb) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public void requestRefresh() {
+            refreshes++;
+        }
+
+        @Override
+        public void waitForRefresh() {
+        }
+
+        @Override
+        public void enableLcd() {
+        }
+
+        @Override
+        public void disableLcd() {
+        }
+    }
+}
@@ -19,7 +19,7 @@ public class PixelFifoTest {
     public void createFifo() {
         MemoryRegisters r = new MemoryRegisters(GpuRegister.values());
         r.put(GpuRegister.BGP, 0b11100100);
-        fifo = new DmgPixelFifo(Display.NULL_DISPLAY, new Lcdc(), r);
+        fifo = new DmgPixelFifo(new FrameBuffer(false), new Lcdc(), r);
     }
 
     @Test
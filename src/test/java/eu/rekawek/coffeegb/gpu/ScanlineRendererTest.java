@@ -0,0 +1,96 @@
+package eu.rekawek.coffeegb.gpu;
+
+import eu.rekawek.coffeegb.Gameboy;
+import eu.rekawek.coffeegb.GameboyOptions;
+import eu.rekawek.coffeegb.controller.Controller;
+import eu.rekawek.coffeegb.memory.cart.Cartridge;
+import eu.rekawek.coffeegb.serial.SerialEndpoint;
+import eu.rekawek.coffeegb.sound.SoundOutput;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ScanlineRendererTest {
+
+    private static final File SPRITE_ROM = new File("src/test/resources/roms/mooneye/manual-only/sprite_priority.gb");
+
+    private static final File TEXT_ROM = new File("src/test/resources/roms/blargg/cpu_instrs/01-special.gb");
+
+    private static final File SPRITE_TIMING_ROM = new File("src/test/resources/roms/mooneye/acceptance/ppu/intr_2_mode0_timing_sprites.gb");
+
+    private static final int TICKS = 60 * 70224;
+
+    @Test
+    public void testDmgMatchesPixelFifo() throws IOException {
+        compareWithPixelFifo(SPRITE_ROM, emptyList());
+        compareWithPixelFifo(TEXT_ROM, emptyList());
+        compareWithPixelFifo(SPRITE_TIMING_ROM, emptyList());
+    }
+
+    @Test
+    public void testCgbMatchesPixelFifo() throws IOException {
+        compareWithPixelFifo(SPRITE_ROM, Arrays.asList("force-cgb"));
+        compareWithPixelFifo(TEXT_ROM, Arrays.asList("force-cgb"));
+    }
+
+    private static void compareWithPixelFifo(File rom, Collection<String> params) throws IOException {
+        List<String> scanlineParams = new ArrayList<>(params);
+        scanlineParams.add("scanline-renderer");
+        RecordingDisplay fifoDisplay = new RecordingDisplay();
+        RecordingDisplay scanlineDisplay = new RecordingDisplay();
+        Gameboy fifo = createGameboy(rom, params, fifoDisplay);
+        Gameboy scanline = createGameboy(rom, scanlineParams, scanlineDisplay);
+        run(fifo);
+        run(scanline);
+        assertEquals(fifo.getCpu().getRegisters().toString(), scanline.getCpu().getRegisters().toString());
+        assertTrue(fifoDisplay.frames.size() > 1);
+        assertEquals(fifoDisplay.frames.size(), scanlineDisplay.frames.size());
+        for (int i = 0; i < fifoDisplay.frames.size(); i++) {
+            assertArrayEquals(rom.getName() + ", frame " + i, fifoDisplay.frames.get(i), scanlineDisplay.frames.get(i));
+        }
+    }
+
+    private static void run(Gameboy gameboy) {
+        int ticks = 0;
+        while (ticks < TICKS) {
+            ticks += gameboy.tickInstruction();
+        }
+    }
+
+    private static Gameboy createGameboy(File rom, Collection<String> params, Display display) throws IOException {
+        GameboyOptions options = new GameboyOptions(rom, params, emptyList());
+        return new Gameboy(options, new Cartridge(options), display, Controller.NULL_CONTROLLER, SoundOutput.NULL_OUTPUT, SerialEndpoint.NULL_ENDPOINT);
+    }
+
+    private static class RecordingDisplay implements Display {
+
+        private final List<int[]> frames = new ArrayList<>();
+
+        @Override
+        public void requestRefresh(FrameBuffer frameBuffer) {
+            frames.add(frameBuffer.getPixels().clone());
+        }
+
+        @Override
+        public void waitForRefresh() {
+        }
+
+        @Override
+        public void enableLcd() {
+        }
+
+        @Override
+        public void disableLcd() {
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package eu.rekawek.coffeegb.gpu;
+
+import eu.rekawek.coffeegb.Scheduler;
+import eu.rekawek.coffeegb.cpu.InterruptManager;
+import eu.rekawek.coffeegb.cpu.SpeedMode;
+import eu.rekawek.coffeegb.memory.Dma;
+import eu.rekawek.coffeegb.memory.Mmu;
+import eu.rekawek.coffeegb.memory.Ram;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class TileCacheTest {
+
+    private Gpu gpu;
+
+    private TileCache tileCache;
+
+    @Before
+    public void createGpu() {
+        Ram oamRam = new Ram(0xfe00, 0x00a0);
+        Dma dma = new Dma(new Mmu(), oamRam, new SpeedMode(), new Scheduler());
+        gpu = new Gpu(Display.NULL_DISPLAY, new InterruptManager(true), dma, oamRam, true);
+        tileCache = gpu.getTileCache();
+    }
+
+    @Test
+    public void testDecodedLine() {
+        gpu.setByte(0x8012, 0b11001001);
+        gpu.setByte(0x8013, 0b11110000);
+        assertArrayEquals(new int[] {3, 3, 2, 2, 1, 0, 0, 1}, tileCache.getLine(0, 0x8012, false));
+        assertArrayEquals(new int[] {1, 0, 0, 1, 2, 2, 3, 3}, tileCache.getLine(0, 0x8012, true));
+        assertArrayEquals(new int[8], tileCache.getLine(0, 0x8010, false));
+    }
+
+    @Test
+    public void testWriteInvalidatesTile() {
+        assertArrayEquals(new int[8], tileCache.getLine(0, 0x9000, false));
+        gpu.setByte(0x9000, 0xff);
+        assertArrayEquals(new int[] {1, 1, 1, 1, 1, 1, 1, 1}, tileCache.getLine(0, 0x9000, false));
+
+        gpu.writeBlock(0x9000, new byte[] {0, (byte) 0xff}, 0, 2);
+        assertArrayEquals(new int[] {2, 2, 2, 2, 2, 2, 2, 2}, tileCache.getLine(0, 0x9000, false));
+    }
+
+    @Test
+    public void testBanksAreSeparate() {
+        assertArrayEquals(new int[8], tileCache.getLine(1, 0x8000, false));
+        gpu.setByte(0xff4f, 1);
+        gpu.setByte(0x8000, 0x80);
+        assertArrayEquals(new int[] {1, 0, 0, 0, 0, 0, 0, 0}, tileCache.getLine(1, 0x8000, false));
+        assertArrayEquals(new int[8], tileCache.getLine(0, 0x8000, false));
+    }
+}
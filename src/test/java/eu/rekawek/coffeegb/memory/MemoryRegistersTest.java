@@ -0,0 +1,60 @@
+package eu.rekawek.coffeegb.memory;
+
+import eu.rekawek.coffeegb.gpu.GpuRegister;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MemoryRegistersTest {
+
+    private MemoryRegisters registers;
+
+    @Before
+    public void createRegisters() {
+        registers = new MemoryRegisters(GpuRegister.values());
+    }
+
+    @Test
+    public void testAccepts() {
+        for (GpuRegister r : GpuRegister.values()) {
+            assertTrue(registers.accepts(r.getAddress()));
+        }
+        assertFalse(registers.accepts(0xff40));
+        assertFalse(registers.accepts(0xff46));
+        assertFalse(registers.accepts(0xff50));
+    }
+
+    @Test
+    public void testPermissions() {
+        registers.setByte(GpuRegister.SCX.getAddress(), 0x12);
+        assertEquals(0x12, registers.getByte(GpuRegister.SCX.getAddress()));
+
+        registers.setByte(GpuRegister.LY.getAddress(), 0x34);
+        assertEquals(0, registers.getByte(GpuRegister.LY.getAddress()));
+
+        registers.setByte(GpuRegister.VBK.getAddress(), 0x01);
+        assertEquals(0xff, registers.getByte(GpuRegister.VBK.getAddress()));
+        assertEquals(0x01, registers.get(GpuRegister.VBK));
+    }
+
+    @Test
+    public void testFreeze() {
+        registers.put(GpuRegister.LY, 10);
+        MemoryRegisters frozen = registers.freeze();
+        assertEquals(11, registers.preIncrement(GpuRegister.LY));
+        assertEquals(10, frozen.get(GpuRegister.LY));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testFrozenIsReadOnly() {
+        registers.freeze().put(GpuRegister.LY, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicatedAddress() {
+        new MemoryRegisters(GpuRegister.LY, GpuRegister.LY);
+    }
+}
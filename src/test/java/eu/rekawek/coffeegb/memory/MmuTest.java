@@ -0,0 +1,117 @@
+package eu.rekawek.coffeegb.memory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class MmuTest {
+
+    private Mmu mmu;
+
+    @Before
+    public void createMmu() {
+        mmu = new Mmu();
+        mmu.addAddressSpace(new Ram(0xc000, 0x1000));
+        mmu.addAddressSpace(new Ram(0xff80, 0x7f));
+        mmu.addAddressSpace(new Ram(0xff10, 0x04));
+        mmu.addAddressSpace(new Ram(0xc000, 0x2000));
+    }
+
+    @Test
+    public void testIndexedLookupMatchesLinearScan() {
+        Mmu linear = new Mmu();
+        linear.addAddressSpace(new Ram(0xc000, 0x1000));
+        linear.addAddressSpace(new Ram(0xff80, 0x7f));
+        linear.addAddressSpace(new Ram(0xff10, 0x04));
+        linear.addAddressSpace(new Ram(0xc000, 0x2000));
+        mmu.indexSpaces();
+
+        for (int i = 0; i <= 0xffff; i++) {
+            int value = i & 0xff;
+            mmu.setByte(i, value);
+            linear.setByte(i, value);
+        }
+        for (int i = 0; i <= 0xffff; i++) {
+            assertEquals("Invalid value at " + Integer.toHexString(i), linear.getByte(i), mmu.getByte(i));
+        }
+    }
+
+    @Test
+    public void testRegisterPage() {
+        mmu.indexSpaces();
+        mmu.setByte(0xff10, 0x12);
+        mmu.setByte(0xff13, 0x34);
+        mmu.setByte(0xff14, 0x56);
+        mmu.setByte(0xff80, 0x78);
+        mmu.setByte(0xffff, 0x9a);
+
+        assertEquals(0x12, mmu.getByte(0xff10));
+        assertEquals(0x34, mmu.getByte(0xff13));
+        assertEquals(0xff, mmu.getByte(0xff14));
+        assertEquals(0x78, mmu.getByte(0xff80));
+        assertEquals(0xff, mmu.getByte(0xffff));
+    }
+
+    @Test
+    public void testFirstSpaceWins() {
+        mmu.indexSpaces();
+        mmu.setByte(0xc123, 0x42);
+        mmu.setByte(0xd123, 0x43);
+
+        assertEquals(0x42, mmu.getByte(0xc123));
+        assertEquals(0x43, mmu.getByte(0xd123));
+    }
+
+    @Test
+    public void testAddingSpaceInvalidatesIndex() {
+        mmu.indexSpaces();
+        mmu.addAddressSpace(new Ram(0x8000, 0x2000));
+        mmu.setByte(0x8000, 0x11);
+
+        assertEquals(0x11, mmu.getByte(0x8000));
+    }
+
+    @Test
+    public void testBlockTransferMatchesSingleBytes() {
+        mmu.indexSpaces();
+        byte[] block = new byte[0x100];
+        for (int i = 0; i < block.length; i++) {
+            block[i] = (byte) (0xff - i);
+        }
+        mmu.writeBlock(0xff00, block, 0, block.length);
+        mmu.writeBlock(0xcff0, block, 0x10, 0x20);
+
+        byte[] expected = new byte[0x100];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) mmu.getByte(0xff00 + i);
+        }
+        byte[] actual = new byte[0x100];
+        mmu.readBlock(0xff00, actual, 0, actual.length);
+        assertArrayEquals(expected, actual);
+
+        for (int i = 0; i < 0x20; i++) {
+            assertEquals(0xef - i, mmu.getByte(0xcff0 + i));
+        }
+    }
+
+    @Test
+    public void testWriteBlockNotifiesListeners() {
+        mmu.indexSpaces();
+        List<Integer> written = new ArrayList<>();
+        mmu.addWriteListener(written::add);
+        mmu.writeBlock(0xc010, new byte[3], 0, 3);
+
+        assertEquals(3, written.size());
+        assertEquals(0xc012, (int) written.get(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBlockOutsideAddressSpace() {
+        mmu.readBlock(0xfff0, new byte[0x20], 0, 0x20);
+    }
+}
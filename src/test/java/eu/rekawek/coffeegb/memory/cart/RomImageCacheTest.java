@@ -0,0 +1,56 @@
+package eu.rekawek.coffeegb.memory.cart;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RomImageCacheTest {
+
+    private static final File ROM = new File("src/test/resources/roms/mooneye/emulator-only/mbc1/rom_1Mb.gb");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSameFileIsShared() throws IOException {
+        ByteBuffer image = RomImageCache.load(ROM);
+        assertTrue(image.isReadOnly());
+        assertEquals(ROM.length(), image.capacity());
+        assertSame(image, RomImageCache.load(ROM));
+    }
+
+    @Test
+    public void testIdenticalContentIsShared() throws IOException {
+        File copy = folder.newFile("copy.gb");
+        FileUtils.copyFile(ROM, copy);
+        assertSame(RomImageCache.load(ROM), RomImageCache.load(copy));
+    }
+
+    @Test
+    public void testZipIsInflated() throws IOException {
+        File zip = folder.newFile("rom.zip");
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zip))) {
+            zos.putNextEntry(new ZipEntry("readme.txt"));
+            zos.write("test".getBytes());
+            zos.closeEntry();
+            zos.putNextEntry(new ZipEntry("rom.gb"));
+            FileUtils.copyFile(ROM, zos);
+            zos.closeEntry();
+        }
+        ByteBuffer image = RomImageCache.load(zip);
+        assertSame(image, RomImageCache.load(zip));
+        assertSame(RomImageCache.load(ROM), image);
+    }
+}
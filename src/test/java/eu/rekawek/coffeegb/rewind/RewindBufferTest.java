@@ -0,0 +1,147 @@
+package eu.rekawek.coffeegb.rewind;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RewindBufferTest {
+
+    private static final int SIZE = 1000;
+
+    @Test
+    public void testEncodeDecode() {
+        Random random = new Random(1);
+        byte[] reference = new byte[SIZE];
+        random.nextBytes(reference);
+        byte[] state = reference.clone();
+        for (int i = 0; i < 50; i++) {
+            state[random.nextInt(SIZE)] ^= 1 + random.nextInt(255);
+        }
+        state[0] ^= 1;
+        state[SIZE - 1] ^= 1;
+
+        byte[] encoded = new byte[RewindBuffer.getMaxEncodedSize(SIZE)];
+        int length = RewindBuffer.encode(reference, state, SIZE, encoded);
+        assertTrue(length < SIZE / 4);
+
+        byte[] decoded = new byte[SIZE];
+        RewindBuffer.decode(reference, encoded, 0, decoded, SIZE);
+        assertArrayEquals(state, decoded);
+    }
+
+    @Test
+    public void testWorstCaseEncoding() {
+        byte[] reference = new byte[SIZE];
+        byte[] state = new byte[SIZE];
+        for (int i = 0; i < SIZE; i += 5) {
+            state[i] = 1;
+        }
+        byte[] encoded = new byte[RewindBuffer.getMaxEncodedSize(SIZE)];
+        int length = RewindBuffer.encode(reference, state, SIZE, encoded);
+        assertTrue(length <= encoded.length);
+
+        byte[] decoded = new byte[SIZE];
+        RewindBuffer.decode(reference, encoded, 0, decoded, SIZE);
+        assertArrayEquals(state, decoded);
+    }
+
+    @Test
+    public void testRemoveLast() {
+        RewindBuffer buffer = new RewindBuffer(SIZE, 100, 7, 1 << 20);
+        byte[][] states = createStates(50);
+        for (byte[] s : states) {
+            buffer.add(s);
+        }
+        byte[] decoded = new byte[SIZE];
+        for (int i = states.length - 1; i >= 0; i--) {
+            assertEquals(i + 1, buffer.getFrames());
+            assertTrue(buffer.getLast(decoded));
+            assertArrayEquals(states[i], decoded);
+            buffer.removeLast();
+        }
+        assertFalse(buffer.getLast(decoded));
+    }
+
+    @Test
+    public void testAddAfterRemove() {
+        RewindBuffer buffer = new RewindBuffer(SIZE, 100, 7, 1 << 20);
+        byte[][] states = createStates(30);
+        for (int i = 0; i < 20; i++) {
+            buffer.add(states[i]);
+        }
+        for (int i = 0; i < 13; i++) {
+            buffer.removeLast();
+        }
+        for (int i = 20; i < 30; i++) {
+            buffer.add(states[i]);
+        }
+        byte[] decoded = new byte[SIZE];
+        for (int i = 29; i >= 20; i--) {
+            buffer.getLast(decoded);
+            assertArrayEquals(states[i], decoded);
+            buffer.removeLast();
+        }
+        for (int i = 6; i >= 0; i--) {
+            buffer.getLast(decoded);
+            assertArrayEquals(states[i], decoded);
+            buffer.removeLast();
+        }
+    }
+
+    @Test
+    public void testOldestKeyframesAreEvicted() {
+        RewindBuffer buffer = new RewindBuffer(SIZE, 20, 5, 1 << 20);
+        byte[][] states = createStates(53);
+        for (byte[] s : states) {
+            buffer.add(s);
+        }
+        // 53 states are 11 groups, the last one with 3 states. 4 full groups still fit.
+        assertEquals(18, buffer.getFrames());
+        assertOldest(buffer, states[35]);
+    }
+
+    @Test
+    public void testCapacityIsRespected() {
+        int capacity = 3 * RewindBuffer.getMaxEncodedSize(SIZE);
+        RewindBuffer buffer = new RewindBuffer(SIZE, 1000, 10, capacity);
+        Random random = new Random(2);
+        byte[] state = new byte[SIZE];
+        for (int i = 0; i < 500; i++) {
+            random.nextBytes(state);
+            buffer.add(state);
+            assertTrue(buffer.getUsedBytes() <= capacity);
+            byte[] decoded = new byte[SIZE];
+            buffer.getLast(decoded);
+            assertArrayEquals(state, decoded);
+        }
+    }
+
+    private static void assertOldest(RewindBuffer buffer, byte[] expected) {
+        while (buffer.getFrames() > 1) {
+            buffer.removeLast();
+        }
+        byte[] decoded = new byte[SIZE];
+        buffer.getLast(decoded);
+        assertArrayEquals(expected, decoded);
+    }
+
+    // slowly changing states, as the consecutive frames
+    private static byte[][] createStates(int count) {
+        Random random = new Random(0);
+        byte[][] states = new byte[count][];
+        byte[] state = new byte[SIZE];
+        random.nextBytes(state);
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < 10; j++) {
+                state[random.nextInt(SIZE)] = (byte) random.nextInt();
+            }
+            states[i] = state.clone();
+        }
+        return states;
+    }
+}
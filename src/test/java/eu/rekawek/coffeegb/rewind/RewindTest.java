@@ -0,0 +1,100 @@
+package eu.rekawek.coffeegb.rewind;
+
+import eu.rekawek.coffeegb.Gameboy;
+import eu.rekawek.coffeegb.GameboyOptions;
+import eu.rekawek.coffeegb.controller.Controller;
+import eu.rekawek.coffeegb.gpu.Display;
+import eu.rekawek.coffeegb.gpu.Gpu;
+import eu.rekawek.coffeegb.memory.cart.Cartridge;
+import eu.rekawek.coffeegb.serial.SerialEndpoint;
+import eu.rekawek.coffeegb.sound.SoundOutput;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RewindTest {
+
+    private static final File ROM = new File("src/test/resources/roms/blargg/cpu_instrs/01-special.gb");
+
+    @Test
+    public void testStepBack() throws IOException {
+        Gameboy gb = createGameboy();
+        Rewind rewind = gb.getRewind().get();
+
+        runFrames(gb, 20);
+        ByteBuffer expected = save(gb);
+        runFrames(gb, 10);
+        assertEquals(30, rewind.getFrames());
+        assertTrue(rewind.stepBack(10));
+        assertEquals(20, rewind.getFrames());
+        assertArrayEquals(expected.array(), save(gb).array());
+
+        // the history continues from the restored frame
+        runFrames(gb, 5);
+        assertTrue(rewind.stepBack(5));
+        assertArrayEquals(expected.array(), save(gb).array());
+    }
+
+    @Test
+    public void testHistoryIsLimited() throws IOException {
+        Gameboy gb = createGameboy();
+        Rewind rewind = gb.getRewind().get();
+
+        runFrames(gb, 200);
+        assertEquals(0, rewind.getDroppedFrames());
+        assertTrue(rewind.getFrames() <= Rewind.FRAMES_PER_SECOND);
+        assertTrue(rewind.stepBack(1000));
+        assertEquals(1, rewind.getFrames());
+        assertFalse(rewind.stepBack(1));
+    }
+
+    @Test
+    public void testRewinding() throws IOException {
+        Gameboy gb = createGameboy();
+        Rewind rewind = gb.getRewind().get();
+
+        runFrames(gb, 10);
+        ByteBuffer expected = save(gb);
+        runFrames(gb, 5);
+        rewind.setRewinding(true);
+        runFrames(gb, 5);
+        rewind.setRewinding(false);
+        assertEquals(10, rewind.getFrames());
+        assertArrayEquals(expected.array(), save(gb).array());
+    }
+
+    // the same as Gameboy.run(), which notifies the rewind after the instruction starting the VBlank. The unthrottled
+    // emulation is faster than the compression, so it waits for it to not drop any frame.
+    private static void runFrames(Gameboy gb, int frames) {
+        for (int i = 0; i < frames; i++) {
+            while (gb.getGpu().getMode() == Gpu.Mode.VBlank) {
+                gb.tickInstruction();
+            }
+            while (gb.getGpu().getMode() != Gpu.Mode.VBlank) {
+                gb.tickInstruction();
+            }
+            gb.getRewind().get().onFrame();
+            gb.getRewind().get().getFrames();
+        }
+    }
+
+    private static ByteBuffer save(Gameboy gb) {
+        ByteBuffer buffer = gb.createStateBuffer();
+        gb.saveState(buffer);
+        return buffer;
+    }
+
+    private static Gameboy createGameboy() throws IOException {
+        GameboyOptions options = new GameboyOptions(ROM, singletonList("rewind=1"), emptyList());
+        return new Gameboy(options, new Cartridge(options), Display.NULL_DISPLAY, Controller.NULL_CONTROLLER, SoundOutput.NULL_OUTPUT, SerialEndpoint.NULL_ENDPOINT);
+    }
+}
@@ -0,0 +1,62 @@
+package eu.rekawek.coffeegb.sound;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BlepResamplerTest {
+
+    private static final int CLOCK_RATE = 4194304;
+
+    private static final int SAMPLE_RATE = 32768;
+
+    private final BlepResampler resampler = new BlepResampler(CLOCK_RATE, SAMPLE_RATE, 256);
+
+    private final short[] samples = new short[512];
+
+    @Test
+    public void testAvailableSamples() {
+        tick(10, 0, 0);
+        assertEquals(10, resampler.getAvailable());
+        assertEquals(4, resampler.read(samples, 4));
+        assertEquals(6, resampler.getAvailable());
+        assertEquals(6, resampler.read(samples, 100));
+        assertEquals(0, resampler.getAvailable());
+    }
+
+    @Test
+    public void testStep() {
+        tick(32, 1000, -1000);
+        assertEquals(32, resampler.read(samples, 32));
+
+        // nothing before the delayed step, the full step afterwards, slowly decaying by the high-pass filter
+        assertEquals(0, samples[0]);
+        assertEquals(0, samples[1]);
+        for (int i = 10; i < 32; i++) {
+            assertTrue(samples[i * 2] > 900 && samples[i * 2] < 1100);
+            assertTrue(samples[i * 2 + 1] < -900 && samples[i * 2 + 1] > -1100);
+        }
+    }
+
+    @Test
+    public void testSquareWaveAboveNyquistIsFiltered() {
+        // 1/8 of the clock rate is far above the output Nyquist frequency, so only the (slowly decaying) average
+        // should remain
+        for (int i = 0; i < 256 * CLOCK_RATE / SAMPLE_RATE; i++) {
+            int amplitude = (i / 4) % 2 == 0 ? 1000 : 0;
+            resampler.tick(amplitude, amplitude);
+        }
+        assertEquals(256, resampler.read(samples, 256));
+        for (int i = 20; i < 256; i++) {
+            assertTrue(Math.abs(samples[i * 2] - samples[i * 2 - 2]) < 20);
+        }
+        assertTrue(samples[40] > 400 && samples[40] < 550);
+    }
+
+    private void tick(int outputSamples, int left, int right) {
+        for (int i = 0; i < outputSamples * CLOCK_RATE / SAMPLE_RATE; i++) {
+            resampler.tick(left, right);
+        }
+    }
+}
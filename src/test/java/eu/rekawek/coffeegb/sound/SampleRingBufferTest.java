@@ -0,0 +1,56 @@
+package eu.rekawek.coffeegb.sound;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class SampleRingBufferTest {
+
+    @Test
+    public void testWrapAround() {
+        SampleRingBuffer ring = new SampleRingBuffer(4);
+        short[] out = new short[4];
+        ring.write(new short[] {1, 2, 3}, 3);
+        assertEquals(2, ring.read(out, 2));
+        ring.write(new short[] {4, 5, 6}, 3);
+        assertEquals(4, ring.available());
+        assertEquals(4, ring.read(out, 10));
+        assertArrayEquals(new short[] {3, 4, 5, 6}, out);
+        assertEquals(0, ring.read(out, 10));
+    }
+
+    @Test(timeout = 5000)
+    public void testProducerWaitsForConsumer() throws InterruptedException {
+        SampleRingBuffer ring = new SampleRingBuffer(16);
+        short[] samples = new short[1000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) i;
+        }
+        Thread producer = new Thread(() -> ring.write(samples, samples.length));
+        producer.start();
+
+        short[] out = new short[7];
+        int read = 0;
+        while (read < samples.length) {
+            int count = ring.read(out, out.length);
+            for (int i = 0; i < count; i++) {
+                assertEquals(read++, out[i]);
+            }
+        }
+        producer.join();
+    }
+
+    @Test(timeout = 5000)
+    public void testCloseReleasesProducer() throws InterruptedException {
+        SampleRingBuffer ring = new SampleRingBuffer(16);
+        Thread producer = new Thread(() -> ring.write(new short[100], 100));
+        producer.start();
+        while (ring.available() < 16) {
+            Thread.yield();
+        }
+        ring.close();
+        producer.join();
+        assertEquals(16, ring.available());
+    }
+}
@@ -0,0 +1,139 @@
+package eu.rekawek.coffeegb.sound;
+
+import eu.rekawek.coffeegb.Gameboy;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class SoundTest {
+
+    private static final int SAMPLE_RATE = 16384;
+
+    private RecordingOutput output;
+
+    private Sound sound;
+
+    @Before
+    public void createSound() {
+        output = new RecordingOutput();
+        sound = new Sound(output, false);
+    }
+
+    @Test
+    public void testSamplesArePassedInBlocks() {
+        sound.setByte(0xff26, 0x80);
+        for (int i = 0; i < Gameboy.TICKS_PER_SEC / 32; i++) {
+            sound.tick();
+        }
+        assertEquals(SAMPLE_RATE / 32 * 2, output.samples.size());
+        assertEquals(1, output.blocks);
+    }
+
+    @Test
+    public void testPendingSamplesAreFlushedOnStop() {
+        sound.setByte(0xff26, 0x80);
+        for (int i = 0; i < Gameboy.TICKS_PER_SEC / SAMPLE_RATE * 10; i++) {
+            sound.tick();
+        }
+        assertEquals(0, output.samples.size());
+        sound.setByte(0xff26, 0x00);
+        assertEquals(20, output.samples.size());
+    }
+
+    @Test
+    public void testCatchUpMatchesTickByTick() {
+        RecordingOutput tickByTickOutput = new RecordingOutput();
+        Sound tickByTick = new Sound(tickByTickOutput, false);
+        playChannels(sound);
+        playChannels(tickByTick);
+        for (int i = 0; i < Gameboy.TICKS_PER_SEC / 4; i++) {
+            sound.tick();
+            tickByTick.tick();
+            // reading a register synthesizes all the pending ticks
+            tickByTick.getByte(0xff26);
+        }
+        assertEquals(tickByTickOutput.samples.size(), output.samples.size());
+        assertEquals(tickByTickOutput.samples, output.samples);
+    }
+
+    @Test
+    public void testSilentModeKeepsRegisters() {
+        Sound silent = new Sound(SoundOutput.NULL_OUTPUT, false);
+        playChannels(sound);
+        playChannels(silent);
+        for (int i = 0; i < Gameboy.TICKS_PER_SEC / 2; i++) {
+            sound.tick();
+            silent.tick();
+            if (i % 997 == 0) {
+                for (int address = 0xff10; address < 0xff40; address++) {
+                    if (sound.accepts(address)) {
+                        assertEquals("tick " + i + ", " + Integer.toHexString(address), sound.getByte(address), silent.getByte(address));
+                    }
+                }
+            }
+        }
+        // channel 1 is stopped by the sweep overflow, the length of channel 2 expired
+        assertEquals(0xf0 | 0b1100, silent.getByte(0xff26));
+    }
+
+    private static void playChannels(Sound sound) {
+        sound.setByte(0xff26, 0x80);
+        sound.setByte(0xff24, 0x77);
+        sound.setByte(0xff25, 0xf3);
+        // square with sweep and decreasing envelope
+        sound.setByte(0xff10, 0x15);
+        sound.setByte(0xff11, 0x80);
+        sound.setByte(0xff12, 0xf3);
+        sound.setByte(0xff13, 0x00);
+        sound.setByte(0xff14, 0x86);
+        // square with length
+        sound.setByte(0xff16, 0x70);
+        sound.setByte(0xff17, 0x80);
+        sound.setByte(0xff18, 0x40);
+        sound.setByte(0xff19, 0xc7);
+        // wave
+        for (int i = 0; i < 0x10; i++) {
+            sound.setByte(0xff30 + i, i * 0x11);
+        }
+        sound.setByte(0xff1a, 0x80);
+        sound.setByte(0xff1c, 0x20);
+        sound.setByte(0xff1d, 0x00);
+        sound.setByte(0xff1e, 0x85);
+        // noise with increasing envelope
+        sound.setByte(0xff21, 0x19);
+        sound.setByte(0xff22, 0x35);
+        sound.setByte(0xff23, 0x80);
+    }
+
+    private static class RecordingOutput implements SoundOutput {
+
+        private final List<Short> samples = new ArrayList<>();
+
+        private int blocks;
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public int getSampleRate() {
+            return SAMPLE_RATE;
+        }
+
+        @Override
+        public void play(short[] buffer, int length) {
+            for (int i = 0; i < length; i++) {
+                samples.add(buffer[i]);
+            }
+            blocks++;
+        }
+    }
+}